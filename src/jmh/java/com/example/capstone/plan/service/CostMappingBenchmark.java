@@ -0,0 +1,47 @@
+package com.example.capstone.plan.service;
+
+import com.example.capstone.plan.dto.response.ScheduleCreateResDto.PlaceResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gemini 비용 응답 → 일정 장소 비용 반영 (이름 매칭 루프)
+ * - create: 날짜별 완전 일치 (ScheduleCreateService.applyEstimatedCosts)
+ * - recreate: 완전 일치 → 약한 포함 매칭 (ScheduleRecreateService.applyEstimatedCostsByName)
+ * - 픽스처 응답의 절반은 띄어쓰기가 다른 이름
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=CostMappingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CostMappingBenchmark {
+
+    private Map<String, List<PlaceResponse>> refinedMap;
+    private JsonNode costJson;
+
+    @Setup
+    public void setUp() {
+        refinedMap = PlanFixtures.refinedMap();
+        costJson = PlanFixtures.readTree("cost-response.json");
+    }
+
+    @Benchmark
+    public Map<String, List<PlaceResponse>> create() {
+        ScheduleCreateService.applyEstimatedCosts(refinedMap, costJson);
+        return refinedMap;
+    }
+
+    @Benchmark
+    public Map<String, List<PlaceResponse>> recreate() {
+        ScheduleRecreateService.applyEstimatedCostsByName(refinedMap, costJson);
+        return refinedMap;
+    }
+}
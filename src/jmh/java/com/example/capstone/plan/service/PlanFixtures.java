@@ -0,0 +1,116 @@
+package com.example.capstone.plan.service;
+
+import com.example.capstone.matching.entity.TravelStyle;
+import com.example.capstone.plan.dto.common.PlaceDetailDto;
+import com.example.capstone.plan.dto.request.ScheduleCreateReqDto;
+import com.example.capstone.plan.dto.response.ScheduleCreateResDto.PlaceResponse;
+import com.example.capstone.plan.entity.City;
+import com.example.capstone.plan.entity.PeopleGroup;
+import com.example.capstone.user.entity.MBTI;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 벤치마크 공용 픽스처 (src/jmh/resources/fixtures/plan)
+ * - gemini-create-response.json: generateContent 응답 원문 (코드펜스로 감싼 2박 3일 일정)
+ * - create-itinerary.json: 위 응답의 일정 JSON
+ * - cost-response.json: 비용 프롬프트 응답 (날짜 키, 절반은 띄어쓰기 다른 이름)
+ * - edit-places.json: 일정 수정/비용 응답 (places 배열)
+ * - refined-places.json: Kakao 정제 + 이동시간까지 채운 장소 (하루 7곳)
+ */
+public final class PlanFixtures {
+
+    public static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private PlanFixtures() {}
+
+    public static String read(String name) {
+        try (InputStream in = PlanFixtures.class.getResourceAsStream("/fixtures/plan/" + name)) {
+            if (in == null) throw new IllegalArgumentException("픽스처 없음: " + name);
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static JsonNode readTree(String name) {
+        try {
+            return OBJECT_MAPPER.readTree(read(name));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * refined-places.json 을 copies 번 이어 붙인 장소 목록 (일정 길이 조절용)
+     */
+    public static List<PlaceDetailDto> placeDetails(int copies) {
+        JsonNode places = readTree("refined-places.json");
+        List<PlaceDetailDto> result = new ArrayList<>();
+        for (int c = 0; c < copies; c++) {
+            for (JsonNode p : places) {
+                result.add(PlaceDetailDto.builder()
+                        .name(p.get("name").asText())
+                        .type(p.get("type").asText())
+                        .hashtag(p.get("hashtag").asText())
+                        .lat(p.get("lat").asDouble())
+                        .lng(p.get("lng").asDouble())
+                        .estimatedCost(p.get("estimatedCost").asInt())
+                        .walkTime(p.get("walkTime").asInt())
+                        .driveTime(p.get("driveTime").asInt())
+                        .transitTime(p.get("transitTime").asInt())
+                        .build());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * refined-places.json → 날짜별 PlaceResponse 맵 (비용 매핑 입력)
+     */
+    public static Map<String, List<PlaceResponse>> refinedMap() {
+        Map<String, List<PlaceResponse>> result = new LinkedHashMap<>();
+        for (JsonNode p : readTree("refined-places.json")) {
+            result.computeIfAbsent(p.get("date").asText(), date -> new ArrayList<>())
+                    .add(PlaceResponse.builder()
+                            .name(p.get("name").asText())
+                            .type(p.get("type").asText())
+                            .hashtag(p.get("hashtag").asText())
+                            .lat(p.get("lat").asDouble())
+                            .lng(p.get("lng").asDouble())
+                            .build());
+        }
+        return result;
+    }
+
+    public static ScheduleCreateReqDto createRequest(int nights) {
+        LocalDate start = LocalDate.of(2025, 8, 1);
+        return ScheduleCreateReqDto.builder()
+                .startDate(start)
+                .endDate(start.plusDays(nights))
+                .destination(City.JEJU_SI)
+                .mbti(MBTI.ENFP)
+                .travelStyle(TravelStyle.FOOD)
+                .peopleGroup(PeopleGroup.DUO)
+                .budget(800_000L)
+                .build();
+    }
+
+    /**
+     * 재생성 제외 목록: 기존 일정의 장소 이름
+     */
+    public static List<String> excludedNames(int count) {
+        List<PlaceDetailDto> places = placeDetails(count / 21 + 1);
+        return places.subList(0, count).stream().map(PlaceDetailDto::getName).toList();
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.capstone.plan.service;
+
+import com.example.capstone.plan.dto.common.PlaceDetailDto;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gemini 응답 처리 CPU 경로 (픽스처: src/jmh/resources/fixtures/plan)
+ * - extractJsonBlock: 코드펜스 제거 (정규식 4회)
+ * - doubleParse: 응답 원문 파싱 → text 추출 → extractJsonBlock → 일정 JSON 재파싱 (callGeminiAsJsonNode 경로)
+ * - extractPlacesFromGptJson / parseGptResponse: 일정·비용 JSON → DTO
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=PlanJsonBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlanJsonBenchmark {
+
+    private final ObjectMapper objectMapper = PlanFixtures.OBJECT_MAPPER;
+
+    private String geminiResponse;
+    private String fencedText;
+    private String itineraryJson;
+    private String editJson;
+    private List<PlaceDetailDto> editBase;
+    private ScheduleRefinerService refinerService;
+
+    @Setup
+    public void setUp() throws Exception {
+        geminiResponse = PlanFixtures.read("gemini-create-response.json");
+        fencedText = objectMapper.readTree(geminiResponse)
+                .path("candidates").path(0).path("content").path("parts").path(0).path("text").asText();
+        itineraryJson = PlanFixtures.read("create-itinerary.json");
+        editJson = PlanFixtures.read("edit-places.json");
+        editBase = PlanFixtures.placeDetails(1).subList(0, 7);
+        // JSON 변환만 사용하므로 Kakao/저장소 의존성은 비워 둠
+        refinerService = new ScheduleRefinerService(null, null, null, null, null);
+    }
+
+    @Benchmark
+    public String extractJsonBlock() {
+        return GeminiClient.extractJsonBlock(fencedText);
+    }
+
+    @Benchmark
+    public JsonNode doubleParse() throws Exception {
+        JsonNode root = objectMapper.readTree(geminiResponse);
+        String text = root.path("candidates").path(0).path("content").path("parts").path(0).path("text").asText(null);
+        return objectMapper.readTree(GeminiClient.extractJsonBlock(text));
+    }
+
+    @Benchmark
+    public Object extractPlacesFromGptJson() {
+        return refinerService.extractPlacesFromGptJson(itineraryJson);
+    }
+
+    @Benchmark
+    public Object parseGptResponse() throws Exception {
+        return refinerService.parseGptResponse(editJson, editBase);
+    }
+}
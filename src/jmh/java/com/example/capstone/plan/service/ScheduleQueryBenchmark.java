@@ -0,0 +1,50 @@
+package com.example.capstone.plan.service;
+
+import com.example.capstone.plan.dto.common.PlaceDetailDto;
+import com.example.capstone.plan.dto.response.ScheduleCreateResDto;
+import com.example.capstone.plan.entity.TravelSchedule;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 저장된 일정 조회 응답 조립 (ScheduleQueryService.convertToBlockStructure)
+ * - days: 일정 일수 (하루 7곳, refined-places.json 반복)
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=ScheduleQueryBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScheduleQueryBenchmark {
+
+    @Param({"3", "9"})
+    public int days;
+
+    private ScheduleQueryService queryService;
+    private List<PlaceDetailDto> places;
+    private TravelSchedule schedule;
+
+    @Setup
+    public void setUp() {
+        // 조립만 측정하므로 저장소 의존성은 비워 둠
+        queryService = new ScheduleQueryService(null, null);
+        places = PlanFixtures.placeDetails(days / 3);
+        LocalDate start = LocalDate.of(2025, 8, 1);
+        schedule = TravelSchedule.builder()
+                .title("제주시 " + (days - 1) + "박 " + days + "일 여행")
+                .startDate(start)
+                .endDate(start.plusDays(days - 1))
+                .build();
+    }
+
+    @Benchmark
+    public ScheduleCreateResDto convertToBlockStructure() {
+        return queryService.convertToBlockStructure(places, schedule);
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.capstone.util.gpt;
+
+import com.example.capstone.plan.dto.request.ScheduleCreateReqDto;
+import com.example.capstone.plan.service.PlanFixtures;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일정 생성/재생성 프롬프트 조립
+ * - nights: 일정 길이 (재생성 제외 목록은 기존 일정 전체 = 하루 7곳)
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=PromptBuilderBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PromptBuilderBenchmark {
+
+    @Param({"2", "6"})
+    public int nights;
+
+    private final GptCreatePromptBuilder createPromptBuilder = new GptCreatePromptBuilder();
+    private final GptRecreatePromptBuilder recreatePromptBuilder = new GptRecreatePromptBuilder();
+
+    private ScheduleCreateReqDto request;
+    private List<String> excludedNames;
+
+    @Setup
+    public void setUp() {
+        request = PlanFixtures.createRequest(nights);
+        excludedNames = PlanFixtures.excludedNames((nights + 1) * 7);
+    }
+
+    @Benchmark
+    public String create() {
+        return createPromptBuilder.build(request);
+    }
+
+    @Benchmark
+    public String recreate() {
+        return recreatePromptBuilder.build(request, excludedNames);
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.capstone.util.text;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비용 매핑 이름 매칭: 기존 방식(비교마다 정규식) vs PlaceNameMatcher(색인)
+ * - places: 일정의 장소 수, GPT 응답 항목 수도 동일하게 맞춤
+ * - 응답 이름의 절반은 완전 일치, 나머지는 지점명/띄어쓰기 차이(약한 일치)
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=PlaceNameMatcherBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlaceNameMatcherBenchmark {
+
+    private static final String[] PREFIXES = {"제주", "애월", "서귀포", "성산", "한림", "중문", "협재", "구좌"};
+    private static final String[] KINDS = {"흑돼지", "해장국", "고기국수", "갈치조림", "게스트하우스", "오름", "해수욕장", "카페"};
+
+    @Param({"7", "21", "70"})
+    public int places;
+
+    private List<String> placeNames;
+    private List<String> gptNames;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        placeNames = new ArrayList<>(places);
+        gptNames = new ArrayList<>(places);
+        for (int i = 0; i < places; i++) {
+            String name = PREFIXES[random.nextInt(PREFIXES.length)] + " " + KINDS[random.nextInt(KINDS.length)] + " " + i + "호점";
+            placeNames.add(name);
+            gptNames.add(i % 2 == 0 ? name : name.replace(" ", "").replace("호점", ""));
+        }
+    }
+
+    @Benchmark
+    public void legacyCreateExact(Blackhole bh) {
+        for (String gptName : gptNames) {
+            String gptNameKey = gptName.replaceAll("\\s+", "").toLowerCase();
+            for (String placeName : placeNames) {
+                String placeNameKey = placeName.replaceAll("\\s+", "").toLowerCase();
+                if (placeNameKey.equals(gptNameKey)) {
+                    bh.consume(placeName);
+                    break;
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void legacyRecreateWeak(Blackhole bh) {
+        for (String gptName : gptNames) {
+            String key = legacyNormalize(gptName);
+            Optional<String> exact = placeNames.stream()
+                    .filter(p -> legacyNormalize(p).equals(key))
+                    .findFirst();
+            if (exact.isPresent()) {
+                bh.consume(exact.get());
+                continue;
+            }
+            placeNames.stream()
+                    .filter(p -> legacyWeakEquals(p, gptName))
+                    .findFirst()
+                    .ifPresent(bh::consume);
+        }
+    }
+
+    @Benchmark
+    public void matcherExact(Blackhole bh) {
+        PlaceNameMatcher<String> matcher = PlaceNameMatcher.of(placeNames, name -> name);
+        for (String gptName : gptNames) {
+            bh.consume(matcher.findExact(gptName));
+        }
+    }
+
+    @Benchmark
+    public void matcherWeak(Blackhole bh) {
+        PlaceNameMatcher<String> matcher = PlaceNameMatcher.of(placeNames, name -> name);
+        for (String gptName : gptNames) {
+            bh.consume(matcher.find(gptName));
+        }
+    }
+
+    // ScheduleRecreateService 기존 구현
+    private static String legacyNormalize(String s) {
+        if (s == null) return "";
+        return s.replaceAll("[\\s\\p{Z}]+", "")
+                .replaceAll("[()\\[\\]{}·ㆍ・·••—–-]", "")
+                .toLowerCase();
+    }
+
+    private static boolean legacyWeakEquals(String a, String b) {
+        String na = legacyNormalize(a);
+        String nb = legacyNormalize(b);
+        return na.equals(nb) || na.contains(nb) || nb.contains(na);
+    }
+}
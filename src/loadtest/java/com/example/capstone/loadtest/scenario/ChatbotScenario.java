@@ -0,0 +1,47 @@
+package com.example.capstone.loadtest.scenario;
+
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * POST /chatbot/destination, /chatbot/gps
+ * - 도시 x 카테고리를 돌려가며 요청 (캐시 적중/미스가 섞이도록 도시 목록을 넓게)
+ * - 4번 중 1번은 GPS 기반 (제주 부근 좌표)
+ */
+class ChatbotScenario implements Scenario {
+
+    private static final List<String> CITIES = List.of(
+            "JEJU_SI", "SEOGWIPO_SI", "GANGNAM_GU", "JONGNO_GU", "MAPO_GU", "SUWON_SI",
+            "SEONGNAM_SI", "GOYANG_SI", "CHEONGJU_SI", "GAPYEONG_GUN", "PAJU_SI", "YONGSAN_GU");
+    private static final List<String> CATEGORIES = List.of("SPOT", "FESTIVAL", "FOOD", "HOTEL", "WEATHER");
+
+    @Override
+    public String name() {
+        return "chatbot";
+    }
+
+    @Override
+    public void call(LoadTestContext context, int worker, long iteration) throws Exception {
+        String category = CATEGORIES.get((int) (iteration % CATEGORIES.size()));
+        long slot = iteration / CATEGORIES.size() + worker;
+
+        if (iteration % 4 == 3) {
+            Map<String, Object> body = Map.of(
+                    "category", category,
+                    "latitude", 33.45 + (slot % 10) * 0.01,
+                    "longitude", 126.50 + (slot % 10) * 0.01);
+            Scenario.expectOk(context.httpClient.send(
+                    context.jsonPost("/chatbot/gps", context.users.get(worker), body).build(),
+                    HttpResponse.BodyHandlers.ofString()));
+            return;
+        }
+
+        Map<String, Object> body = Map.of(
+                "city", CITIES.get((int) (slot % CITIES.size())),
+                "category", category);
+        Scenario.expectOk(context.httpClient.send(
+                context.jsonPost("/chatbot/destination", context.users.get(worker), body).build(),
+                HttpResponse.BodyHandlers.ofString()));
+    }
+}
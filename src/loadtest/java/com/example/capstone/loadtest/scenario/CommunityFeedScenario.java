@@ -0,0 +1,32 @@
+package com.example.capstone.loadtest.scenario;
+
+import java.net.http.HttpResponse;
+import java.util.List;
+
+/**
+ * GET /community/post/list, /community/post/filter/list
+ * - 첫 페이지 위주 (5번 중 3번), 나머지는 뒤 페이지와 도시/제목 필터
+ */
+class CommunityFeedScenario implements Scenario {
+
+    private static final List<String> FILTERS = List.of(
+            "city=JEJU_SI", "city=SEOGWIPO_SI", "title=%EC%97%AC%ED%96%89", "city=GANGNAM_GU");
+
+    @Override
+    public String name() {
+        return "community-feed";
+    }
+
+    @Override
+    public void call(LoadTestContext context, int worker, long iteration) throws Exception {
+        int kind = (int) (iteration % 5);
+        String path = switch (kind) {
+            case 0, 1, 2 -> "/community/post/list?page=0&size=20";
+            case 3 -> "/community/post/list?page=" + (1 + iteration % 5) + "&size=20";
+            default -> "/community/post/filter/list?page=0&size=20&" + FILTERS.get((int) ((iteration / 5 + worker) % FILTERS.size()));
+        };
+        Scenario.expectOk(context.httpClient.send(
+                context.request(path, context.users.get(worker)).GET().build(),
+                HttpResponse.BodyHandlers.ofString()));
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.capstone.loadtest.scenario;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시나리오 하나의 호출 결과 수집 (작업 스레드별 버퍼 → 종료 후 합산)
+ * - 성공/실패 모두 지연 시간 기록, 실패는 원인별 건수 별도 집계
+ */
+class LatencyRecorder {
+
+    private static final class Buffer {
+        long[] nanos = new long[4096];
+        int size;
+    }
+
+    private final List<Buffer> allBuffers = new ArrayList<>();
+    private final ThreadLocal<Buffer> local = ThreadLocal.withInitial(this::newBuffer);
+    private final Map<String, AtomicLong> failures = new ConcurrentHashMap<>();
+    private volatile boolean recording;
+
+    private synchronized Buffer newBuffer() {
+        Buffer buffer = new Buffer();
+        allBuffers.add(buffer);
+        return buffer;
+    }
+
+    void start() {
+        recording = true;
+    }
+
+    void stop() {
+        recording = false;
+    }
+
+    void success(long nanos) {
+        if (!recording) return;
+        add(nanos);
+    }
+
+    void failure(long nanos, String reason) {
+        if (!recording) return;
+        add(nanos);
+        failures.computeIfAbsent(reason, r -> new AtomicLong()).incrementAndGet();
+    }
+
+    private void add(long nanos) {
+        Buffer buffer = local.get();
+        if (buffer.size == buffer.nanos.length) {
+            buffer.nanos = Arrays.copyOf(buffer.nanos, buffer.size * 2);
+        }
+        buffer.nanos[buffer.size++] = nanos;
+    }
+
+    synchronized Report report(String scenario, long elapsedNanos) {
+        int total = allBuffers.stream().mapToInt(b -> b.size).sum();
+        long[] all = new long[total];
+        int offset = 0;
+        for (Buffer buffer : allBuffers) {
+            System.arraycopy(buffer.nanos, 0, all, offset, buffer.size);
+            offset += buffer.size;
+        }
+        Arrays.sort(all);
+        long failed = failures.values().stream().mapToLong(AtomicLong::get).sum();
+        return new Report(scenario, total, failed, elapsedNanos,
+                percentile(all, 0.50), percentile(all, 0.90), percentile(all, 0.99),
+                total == 0 ? 0 : all[total - 1], Map.copyOf(failures));
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) return 0;
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    record Report(String scenario, long requests, long failures, long elapsedNanos,
+                  long p50, long p90, long p99, long max, Map<String, AtomicLong> failureReasons) {
+
+        double throughput() {
+            return elapsedNanos == 0 ? 0 : requests / (elapsedNanos / 1e9);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.capstone.loadtest.scenario;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 부하 테스트 공용 설정 + 테스트 사용자
+ * - 사용자는 실행마다 새로 가입 (임시 토큰을 jwt.secret 으로 직접 서명 → /auth/signup → 정식 토큰)
+ * - 작업 스레드 i 는 users.get(i) 사용
+ *
+ * 설정 (시스템 프로퍼티 loadtest.*)
+ * - target (기본 http://localhost:8080), scenario (schedule-create | chatbot | community-feed | stomp-chat | all)
+ * - concurrency, warmup, duration, request-timeout
+ * - jwt-secret (기본 환경 변수 JWT_SECRET, 앱과 같은 값)
+ */
+class LoadTestContext {
+
+    final String target = System.getProperty("loadtest.target", "http://localhost:8080");
+    final String scenario = System.getProperty("loadtest.scenario", "all");
+    final int concurrency = Integer.getInteger("loadtest.concurrency", 10);
+    final Duration warmup = Duration.ofSeconds(Long.getLong("loadtest.warmup", 10L));
+    final Duration duration = Duration.ofSeconds(Long.getLong("loadtest.duration", 60L));
+    final Duration requestTimeout = Duration.ofSeconds(Long.getLong("loadtest.request-timeout", 180L));
+    final String runId = Long.toString(System.currentTimeMillis(), 36);
+
+    final ObjectMapper objectMapper = new ObjectMapper();
+    final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+
+    final List<User> users = new ArrayList<>();
+
+    record User(String providerId, String nickname, String accessToken) {}
+
+    void signUpUsers(int count) throws IOException, InterruptedException {
+        String secret = System.getProperty("loadtest.jwt-secret", System.getenv("JWT_SECRET"));
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalStateException("loadtest.jwt-secret 또는 JWT_SECRET 이 필요합니다 (앱과 같은 값)");
+        }
+        SecretKey key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(secret));
+
+        for (int i = users.size(); i < count; i++) {
+            String providerId = "loadtest-" + runId + "-" + i;
+            String nickname = "lt" + runId + "n" + i;
+            String tempToken = Jwts.builder()
+                    .subject(providerId)
+                    .claim("email", providerId + "@loadtest.local")
+                    .claim("type", "TEMP")
+                    .issuedAt(new Date())
+                    .expiration(new Date(System.currentTimeMillis() + 10 * 60 * 1000))
+                    .signWith(key)
+                    .compact();
+
+            String boundary = "----loadtest" + UUID.randomUUID();
+            String userInfo = objectMapper.writeValueAsString(Map.of(
+                    "nickname", nickname, "gender", i % 2 == 0 ? "MALE" : "FEMALE", "age", 20 + i % 30, "mbti", "ENFP"));
+            String body = "--" + boundary + "\r\n"
+                    + "Content-Disposition: form-data; name=\"userInfo\"\r\n"
+                    + "Content-Type: application/json\r\n\r\n"
+                    + userInfo + "\r\n"
+                    + "--" + boundary + "--\r\n";
+
+            HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(URI.create(target + "/auth/signup"))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Authorization", "Bearer " + tempToken)
+                    .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                    .POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8))
+                    .build(), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("테스트 사용자 가입 실패 (" + response.statusCode() + "): " + response.body());
+            }
+            JsonNode json = objectMapper.readTree(response.body());
+            users.add(new User(providerId, nickname, json.path("accessToken").asText()));
+        }
+        System.out.printf("[부하 테스트] 테스트 사용자 %d명 준비 (run %s)%n", users.size(), runId);
+    }
+
+    HttpRequest.Builder request(String path, User user) {
+        return HttpRequest.newBuilder(URI.create(target + path))
+                .timeout(requestTimeout)
+                .header("Authorization", "Bearer " + user.accessToken());
+    }
+
+    HttpRequest.Builder jsonPost(String path, User user, Object body) throws IOException {
+        return request(path, user)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body), StandardCharsets.UTF_8));
+    }
+}
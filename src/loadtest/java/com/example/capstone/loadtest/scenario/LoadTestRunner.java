@@ -0,0 +1,113 @@
+package com.example.capstone.loadtest.scenario;
+
+import java.net.http.HttpTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 부하 테스트 실행 (./gradlew loadtest)
+ * - 앱: --spring.profiles.active=local,loadtest, 업스트림 대체 서버: ./gradlew loadtestStandIns
+ * - 시나리오마다 concurrency 개 작업 스레드가 닫힌 루프로 반복 호출, warmup 이후 duration 동안만 집계
+ * - 결과: 요청 수, 실패 수(원인별), 처리량(req/s), p50/p90/p99/max 지연 (ms)
+ *
+ * 예) ./gradlew loadtest -Dloadtest.scenario=chatbot -Dloadtest.concurrency=50 -Dloadtest.duration=120
+ */
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestContext context = new LoadTestContext();
+        List<Scenario> scenarios = select(context.scenario);
+
+        System.out.printf("[부하 테스트] 대상 %s, 동시 %d, 워밍업 %ds, 측정 %ds, 시나리오 %s%n",
+                context.target, context.concurrency, context.warmup.toSeconds(), context.duration.toSeconds(),
+                scenarios.stream().map(Scenario::name).toList());
+
+        // STOMP 는 두 명씩 짝지어 채팅방을 쓰므로 짝수로 맞춤
+        context.signUpUsers(context.concurrency + context.concurrency % 2);
+
+        List<LatencyRecorder.Report> reports = new ArrayList<>();
+        for (Scenario scenario : scenarios) {
+            reports.add(run(context, scenario));
+        }
+        print(reports);
+    }
+
+    private static List<Scenario> select(String name) {
+        List<Scenario> all = List.of(
+                new ScheduleCreateScenario(),
+                new ChatbotScenario(),
+                new CommunityFeedScenario(),
+                new StompChatScenario());
+        if ("all".equals(name)) return all;
+        List<Scenario> selected = all.stream().filter(s -> s.name().equals(name)).toList();
+        if (selected.isEmpty()) {
+            throw new IllegalArgumentException("알 수 없는 시나리오: " + name + " (" + all.stream().map(Scenario::name).toList() + ", all)");
+        }
+        return selected;
+    }
+
+    private static LatencyRecorder.Report run(LoadTestContext context, Scenario scenario) throws Exception {
+        System.out.printf("[부하 테스트] %s 시작%n", scenario.name());
+        scenario.prepare(context);
+
+        LatencyRecorder recorder = new LatencyRecorder();
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<Thread> workers = new ArrayList<>();
+        for (int w = 0; w < context.concurrency; w++) {
+            int worker = w;
+            Thread thread = new Thread(() -> {
+                long iteration = 0;
+                while (running.get()) {
+                    long startedAt = System.nanoTime();
+                    try {
+                        scenario.call(context, worker, iteration++);
+                        recorder.success(System.nanoTime() - startedAt);
+                    } catch (Scenario.Failure e) {
+                        recorder.failure(System.nanoTime() - startedAt, e.getMessage());
+                    } catch (HttpTimeoutException | TimeoutException e) {
+                        recorder.failure(System.nanoTime() - startedAt, "timeout");
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    } catch (Exception e) {
+                        recorder.failure(System.nanoTime() - startedAt, e.getClass().getSimpleName());
+                    }
+                }
+            }, "loadtest-" + scenario.name() + "-" + w);
+            workers.add(thread);
+            thread.start();
+        }
+
+        Thread.sleep(context.warmup.toMillis());
+        recorder.start();
+        long measuredFrom = System.nanoTime();
+        Thread.sleep(context.duration.toMillis());
+        recorder.stop();
+        long elapsed = System.nanoTime() - measuredFrom;
+
+        running.set(false);
+        for (Thread thread : workers) {
+            thread.join(context.requestTimeout.toMillis());
+        }
+        scenario.close();
+        return recorder.report(scenario.name(), elapsed);
+    }
+
+    private static void print(List<LatencyRecorder.Report> reports) {
+        System.out.println();
+        System.out.printf("%-16s %9s %8s %10s %9s %9s %9s %9s%n",
+                "scenario", "requests", "failed", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)");
+        for (LatencyRecorder.Report r : reports) {
+            System.out.printf("%-16s %9d %8d %10.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    r.scenario(), r.requests(), r.failures(), r.throughput(),
+                    r.p50() / 1e6, r.p90() / 1e6, r.p99() / 1e6, r.max() / 1e6);
+        }
+        for (LatencyRecorder.Report r : reports) {
+            if (!r.failureReasons().isEmpty()) {
+                System.out.printf("  %s 실패 원인: %s%n", r.scenario(), r.failureReasons());
+            }
+        }
+    }
+}
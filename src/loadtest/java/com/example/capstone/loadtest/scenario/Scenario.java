@@ -0,0 +1,33 @@
+package com.example.capstone.loadtest.scenario;
+
+import java.net.http.HttpResponse;
+
+/**
+ * 부하 테스트 시나리오 (닫힌 루프: 작업 스레드마다 call 을 반복 호출)
+ */
+interface Scenario {
+
+    String name();
+
+    default void prepare(LoadTestContext context) throws Exception {}
+
+    /**
+     * 호출 한 번 (실패는 예외, Failure 의 reason 이 실패 원인으로 집계)
+     */
+    void call(LoadTestContext context, int worker, long iteration) throws Exception;
+
+    default void close() {}
+
+    class Failure extends RuntimeException {
+        Failure(String reason) {
+            super(reason, null, false, false);
+        }
+    }
+
+    static <T> HttpResponse<T> expectOk(HttpResponse<T> response) {
+        if (response.statusCode() / 100 != 2) {
+            throw new Failure("http-" + response.statusCode());
+        }
+        return response;
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.capstone.loadtest.scenario;
+
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * POST /schedule/create (Gemini 생성 → Kakao 정제 → Tmap 이동시간 → 비용)
+ * - 출발일은 7~36일 뒤, 1~3박, 인원/성향을 돌려가며 요청
+ */
+class ScheduleCreateScenario implements Scenario {
+
+    private static final List<String> CITIES = List.of("JEJU_SI", "SEOGWIPO_SI");
+    private static final List<String> STYLES = List.of("ACTIVITY", "CULTURE", "HEALING", "FOOD");
+    private static final List<String> GROUPS = List.of("SOLO", "DUO");
+
+    @Override
+    public String name() {
+        return "schedule-create";
+    }
+
+    @Override
+    public void call(LoadTestContext context, int worker, long iteration) throws Exception {
+        LocalDate start = LocalDate.now().plusDays(7 + (iteration + worker) % 30);
+        Map<String, Object> body = Map.of(
+                "startDate", start.toString(),
+                "endDate", start.plusDays(1 + iteration % 3).toString(),
+                "destination", CITIES.get((int) (iteration % CITIES.size())),
+                "mbti", "ENFP",
+                "travelStyle", STYLES.get((int) ((iteration + worker) % STYLES.size())),
+                "peopleGroup", GROUPS.get(worker % GROUPS.size()),
+                "budget", 500_000 + 100_000 * (iteration % 5));
+
+        Scenario.expectOk(context.httpClient.send(
+                context.jsonPost("/schedule/create", context.users.get(worker), body).build(),
+                HttpResponse.BodyHandlers.ofString()));
+    }
+}
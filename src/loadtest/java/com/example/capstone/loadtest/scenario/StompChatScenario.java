@@ -0,0 +1,162 @@
+package com.example.capstone.loadtest.scenario;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.WebSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * STOMP 채팅 (/connect 의 SockJS raw WebSocket 경로 /connect/websocket)
+ * - 작업 스레드 두 개가 1:1 채팅방 하나를 공유 (짝수 번째 사용자가 방 생성)
+ * - 호출 한 번 = SEND /publish/{roomId} 후 /queue/{roomId} 로 자기 메시지가 돌아올 때까지
+ */
+class StompChatScenario implements Scenario {
+
+    private final List<Connection> connections = new ArrayList<>();
+
+    @Override
+    public String name() {
+        return "stomp-chat";
+    }
+
+    @Override
+    public void prepare(LoadTestContext context) throws Exception {
+        List<Long> rooms = new ArrayList<>();
+        for (int i = 0; i + 1 < context.users.size(); i += 2) {
+            HttpResponse<String> response = Scenario.expectOk(context.httpClient.send(
+                    context.request("/chat/room/create?otherUserNickname=" + context.users.get(i + 1).nickname(), context.users.get(i))
+                            .POST(HttpRequest.BodyPublishers.noBody())
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString()));
+            rooms.add(Long.parseLong(response.body().trim()));
+        }
+
+        String wsTarget = context.target.replaceFirst("^http", "ws") + "/connect/websocket";
+        for (int worker = 0; worker < context.concurrency; worker++) {
+            LoadTestContext.User user = context.users.get(worker);
+            Connection connection = new Connection(context, user, rooms.get(worker / 2));
+            connection.open(URI.create(wsTarget));
+            connections.add(connection);
+        }
+        System.out.printf("[부하 테스트] STOMP 연결 %d개, 채팅방 %d개%n", connections.size(), rooms.size());
+    }
+
+    @Override
+    public void call(LoadTestContext context, int worker, long iteration) throws Exception {
+        connections.get(worker).roundTrip(worker + "-" + iteration, context.requestTimeout.toMillis());
+    }
+
+    @Override
+    public void close() {
+        connections.forEach(Connection::close);
+    }
+
+    /**
+     * STOMP 세션 하나 (프레임 조립/분해만 직접 처리)
+     */
+    private static final class Connection implements WebSocket.Listener {
+
+        private final LoadTestContext context;
+        private final LoadTestContext.User user;
+        private final long roomId;
+        private final Map<String, CompletableFuture<Void>> pending = new ConcurrentHashMap<>();
+        private final CompletableFuture<Void> connected = new CompletableFuture<>();
+        private final StringBuilder partial = new StringBuilder();
+        private WebSocket webSocket;
+
+        Connection(LoadTestContext context, LoadTestContext.User user, long roomId) {
+            this.context = context;
+            this.user = user;
+            this.roomId = roomId;
+        }
+
+        void open(URI uri) throws Exception {
+            webSocket = context.httpClient.newWebSocketBuilder().buildAsync(uri, this).get(10, TimeUnit.SECONDS);
+            send("CONNECT\naccept-version:1.2,1.1\nheart-beat:0,0\nAuthorization:Bearer " + user.accessToken() + "\n\n");
+            connected.get(10, TimeUnit.SECONDS);
+            send("SUBSCRIBE\nid:sub-" + roomId + "\ndestination:/queue/" + roomId + "\n\n");
+            Thread.sleep(200); // SUBSCRIBE 는 응답 프레임이 없으므로 브로커 등록 대기
+        }
+
+        void roundTrip(String nonce, long timeoutMs) throws Exception {
+            CompletableFuture<Void> echoed = new CompletableFuture<>();
+            pending.put(nonce, echoed);
+            try {
+                String body = context.objectMapper.writeValueAsString(Map.of(
+                        "sender", user.nickname(), "message", "loadtest " + nonce));
+                send("SEND\ndestination:/publish/" + roomId + "\ncontent-type:application/json\n\n" + body);
+                echoed.get(timeoutMs, TimeUnit.MILLISECONDS);
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof Failure failure ? failure : e;
+            } finally {
+                pending.remove(nonce);
+            }
+        }
+
+        private synchronized void send(String frame) throws Exception {
+            webSocket.sendText(frame + "\0", true).get(10, TimeUnit.SECONDS);
+        }
+
+        @Override
+        public CompletionStage<?> onText(WebSocket ws, CharSequence data, boolean last) {
+            partial.append(data);
+            if (last) {
+                String frames = partial.toString();
+                partial.setLength(0);
+                for (String frame : frames.split("\0")) {
+                    onFrame(frame);
+                }
+            }
+            ws.request(1);
+            return null;
+        }
+
+        private void onFrame(String frame) {
+            String trimmed = frame.stripLeading();
+            if (trimmed.startsWith("CONNECTED")) {
+                connected.complete(null);
+            } else if (trimmed.startsWith("ERROR")) {
+                connected.completeExceptionally(new Failure("stomp-error"));
+                pending.values().forEach(f -> f.completeExceptionally(new Failure("stomp-error")));
+            } else if (trimmed.startsWith("MESSAGE")) {
+                int bodyStart = trimmed.indexOf("\n\n");
+                if (bodyStart < 0) return;
+                try {
+                    JsonNode message = context.objectMapper.readTree(trimmed.substring(bodyStart + 2));
+                    String text = message.path("message").asText(message.toString());
+                    String nonce = text.startsWith("loadtest ") ? text.substring(9) : null;
+                    CompletableFuture<Void> echoed = nonce == null ? null : pending.get(nonce);
+                    if (echoed != null) echoed.complete(null);
+                } catch (Exception ignored) {
+                    // 다른 형식의 메시지는 무시
+                }
+            }
+        }
+
+        @Override
+        public void onError(WebSocket ws, Throwable error) {
+            connected.completeExceptionally(error);
+            pending.values().forEach(f -> f.completeExceptionally(new Failure("ws-error")));
+        }
+
+        void close() {
+            if (webSocket == null) return;
+            try {
+                send("DISCONNECT\n\n");
+                webSocket.sendClose(WebSocket.NORMAL_CLOSURE, "done").get(5, TimeUnit.SECONDS);
+            } catch (Exception ignored) {
+                webSocket.abort();
+            }
+        }
+    }
+}
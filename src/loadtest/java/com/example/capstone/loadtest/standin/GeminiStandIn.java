@@ -0,0 +1,100 @@
+package com.example.capstone.loadtest.standin;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Gemini generateContent / streamGenerateContent(alt=sse) 대체 응답
+ * - 프롬프트 문구로 어떤 빌더가 만든 요청인지 판별해 standin/gemini/*.json 반환 (위에서부터 첫 일치)
+ * - 챗봇 재추천(Food/Hotel) 프롬프트는 배열 응답을 기대하므로 한 번 감싸서 반환
+ * - 스트리밍은 chunk-size 글자씩 잘라 chunk-delay 간격으로 전송
+ *
+ * 설정 (standin.gemini.stream.*)
+ * - chunk-size, chunk-delay
+ */
+class GeminiStandIn implements StandInServer.Route {
+
+    private record Rule(String phrase, String resource) {}
+
+    private static final List<Rule> RULES = List.of(
+            new Rule("여행 일정을 다시 생성", "itinerary.json"),
+            new Rule("여행 일정을 생성", "itinerary.json"),
+            new Rule("비용을 예측", "cost.json"),
+            new Rule("편집된 여행 장소명", "edit.json"),
+            new Rule("장소 설명", "description.json"),
+            new Rule("축제", "festival.json"),
+            new Rule("숙소", "hotel.json"),
+            new Rule("관광지", "spot.json")
+    );
+    private static final String DEFAULT_RESOURCE = "food.json";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, String> responses = new HashMap<>();
+    private final int chunkSize = Integer.getInteger("standin.gemini.stream.chunk-size", 80);
+    private final long chunkDelayMs = Long.getLong("standin.gemini.stream.chunk-delay", 40L);
+
+    GeminiStandIn() {
+        RULES.forEach(rule -> responses.computeIfAbsent(rule.resource(), r -> StandInServer.resource("gemini/" + r)));
+        responses.put(DEFAULT_RESOURCE, StandInServer.resource("gemini/" + DEFAULT_RESOURCE));
+    }
+
+    @Override
+    public void handle(StandInServer.Request request, HttpExchange exchange) throws IOException {
+        String prompt = objectMapper.readTree(request.body())
+                .path("contents").path(0).path("parts").path(0).path("text").asText("");
+        String text = answer(prompt);
+
+        if (request.path().endsWith(":streamGenerateContent")) {
+            stream(exchange, text);
+        } else {
+            StandInServer.sendJson(exchange, objectMapper.writeValueAsString(envelope(text)));
+        }
+    }
+
+    private String answer(String prompt) throws IOException {
+        String resource = RULES.stream()
+                .filter(rule -> prompt.contains(rule.phrase()))
+                .map(Rule::resource)
+                .findFirst()
+                .orElse(DEFAULT_RESOURCE);
+        String text = responses.get(resource);
+
+        boolean recreate = prompt.contains("[GPT 시스템 명령]");
+        if (recreate && (resource.equals("hotel.json") || resource.equals(DEFAULT_RESOURCE))) {
+            JsonNode single = objectMapper.readTree(text);
+            return objectMapper.writeValueAsString(List.of(single));
+        }
+        return text;
+    }
+
+    private void stream(HttpExchange exchange, String text) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream;charset=UTF-8");
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            for (int i = 0; i < text.length(); i += chunkSize) {
+                String chunk = text.substring(i, Math.min(text.length(), i + chunkSize));
+                String event = "data: " + objectMapper.writeValueAsString(envelope(chunk)) + "\r\n\r\n";
+                out.write(event.getBytes(StandardCharsets.UTF_8));
+                out.flush();
+                StandInServer.sleep(chunkDelayMs);
+            }
+        }
+    }
+
+    private static Map<String, Object> envelope(String text) {
+        return Map.of(
+                "candidates", List.of(Map.of(
+                        "content", Map.of("parts", List.of(Map.of("text", text)), "role", "model"),
+                        "finishReason", "STOP",
+                        "index", 0)),
+                "modelVersion", "stand-in");
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.capstone.loadtest.standin;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Kakao 로컬 API 대체 응답
+ * - keyword.json: 검색어를 그대로 장소명으로 돌려줌 (이름 일치 검사 통과), 좌표는 검색어 해시로 제주 부근에 고정
+ *   · category_group_code 가 있으면 지점 3곳, 없으면 1곳
+ * - category.json: 좌표 주변 5곳
+ * - coord2regioncode.json: 제주시
+ */
+class KakaoStandIn implements StandInServer.Route {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Override
+    public void handle(StandInServer.Request request, HttpExchange exchange) throws IOException {
+        Map<String, String> q = request.query();
+        List<Map<String, Object>> documents = new ArrayList<>();
+
+        if (request.path().endsWith("/coord2regioncode.json")) {
+            documents.add(Map.of(
+                    "region_type", "H",
+                    "region_1depth_name", "제주특별자치도",
+                    "region_2depth_name", "제주시",
+                    "region_3depth_name", "이도2동"));
+        } else if (request.path().endsWith("/keyword.json")) {
+            String query = q.getOrDefault("query", "장소");
+            String category = q.getOrDefault("category_group_code", "");
+            int count = category.isEmpty() ? 1 : 3;
+            for (int i = 0; i < count; i++) {
+                documents.add(place(i == 0 ? query : query + " " + (i + 1) + "호점", category));
+            }
+        } else {
+            String category = q.getOrDefault("category_group_code", "");
+            for (int i = 0; i < 5; i++) {
+                documents.add(place(("FD6".equals(category) ? "대체 식당 " : "대체 숙소 ") + (i + 1), category));
+            }
+        }
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("meta", Map.of("total_count", documents.size(), "pageable_count", documents.size(), "is_end", true));
+        body.put("documents", documents);
+        StandInServer.sendJson(exchange, objectMapper.writeValueAsString(body));
+    }
+
+    private static Map<String, Object> place(String name, String category) {
+        int hash = name.hashCode();
+        double lat = 33.25 + Math.floorMod(hash, 3000) / 10000.0;
+        double lng = 126.25 + Math.floorMod(hash >>> 7, 6500) / 10000.0;
+
+        Map<String, Object> doc = new LinkedHashMap<>();
+        doc.put("id", String.valueOf(Math.abs(hash)));
+        doc.put("place_name", name);
+        doc.put("category_group_code", category);
+        doc.put("category_name", category.isEmpty() ? "여행 > 관광,명소" : category);
+        doc.put("phone", "064-000-0000");
+        doc.put("address_name", "제주특별자치도 제주시 연동 " + Math.floorMod(hash, 300));
+        doc.put("road_address_name", "제주특별자치도 제주시 노연로 " + Math.floorMod(hash, 120));
+        doc.put("x", String.valueOf(lng));
+        doc.put("y", String.valueOf(lat));
+        doc.put("place_url", "http://place.map.kakao.com/" + Math.abs(hash));
+        doc.put("distance", "");
+        return doc;
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.capstone.loadtest.standin;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 업스트림 대체 HTTP 서버 하나 (JDK HttpServer, 지연 중에도 다른 요청을 받도록 캐시 스레드 풀)
+ * - 응답 전 지연: p50/p99 로 맞춘 로그정규 분포에서 추출
+ * - error-rate 확률로 error-status 응답 (재시도/서킷/폴백 경로 확인용)
+ *
+ * 설정 (standin.{name}.*, 시스템 프로퍼티)
+ * - port, latency.p50, latency.p99, error-rate, error-status
+ */
+public class StandInServer {
+
+    /**
+     * 경로 접두어별 응답 생성기
+     */
+    @FunctionalInterface
+    public interface Route {
+        void handle(Request request, HttpExchange exchange) throws IOException;
+    }
+
+    public record Request(String method, String path, Map<String, String> query, String body) {}
+
+    private final String name;
+    private final int port;
+    private final Duration p50;
+    private final Duration p99;
+    private final double errorRate;
+    private final int errorStatus;
+    private final Map<String, Route> routes = new LinkedHashMap<>();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private HttpServer server;
+
+    public StandInServer(String name, int defaultPort, Duration defaultP50, Duration defaultP99, double defaultErrorRate) {
+        this.name = name;
+        String prefix = "standin." + name + ".";
+        this.port = Integer.getInteger(prefix + "port", defaultPort);
+        this.p50 = duration(System.getProperty(prefix + "latency.p50"), defaultP50);
+        this.p99 = duration(System.getProperty(prefix + "latency.p99"), defaultP99);
+        this.errorRate = Double.parseDouble(System.getProperty(prefix + "error-rate", String.valueOf(defaultErrorRate)));
+        this.errorStatus = Integer.getInteger(prefix + "error-status", 503);
+    }
+
+    public StandInServer route(String pathPrefix, Route route) {
+        routes.put(pathPrefix, route);
+        return this;
+    }
+
+    public void start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("0.0.0.0", port), 1024);
+        server.setExecutor(executor);
+        server.createContext("/", this::dispatch);
+        server.start();
+        System.out.printf("[대체 서버] %-12s :%d  지연 p50 %dms / p99 %dms, 오류율 %.3f (%d)%n",
+                name, port, p50.toMillis(), p99.toMillis(), errorRate, errorStatus);
+    }
+
+    public void stop() {
+        if (server != null) server.stop(0);
+        executor.shutdownNow();
+    }
+
+    public String summary() {
+        return String.format("%s 요청 %d, 주입 오류 %d", name, requests.get(), errors.get());
+    }
+
+    private void dispatch(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        try {
+            sleep(sampleLatency());
+
+            if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+                errors.incrementAndGet();
+                send(exchange, errorStatus, "application/json", "{\"error\":\"stand-in injected failure\"}");
+                return;
+            }
+
+            String path = exchange.getRequestURI().getPath();
+            for (Map.Entry<String, Route> entry : routes.entrySet()) {
+                if (path.startsWith(entry.getKey())) {
+                    entry.getValue().handle(toRequest(exchange), exchange);
+                    return;
+                }
+            }
+            send(exchange, 404, "application/json", "{\"error\":\"no stand-in route: " + path + "\"}");
+        } catch (RuntimeException e) {
+            send(exchange, 500, "application/json", "{\"error\":\"" + e.getMessage() + "\"}");
+        } finally {
+            exchange.close();
+        }
+    }
+
+    // 로그정규: median = p50, 99 분위 = p99 (z = 2.326)
+    private long sampleLatency() {
+        if (p50.isZero()) return 0;
+        double mu = Math.log(p50.toMillis());
+        double sigma = Math.max(0, (Math.log(Math.max(p99.toMillis(), p50.toMillis())) - mu) / 2.326);
+        return (long) Math.exp(mu + sigma * ThreadLocalRandom.current().nextGaussian());
+    }
+
+    private static Request toRequest(HttpExchange exchange) throws IOException {
+        Map<String, String> query = new LinkedHashMap<>();
+        String raw = exchange.getRequestURI().getRawQuery();
+        if (raw != null) {
+            for (String pair : raw.split("&")) {
+                int eq = pair.indexOf('=');
+                String key = eq < 0 ? pair : pair.substring(0, eq);
+                String value = eq < 0 ? "" : pair.substring(eq + 1);
+                query.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+            }
+        }
+        String body;
+        try (InputStream in = exchange.getRequestBody()) {
+            body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        return new Request(exchange.getRequestMethod(), exchange.getRequestURI().getPath(), query, body);
+    }
+
+    public static void send(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType + ";charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    public static void sendJson(HttpExchange exchange, String body) throws IOException {
+        send(exchange, 200, "application/json", body);
+    }
+
+    public static String resource(String path) {
+        try (InputStream in = StandInServer.class.getResourceAsStream("/standin/" + path)) {
+            if (in == null) throw new IllegalArgumentException("대체 응답 없음: " + path);
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static void sleep(long millis) {
+        if (millis <= 0) return;
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Duration duration(String value, Duration defaultValue) {
+        if (value == null || value.isBlank()) return defaultValue;
+        String v = value.trim().toLowerCase();
+        if (v.endsWith("ms")) return Duration.ofMillis(Long.parseLong(v.substring(0, v.length() - 2)));
+        if (v.endsWith("s")) return Duration.ofMillis((long) (Double.parseDouble(v.substring(0, v.length() - 1)) * 1000));
+        return Duration.ofMillis(Long.parseLong(v));
+    }
+}
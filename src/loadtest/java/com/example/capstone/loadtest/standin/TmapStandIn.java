@@ -0,0 +1,45 @@
+package com.example.capstone.loadtest.standin;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+
+/**
+ * Tmap 경로 API 대체 응답 (보행자 / 자동차 / 대중교통)
+ * - 출발/도착 좌표의 직선 거리와 수단별 속도로 totalTime(초) 계산
+ */
+class TmapStandIn implements StandInServer.Route {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Override
+    public void handle(StandInServer.Request request, HttpExchange exchange) throws IOException {
+        JsonNode body = objectMapper.readTree(request.body().isBlank() ? "{}" : request.body());
+        double meters = distance(
+                body.path("startY").asDouble(), body.path("startX").asDouble(),
+                body.path("endY").asDouble(), body.path("endX").asDouble());
+
+        if (request.path().startsWith("/transit")) {
+            long seconds = Math.round(meters / 5.0) + 300;   // 평균 18km/h + 대기 5분
+            StandInServer.sendJson(exchange,
+                    "{\"metaData\":{\"plan\":{\"itineraries\":[{\"totalTime\":" + seconds + "}]}}}");
+            return;
+        }
+
+        double speed = request.path().contains("/pedestrian") ? 1.2 : 8.3;   // 4.3km/h, 30km/h
+        long seconds = Math.round(meters * 1.3 / speed);
+        StandInServer.sendJson(exchange,
+                "{\"type\":\"FeatureCollection\",\"features\":[{\"type\":\"Feature\",\"properties\":{\"totalTime\":"
+                        + seconds + ",\"totalDistance\":" + Math.round(meters * 1.3) + "}}]}");
+    }
+
+    private static double distance(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 6_371_000 * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+}
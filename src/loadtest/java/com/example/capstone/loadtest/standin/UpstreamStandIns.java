@@ -0,0 +1,54 @@
+package com.example.capstone.loadtest.standin;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * 외부 API 대체 서버 일괄 실행 (./gradlew loadtestStandIns)
+ * - 앱은 loadtest 프로필로 실행하면 각 클라이언트 base-url 이 아래 포트를 가리킴
+ *
+ * 기본값 (standin.{name}.* 로 변경)
+ * - gemini       :18081  p50 1500ms / p99 6s,   오류율 0.01
+ * - kakao        :18082  p50 60ms   / p99 250ms, 오류율 0
+ * - tmap         :18083  p50 150ms  / p99 800ms, 오류율 0.005
+ * - tourapi      :18084  p50 300ms  / p99 1.5s,  오류율 0.01
+ * - openweather  :18085  p50 120ms  / p99 500ms, 오류율 0
+ *
+ * 종료 시(Ctrl+C) 대체 서버별 요청/주입 오류 수 출력
+ */
+public class UpstreamStandIns {
+
+    public static void main(String[] args) throws Exception {
+        String festivals = StandInServer.resource("tourapi/festivals.json");
+        String oneCall = StandInServer.resource("openweather/onecall.json");
+
+        List<StandInServer> servers = List.of(
+                new StandInServer("gemini", 18081, Duration.ofMillis(1500), Duration.ofSeconds(6), 0.01)
+                        .route("/v1beta/models/", new GeminiStandIn()),
+                new StandInServer("kakao", 18082, Duration.ofMillis(60), Duration.ofMillis(250), 0)
+                        .route("/v2/local/", new KakaoStandIn()),
+                new StandInServer("tmap", 18083, Duration.ofMillis(150), Duration.ofMillis(800), 0.005)
+                        .route("/tmap/routes", new TmapStandIn())
+                        .route("/transit/routes", new TmapStandIn()),
+                new StandInServer("tourapi", 18084, Duration.ofMillis(300), Duration.ofMillis(1500), 0.01)
+                        .route("/B551011/", (request, exchange) -> StandInServer.sendJson(exchange, festivals)),
+                new StandInServer("openweather", 18085, Duration.ofMillis(120), Duration.ofMillis(500), 0)
+                        .route("/data/3.0/onecall", (request, exchange) -> StandInServer.sendJson(exchange, oneCall))
+        );
+
+        for (StandInServer server : servers) {
+            server.start();
+        }
+
+        CountDownLatch stopped = new CountDownLatch(1);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            servers.forEach(server -> {
+                System.out.println("[대체 서버] " + server.summary());
+                server.stop();
+            });
+            stopped.countDown();
+        }));
+        stopped.await();
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.capstone.chat.controller;
 
 import com.example.capstone.chat.service.ChatService;
+import com.example.capstone.plan.service.ScheduleJobService;
+import com.example.capstone.util.jwt.JwtClaims;
 import com.example.capstone.util.jwt.JwtUtil;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Lazy;
@@ -38,18 +40,27 @@ public class StompHandler implements ChannelInterceptor {
 
         try {
             if (StompCommand.CONNECT.equals(accessor.getCommand())) {
-                String token = validateJwt(accessor);
-                String userId = jwtUtil.getProviderIdFromJwt(token);
+                String userId = validateJwt(accessor).providerId();
                 sessionUserMap.put(accessor.getSessionId(), userId);
             }
 
             if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
                 String sessionId = accessor.getSessionId();
                 String userId = sessionUserMap.get(sessionId);
-                String roomId = accessor.getDestination().split("/")[2];
+                String destination = accessor.getDestination();
 
                 if (userId == null) throw new AuthenticationServiceException("세션 정보가 없습니다");
 
+                // 일정 생성 작업 결과 구독: 본인 채널만 허용
+                if (destination.startsWith(ScheduleJobService.JOB_DESTINATION_PREFIX)) {
+                    if (!destination.equals(ScheduleJobService.JOB_DESTINATION_PREFIX + userId)) {
+                        throw new AuthenticationServiceException("해당 작업 채널에 권한이 없습니다");
+                    }
+                    return message;
+                }
+
+                String roomId = destination.split("/")[2];
+
                 if (!chatService.isRoomParticipant(userId, Long.parseLong(roomId))) {
                     throw new AuthenticationServiceException("해당 room 에 권한이 없습니다");
                 }
@@ -73,15 +84,13 @@ public class StompHandler implements ChannelInterceptor {
         }
     }
 
-    public String validateJwt(StompHeaderAccessor accessor) {
+    public JwtClaims validateJwt(StompHeaderAccessor accessor) {
         String bearerToken = accessor.getFirstNativeHeader("Authorization");
         if (bearerToken == null || !bearerToken.startsWith("Bearer ")) {
             throw new AuthenticationServiceException("유효하지 않은 Authorization 헤더 형식");
         }
 
-        String token = bearerToken.substring(7);
-        jwtUtil.validateJwt(token);
-        return token;
+        return jwtUtil.parse(bearerToken.substring(7));
     }
 
     // Service 계층에서 Subscribe 정보 참조
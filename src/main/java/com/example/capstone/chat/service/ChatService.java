@@ -13,8 +13,10 @@ import com.example.capstone.chat.repository.ChatMessageRepository;
 import com.example.capstone.chat.repository.ChatParticipantRepository;
 import com.example.capstone.chat.repository.ChatRoomRepository;
 import com.example.capstone.chat.repository.ReadStatusRepository;
+import com.example.capstone.user.dto.UserSnapshot;
 import com.example.capstone.user.entity.UserEntity;
 import com.example.capstone.user.repository.UserRepository;
+import com.example.capstone.user.service.UserResolver;
 import com.example.capstone.util.oauth2.dto.CustomOAuth2User;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -35,6 +37,7 @@ public class ChatService {
     private final ChatParticipantRepository chatParticipantRepository;
     private final ReadStatusRepository readStatusRepository;
     private final UserRepository userRepository;
+    private final UserResolver userResolver;
     private final StompHandler stompHandler;
     private final SimpMessageSendingOperations messagingTemplate;
 
@@ -91,8 +94,8 @@ public class ChatService {
     // 자신이 속한 채팅방 조회
     @Transactional(readOnly = true)
     public List<MyChatRoomListResDto> getMyRoom(CustomOAuth2User userDetails) {
-        UserEntity currentUser = userRepository.findByProviderId(userDetails.getProviderId())
-                .orElseThrow(() -> new jakarta.persistence.EntityNotFoundException("User not found"));
+        UserSnapshot currentUserSnapshot = userResolver.resolve(userDetails.getProviderId());
+        UserEntity currentUser = userResolver.reference(userDetails.getProviderId());
 
         List<ChatParticipant> chatParticipants = chatParticipantRepository.findByUserAndIsDeletedFalseOrderByChatRoomUpdatedTimeDesc(currentUser);
 
@@ -109,7 +112,7 @@ public class ChatService {
                     // 현재 유저를 제외한 상대방 찾기
                     UserEntity otherUser = chatRoom.getChatParticipants().stream()
                             .map(ChatParticipant::getUser)
-                            .filter(user -> !user.getId().equals(currentUser.getId()))
+                            .filter(user -> !user.getId().equals(currentUserSnapshot.id()))
                             .findFirst()
                             .orElse(UserEntity.deletedUserPlaceholder()); // 또는 null-safe 처리
 
@@ -138,13 +141,12 @@ public class ChatService {
     // 채팅방 생성
     @Transactional
     public Long createRoom(CustomOAuth2User userDetails, String otherUserNickname) {
-        UserEntity user = userRepository.findByProviderId(userDetails.getProviderId())
-                        .orElseThrow(() -> new EntityNotFoundException("User not found"));
+        UserSnapshot user = userResolver.resolve(userDetails.getProviderId());
 
         UserEntity otherUser = userRepository.findByNickname(otherUserNickname)
                 .orElseThrow(() -> new EntityNotFoundException("User not found"));
 
-        Optional<ChatRoom> existRoom = chatParticipantRepository.findExistRoom(user.getId(), otherUser.getId());
+        Optional<ChatRoom> existRoom = chatParticipantRepository.findExistRoom(user.id(), otherUser.getId());
         if (existRoom.isPresent()){
             return existRoom.get().getId();
         }
@@ -153,7 +155,7 @@ public class ChatService {
                 .build();
 
         chatRoomRepository.save(newRoom);
-        addParticipantToRoom(newRoom, user);
+        addParticipantToRoom(newRoom, userResolver.reference(userDetails.getProviderId()));
         addParticipantToRoom(newRoom, otherUser);
         return newRoom.getId();
     }
@@ -171,8 +173,7 @@ public class ChatService {
     // 채팅방 나가기
     @Transactional
     public void leaveRoom(CustomOAuth2User userDetails, Long roomId) {
-        UserEntity user = userRepository.findByProviderId(userDetails.getProviderId())
-                .orElseThrow(() -> new EntityNotFoundException("User not Found"));
+        UserEntity user = userResolver.reference(userDetails.getProviderId());
 
         ChatRoom chatRoom = chatRoomRepository.findById(roomId)
                 .orElseThrow(() -> new jakarta.persistence.EntityNotFoundException("Room not found"));
@@ -193,8 +194,7 @@ public class ChatService {
     // 이전 메시지 조회
     @Transactional(readOnly = true)
     public List<ChatMessageResDto> getChatHistory(CustomOAuth2User userDetails, Long roomId) {
-        UserEntity user = userRepository.findByProviderId(userDetails.getProviderId())
-                .orElseThrow(() -> new EntityNotFoundException("User not Found"));
+        UserSnapshot user = userResolver.resolve(userDetails.getProviderId());
 
         ChatRoom chatRoom = chatRoomRepository.findById(roomId)
                 .orElseThrow(() -> new jakarta.persistence.EntityNotFoundException("ChatRoom not Found"));
@@ -203,7 +203,7 @@ public class ChatService {
         List<ChatParticipant> chatParticipants = chatParticipantRepository.findByChatRoom(chatRoom);
         boolean check = false;
         check = chatParticipants.stream()
-                .anyMatch(c -> c.getUser().equals(user));
+                .anyMatch(c -> c.getUser().getId().equals(user.id()));
 
         if (!check) throw new IllegalArgumentException("본인이 속하지 않은 채팅방");
 
@@ -223,37 +223,35 @@ public class ChatService {
     // Subscribe 요청 사용자 검증
     @Transactional(readOnly = true)
     public boolean isRoomParticipant(String userId, Long roomId) {
-        UserEntity user = userRepository.findByProviderId(userId)
-                .orElseThrow(() -> new EntityNotFoundException("User not found"));
+        UserSnapshot user = userResolver.resolve(userId);
 
         ChatRoom chatRoom = chatRoomRepository.findById(roomId)
                 .orElseThrow(() -> new jakarta.persistence.EntityNotFoundException("ChatRoom not found"));
 
         return chatRoom.getChatParticipants().stream()
-                .anyMatch(c -> c.getUser().equals(user));
+                .anyMatch(c -> c.getUser().getId().equals(user.id()));
     }
 
     // 읽음 처리
     @Transactional
     public void readMessage(CustomOAuth2User userDetails, Long roomId) {
-        UserEntity user = userRepository.findByProviderId(userDetails.getProviderId())
-                .orElseThrow(() -> new EntityNotFoundException("User not Found"));
+        UserSnapshot user = userResolver.resolve(userDetails.getProviderId());
 
         ChatRoom chatRoom = chatRoomRepository.findById(roomId)
                 .orElseThrow(() -> new jakarta.persistence.EntityNotFoundException("ChatRoom not found"));
 
-        List<ReadStatus> readStatus = readStatusRepository.findByUserAndChatRoom(user, chatRoom);
+        List<ReadStatus> readStatus = readStatusRepository.findByUserAndChatRoom(userResolver.reference(userDetails.getProviderId()), chatRoom);
         if (!readStatus.isEmpty()) {
             for (ReadStatus status : readStatus) {
                 status.updateIsRead(true);
             }
 
             Set<String> subscribers = new HashSet<>(stompHandler.getSubscribersProviderId(roomId));
-            subscribers.remove(user.getProviderId());
+            subscribers.remove(user.providerId());
 
             // 자신을 제외한 구독자가 존재할 경우 알림 전송
             if (!subscribers.isEmpty()) {
-                ReadNoticeDto notice = new ReadNoticeDto(user.getNickname());
+                ReadNoticeDto notice = new ReadNoticeDto(user.nickname());
                 messagingTemplate.convertAndSend("/queue/" + roomId + "/read", notice);
             }
         }
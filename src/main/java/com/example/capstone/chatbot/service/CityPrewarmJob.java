@@ -0,0 +1,163 @@
+package com.example.capstone.chatbot.service;
+
+import com.example.capstone.plan.entity.City;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 도시별 캐시 사전 적재 (한 노드에서만)
+ * - 모든 City(NONE 제외)에 대해 목적지 챗봇과 같은 경로로 호출 → 각 캐시에 그대로 적재
+ * - 한가한 시간대(cron): TTL 이 긴 항목
+ *   · 음식점(FD6) / 숙소(AD5) 상위 결과 + Gemini 요약
+ *   · 오늘 기준 축제 목록 (TourAPI) + Gemini 요약
+ * - 피크 직전(weather-cron): 도시 중심 좌표 (Kakao 키워드 검색) → 날씨 (OpenWeather)
+ *   · 날씨는 현재 날씨라 TTL 이 짧음(openweather.cache.ttl, 1h) → 새벽에 적재하면 낮 트래픽 전에 만료
+ * - Kakao / TourAPI / OpenWeather / Gemini 캐시는 모두 Redis(L2)를 거치므로 다른 노드도 적재 결과 사용
+ * - Redis 락(PREWARM:LOCK, PREWARM:WEATHER:LOCK)을 잡은 노드만 실행, 락은 lock-ttl 후 자동 해제
+ * - 업스트림 호출 한도(upstream.rate-limit.*)를 그대로 따르므로 별도 속도 조절 없음
+ *
+ * 설정 (prewarm.*)
+ * - enabled, cron, weather-cron, zone, lock-ttl
+ *
+ * 메트릭
+ * - prewarm.progress (진행률 0~1), prewarm.duration (전체 소요 시간)
+ * - prewarm.tasks{task=weather|food|hotel|festival, result=success|failure}
+ */
+@Slf4j
+@Component
+public class CityPrewarmJob {
+
+    private static final String LOCK_KEY = "PREWARM:LOCK";
+    private static final String WEATHER_LOCK_KEY = "PREWARM:WEATHER:LOCK";
+    private static final DefaultRedisScript<Long> RELEASE_LOCK = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final DestinationChatService destinationChatService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Duration lockTtl;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final AtomicInteger done = new AtomicInteger();
+    private final AtomicInteger total = new AtomicInteger();
+    private final Timer duration;
+
+    public CityPrewarmJob(DestinationChatService destinationChatService,
+                          RedisTemplate<String, String> redisTemplate,
+                          MeterRegistry meterRegistry,
+                          @Value("${prewarm.enabled:true}") boolean enabled,
+                          @Value("${prewarm.lock-ttl:2h}") Duration lockTtl) {
+        this.destinationChatService = destinationChatService;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.lockTtl = lockTtl;
+        this.duration = Timer.builder("prewarm.duration").register(meterRegistry);
+        Gauge.builder("prewarm.progress", this, job -> job.total.get() == 0 ? 0 : (double) job.done.get() / job.total.get())
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${prewarm.cron:0 0 5 * * *}", zone = "${prewarm.zone:Asia/Seoul}")
+    public void prewarm() {
+        if (!enabled) return;
+        withLock(LOCK_KEY, () -> duration.record(this::prewarmAll));
+    }
+
+    // 날씨는 피크 직전에 따로 적재 (TTL 1h 라 새벽 적재분은 낮까지 남지 않음)
+    @Scheduled(cron = "${prewarm.weather-cron:0 45 10,16 * * *}", zone = "${prewarm.zone:Asia/Seoul}")
+    public void prewarmWeather() {
+        if (!enabled) return;
+        withLock(WEATHER_LOCK_KEY, this::prewarmWeatherAll);
+    }
+
+    private void withLock(String lockKey, Runnable job) {
+        Boolean locked;
+        try {
+            locked = redisTemplate.opsForValue().setIfAbsent(lockKey, nodeId, lockTtl);
+        } catch (Exception e) {
+            log.warn("[사전 적재] Redis 락 획득 실패, 건너뜀: {}", e.getMessage());
+            return;
+        }
+        if (!Boolean.TRUE.equals(locked)) {
+            log.info("[사전 적재] 다른 노드에서 실행 중, 건너뜀 ({})", lockKey);
+            return;
+        }
+
+        try {
+            job.run();
+        } finally {
+            try {
+                redisTemplate.execute(RELEASE_LOCK, List.of(lockKey), nodeId);
+            } catch (Exception e) {
+                log.warn("[사전 적재] Redis 락 해제 실패 (lock-ttl 후 자동 해제): {}", e.getMessage());
+            }
+        }
+    }
+
+    private void prewarmAll() {
+        List<City> cities = cities();
+        long startedAt = System.nanoTime();
+        int failures = 0;
+        done.set(0);
+        total.set(cities.size());
+        log.info("[사전 적재] 시작, 도시 {}개", cities.size());
+
+        for (City city : cities) {
+            long cityStartedAt = System.nanoTime();
+            int cityFailures = 0;
+            cityFailures += run("food", city, () -> destinationChatService.getFoodList(city));
+            cityFailures += run("hotel", city, () -> destinationChatService.getHotelList(city));
+            cityFailures += run("festival", city, () -> destinationChatService.getFestivalList(city));
+            failures += cityFailures;
+
+            log.info("[사전 적재] {}/{} {} 완료 (실패 {}건), {}ms", done.incrementAndGet(), cities.size(),
+                    city.getDisplayName(), cityFailures, (System.nanoTime() - cityStartedAt) / 1_000_000);
+        }
+
+        log.info("[사전 적재] 종료, 도시 {}개, 실패 {}건, 총 {}s",
+                cities.size(), failures, (System.nanoTime() - startedAt) / 1_000_000_000);
+    }
+
+    private void prewarmWeatherAll() {
+        List<City> cities = cities();
+        long startedAt = System.nanoTime();
+        int failures = 0;
+        for (City city : cities) {
+            failures += run("weather", city, () -> destinationChatService.getWeather(city));
+        }
+        log.info("[사전 적재] 날씨 종료, 도시 {}개, 실패 {}건, {}ms",
+                cities.size(), failures, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    private static List<City> cities() {
+        return Arrays.stream(City.values()).filter(city -> city != City.NONE).toList();
+    }
+
+    // 실패 시 1 (다음 작업은 계속 진행)
+    private int run(String task, City city, Runnable action) {
+        try {
+            action.run();
+            meterRegistry.counter("prewarm.tasks", "task", task, "result", "success").increment();
+            return 0;
+        } catch (Exception e) {
+            meterRegistry.counter("prewarm.tasks", "task", task, "result", "failure").increment();
+            log.warn("[사전 적재] {} {} 실패: {}", city.getDisplayName(), task, e.getMessage());
+            return 1;
+        }
+    }
+}
@@ -10,6 +10,7 @@ import com.example.capstone.plan.dto.common.KakaoPlaceDto;
 import com.example.capstone.plan.entity.City;
 import com.example.capstone.plan.service.KakaoMapClient;
 import com.example.capstone.plan.service.GeminiClient; // ★ 변경
+import com.example.capstone.util.gpt.GeminiPromptType;
 import com.example.capstone.util.chatbot.recreate.*;
 import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
@@ -45,7 +46,7 @@ public class DestinationChatRecreateService {
                     .map(place -> {
                         try {
                             String prompt = foodRecreatePromptBuilder.build(place);
-                            String response = geminiClient.callGemini(prompt); // ★ 변경
+                            String response = geminiClient.callGemini(prompt, GeminiPromptType.FOOD); // ★ 변경
                             // parseService가 배열을 기대하므로 단일 객체를 배열로 감싸서 전달
                             return ((List<FoodResDto>) parseService.parseResponse(
                                     ChatCategory.FOOD, "[" + response + "]"
@@ -72,7 +73,7 @@ public class DestinationChatRecreateService {
                     .map(place -> {
                         try {
                             String prompt = hotelRecreatePromptBuilder.build(place);
-                            String response = geminiClient.callGemini(prompt); // ★ 변경
+                            String response = geminiClient.callGemini(prompt, GeminiPromptType.HOTEL); // ★ 변경
                             return ((List<HotelResDto>) parseService.parseResponse(
                                     ChatCategory.HOTEL, "[" + response + "]"
                             )).get(0);
@@ -98,7 +99,7 @@ public class DestinationChatRecreateService {
             for (JsonNode item : rawFestivals) {
                 try {
                     String prompt = festivalRecreatePromptBuilder.build(item);
-                    String gptResponse = geminiClient.callGemini(prompt);
+                    String gptResponse = geminiClient.callGemini(prompt, GeminiPromptType.FESTIVAL);
                     FestivalResDto dto = (FestivalResDto) parseService.parseResponse(
                             ChatCategory.FESTIVAL, gptResponse);
                     result.add(dto);
@@ -9,6 +9,7 @@ import com.example.capstone.util.chatbot.FoodPromptBuilder;
 import com.example.capstone.util.chatbot.HotelPromptBuilder;
 import com.example.capstone.plan.entity.City;
 import com.example.capstone.plan.service.GeminiClient; // ★ 변경: OpenAiClient → GeminiClient
+import com.example.capstone.util.gpt.GeminiPromptType;
 import com.example.capstone.util.chatbot.SpotPromptBuilder;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -65,7 +66,7 @@ public class DestinationChatService {
                 .map(place -> {
                     try {
                         String prompt = foodPromptBuilder.build(place);
-                        String responseJson = geminiClient.callGemini(prompt); // ★ 변경
+                        String responseJson = geminiClient.callGemini(prompt, GeminiPromptType.FOOD); // ★ 변경
                         return objectMapper.readValue(responseJson, FoodResDto.class);
                     } catch (Exception e) {
                         throw new RuntimeException("Food GPT 처리 실패: " + place.getPlaceName(), e);
@@ -85,7 +86,7 @@ public class DestinationChatService {
                 .map(place -> {
                     try {
                         String prompt = hotelPromptBuilder.build(place);
-                        String responseJson = geminiClient.callGemini(prompt); // ★ 변경
+                        String responseJson = geminiClient.callGemini(prompt, GeminiPromptType.HOTEL); // ★ 변경
                         return objectMapper.readValue(responseJson, HotelResDto.class);
                     } catch (Exception e) {
                         throw new RuntimeException("Hotel GPT 처리 실패: " + place.getPlaceName(), e);
@@ -101,7 +102,7 @@ public class DestinationChatService {
         List<FestivalResDto> result = new ArrayList<>();
         for (JsonNode item : rawFestivals) {
             String prompt = festivalPromptBuilder.buildSingle(item);
-            String gptResponseJson = geminiClient.callGemini(prompt); // ★ 변경
+            String gptResponseJson = geminiClient.callGemini(prompt, GeminiPromptType.FESTIVAL); // ★ 변경
 
             try {
                 FestivalResDto dto = (FestivalResDto) parseService.parseResponse(ChatCategory.FESTIVAL, gptResponseJson);
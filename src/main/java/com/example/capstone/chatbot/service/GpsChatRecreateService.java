@@ -8,6 +8,7 @@ import com.example.capstone.chatbot.entity.ChatCategory;
 import com.example.capstone.plan.dto.common.KakaoPlaceDto;
 import com.example.capstone.plan.service.KakaoMapClient;
 import com.example.capstone.plan.service.GeminiClient; // ★ 변경: OpenAiClient → GeminiClient
+import com.example.capstone.util.gpt.GeminiPromptType;
 import com.example.capstone.util.chatbot.recreate.*;
 import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
@@ -43,7 +44,7 @@ public class GpsChatRecreateService {
                     .map(place -> {
                         try {
                             String prompt = foodRecreatePromptBuilder.build(place);
-                            String response = geminiClient.callGemini(prompt); // ★ 변경
+                            String response = geminiClient.callGemini(prompt, GeminiPromptType.FOOD); // ★ 변경
                             // 기존 파서가 배열을 기대한다면, 단일 객체를 배열로 감싸서 전달
                             return ((List<FoodResDto>) parseService.parseResponse(
                                     ChatCategory.FOOD, "[" + response + "]"
@@ -69,7 +70,7 @@ public class GpsChatRecreateService {
                     .map(place -> {
                         try {
                             String prompt = hotelRecreatePromptBuilder.build(place);
-                            String response = geminiClient.callGemini(prompt); // ★ 변경
+                            String response = geminiClient.callGemini(prompt, GeminiPromptType.HOTEL); // ★ 변경
                             return ((List<HotelResDto>) parseService.parseResponse(
                                     ChatCategory.HOTEL, "[" + response + "]"
                             )).get(0);
@@ -93,7 +94,7 @@ public class GpsChatRecreateService {
             for (JsonNode item : rawFestivals) {
                 try {
                     String prompt = festivalRecreatePromptBuilder.build(item);
-                    String gptResponse = geminiClient.callGemini(prompt); // ★ 변경
+                    String gptResponse = geminiClient.callGemini(prompt, GeminiPromptType.FESTIVAL); // ★ 변경
                     FestivalResDto dto = (FestivalResDto) parseService.parseResponse(ChatCategory.FESTIVAL, gptResponse);
                     result.add(dto);
                 } catch (Exception e) {
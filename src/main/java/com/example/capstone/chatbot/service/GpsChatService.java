@@ -6,6 +6,7 @@ import com.example.capstone.plan.dto.common.KakaoPlaceDto;
 import com.example.capstone.plan.entity.City;
 import com.example.capstone.plan.service.KakaoMapClient;
 import com.example.capstone.plan.service.GeminiClient; // ★ 변경: OpenAiClient → GeminiClient
+import com.example.capstone.util.gpt.GeminiPromptType;
 import com.example.capstone.util.chatbot.FestivalPromptBuilder;
 import com.example.capstone.util.chatbot.FoodPromptBuilder;
 import com.example.capstone.util.chatbot.HotelPromptBuilder;
@@ -62,7 +63,7 @@ public class GpsChatService {
                 .map(place -> {
                     try {
                         String prompt = foodPromptBuilder.build(place);
-                        String responseJson = geminiClient.callGemini(prompt);
+                        String responseJson = geminiClient.callGemini(prompt, GeminiPromptType.FOOD);
                         return objectMapper.readValue(responseJson, FoodResDto.class);
                     } catch (Exception e) {
                         throw new RuntimeException("GPS 음식점 GPT 처리 실패: " + place.getPlaceName(), e);
@@ -79,7 +80,7 @@ public class GpsChatService {
                 .map(place -> {
                     try {
                         String prompt = hotelPromptBuilder.build(place);
-                        String responseJson = geminiClient.callGemini(prompt);
+                        String responseJson = geminiClient.callGemini(prompt, GeminiPromptType.HOTEL);
                         return objectMapper.readValue(responseJson, HotelResDto.class);
                     } catch (Exception e) {
                         throw new RuntimeException("GPS 숙소 GPT 처리 실패: " + place.getPlaceName(), e);
@@ -96,7 +97,7 @@ public class GpsChatService {
         List<FestivalResDto> result = new ArrayList<>();
         for (JsonNode item : rawFestivals) {
             String prompt = festivalPromptBuilder.buildSingle(item);
-            String gptResponseJson = geminiClient.callGemini(prompt);
+            String gptResponseJson = geminiClient.callGemini(prompt, GeminiPromptType.FESTIVAL);
 
             try {
                 FestivalResDto dto = (FestivalResDto) parseService.parseResponse(ChatCategory.FESTIVAL, gptResponseJson);
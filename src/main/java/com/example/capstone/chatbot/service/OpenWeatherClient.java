@@ -1,11 +1,15 @@
 package com.example.capstone.chatbot.service;
 
 import com.example.capstone.chatbot.dto.response.WeatherResDto;
+import com.example.capstone.util.cache.TieredCache;
+import com.example.capstone.util.concurrent.SingleFlight;
+import com.example.capstone.util.http.Upstream;
+import com.example.capstone.util.http.UpstreamRestTemplates;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpStatusCodeException;
@@ -16,45 +20,57 @@ import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.function.Function;
 
 
 @Component
-@RequiredArgsConstructor
 public class OpenWeatherClient {
 
     @Value("${openweather.api.key}")
     private String apiKey;
 
-    private final RestTemplateBuilder restTemplateBuilder;
+    // 부하 테스트 시 로컬 대체 서버로 교체 (loadtest 프로필)
+    @Value("${openweather.base-url:https://api.openweathermap.org}")
+    private String baseUrl;
+
+    private final UpstreamRestTemplates upstreamRestTemplates;
     private final ObjectMapper objectMapper;
 
+    // 가까운 좌표의 동시 요청은 한 번만 호출 (키: openweather.coalesce.precision 자리로 반올림한 좌표)
+    private final Function<Coordinates, String> coordinateKey;
+    private final SingleFlight<Coordinates, JsonNode> singleFlight;
+
+    // One Call 응답 캐시 (L1 + Redis, 키는 single-flight 와 동일)
+    private final TieredCache<JsonNode> cache;
+    private final Duration cacheTtl;
+
+    public OpenWeatherClient(UpstreamRestTemplates upstreamRestTemplates,
+                             ObjectMapper objectMapper,
+                             RedisTemplate<String, String> redisTemplate,
+                             MeterRegistry meterRegistry,
+                             @Value("${openweather.coalesce.precision:2}") int precision,
+                             @Value("${openweather.cache.local-max-size:1000}") long cacheMaxSize,
+                             @Value("${openweather.cache.ttl:1h}") Duration cacheTtl) {
+        this.upstreamRestTemplates = upstreamRestTemplates;
+        this.objectMapper = objectMapper;
+        double scale = Math.pow(10, precision);
+        this.coordinateKey = c -> Math.round(c.lat() * scale) + ":" + Math.round(c.lon() * scale);
+        this.singleFlight = new SingleFlight<>("openweather", coordinateKey, meterRegistry);
+        this.cacheTtl = cacheTtl;
+        this.cache = new TieredCache<>("openweather", cacheMaxSize, redisTemplate,
+                JsonNode::toString, this::readJson, meterRegistry);
+    }
+
+    // 업스트림 공용 커넥션 풀 사용 (upstream.http.openweather.*)
     private RestTemplate getRestTemplate() {
-        return restTemplateBuilder
-                .setConnectTimeout(Duration.ofSeconds(5))
-                .setReadTimeout(Duration.ofSeconds(10))
-                .build();
+        return upstreamRestTemplates.get(Upstream.OPENWEATHER);
     }
 
     public WeatherResDto getWeather(double lat, double lon, String regionName) {
-        String url = UriComponentsBuilder
-                .fromHttpUrl("https://api.openweathermap.org/data/3.0/onecall")
-                .queryParam("lat", lat)
-                .queryParam("lon", lon)
-                .queryParam("exclude", "minutely,hourly,alerts")
-                .queryParam("appid", apiKey)
-                .queryParam("units", "metric")
-                .queryParam("lang", "kr")
-                .toUriString();
-
         try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.setAccept(List.of(MediaType.APPLICATION_JSON));
-            HttpEntity<Void> entity = new HttpEntity<>(headers);
-
-            ResponseEntity<String> response = getRestTemplate()
-                    .exchange(url, HttpMethod.GET, entity, String.class);
-
-            JsonNode body = objectMapper.readTree(response.getBody());
+            Coordinates coordinates = new Coordinates(lat, lon);
+            JsonNode body = cache.get(coordinateKey.apply(coordinates), json -> cacheTtl,
+                    () -> singleFlight.execute(coordinates, this::requestOneCall));
 
             double currentTemp = body.path("current").path("temp").asDouble();
             double minTemp = body.path("daily").path(0).path("temp").path("min").asDouble();
@@ -87,6 +103,35 @@ public class OpenWeatherClient {
         }
     }
 
+    // One Call 응답 본문 (동시 호출자끼리 공유하므로 읽기 전용으로 사용)
+    private JsonNode requestOneCall(Coordinates coordinates) {
+        String url = UriComponentsBuilder
+                .fromHttpUrl(baseUrl + "/data/3.0/onecall")
+                .queryParam("lat", coordinates.lat())
+                .queryParam("lon", coordinates.lon())
+                .queryParam("exclude", "minutely,hourly,alerts")
+                .queryParam("appid", apiKey)
+                .queryParam("units", "metric")
+                .queryParam("lang", "kr")
+                .toUriString();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+        HttpEntity<Void> entity = new HttpEntity<>(headers);
+
+        ResponseEntity<String> response = getRestTemplate()
+                .exchange(url, HttpMethod.GET, entity, String.class);
+        return readJson(response.getBody());
+    }
+
+    private JsonNode readJson(String json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (Exception e) {
+            throw new RuntimeException("OpenWeather 응답 파싱 실패: " + e.getMessage(), e);
+        }
+    }
+
     private String simplifyWeatherDescription(String description) {
         if (description.contains("구름") || description.contains("흐림")) return "구름";
         if (description.contains("비")) return "비";
@@ -94,4 +139,6 @@ public class OpenWeatherClient {
         if (description.contains("맑")) return "맑음";
         return "기타";
     }
+
+    private record Coordinates(double lat, double lon) {}
 }
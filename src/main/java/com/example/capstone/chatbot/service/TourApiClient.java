@@ -2,40 +2,85 @@ package com.example.capstone.chatbot.service;
 
 import com.example.capstone.plan.entity.City;
 import com.example.capstone.plan.service.KakaoMapClient;
+import com.example.capstone.util.cache.TieredCache;
+import com.example.capstone.util.concurrent.SingleFlight;
+import com.example.capstone.util.hash.HashUtils;
+import com.example.capstone.util.http.Upstream;
+import com.example.capstone.util.http.UpstreamRestTemplates;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.WebClient;
 
 import java.net.URI;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 @Component
-@RequiredArgsConstructor
 public class TourApiClient {
 
     @Value("${TOURAPI_KEY}")
     private String apiKey;
 
-    private final WebClient webClient = WebClient.create();
+    // 부하 테스트 시 로컬 대체 서버로 교체 (loadtest 프로필)
+    @Value("${tourapi.base-url:https://apis.data.go.kr}")
+    private String baseUrl;
+
+    private final UpstreamRestTemplates upstreamRestTemplates;
     private final KakaoMapClient kakaoMapClient;
 
+    // 같은 URL 동시 요청은 한 번만 호출 (키: 요청 URL)
+    private final SingleFlight<String, JsonNode> singleFlight;
+
+    // 응답 캐시 (L1 + Redis), URL에 날짜가 들어가므로 날짜가 바뀌면 자연히 새로 조회
+    private final TieredCache<JsonNode> cache;
+    private final Duration cacheTtl;
+
+    public TourApiClient(UpstreamRestTemplates upstreamRestTemplates,
+                         KakaoMapClient kakaoMapClient,
+                         RedisTemplate<String, String> redisTemplate,
+                         MeterRegistry meterRegistry,
+                         @Value("${tourapi.cache.local-max-size:500}") long cacheMaxSize,
+                         @Value("${tourapi.cache.ttl:12h}") Duration cacheTtl) {
+        this.upstreamRestTemplates = upstreamRestTemplates;
+        this.kakaoMapClient = kakaoMapClient;
+        this.singleFlight = new SingleFlight<>("tourapi", Function.identity(), meterRegistry);
+        this.cacheTtl = cacheTtl;
+        this.cache = new TieredCache<>("tourapi", cacheMaxSize, redisTemplate,
+                JsonNode::toString, TourApiClient::readJson, meterRegistry);
+    }
+
+    // 업스트림 공용 커넥션 풀 사용 (upstream.http.tourapi.*), serviceKey가 이미 인코딩되어 있으므로 URI 그대로 요청
+    // 응답 노드는 캐시/동시 호출자끼리 공유하므로 읽기 전용으로 사용
     private JsonNode getJsonResponse(String url) {
-        String responseBody = webClient.get()
-                .uri(URI.create(url))
-                .retrieve()
-                .bodyToMono(String.class)
-                .block();
+        // 키에 serviceKey가 노출되지 않도록 URL 해시 사용
+        return cache.get(HashUtils.sha256Hex(url), json -> cacheTtl, () -> requestJson(url));
+    }
+
+    private JsonNode requestJson(String url) {
+        return singleFlight.execute(url, u -> {
+            String responseBody = upstreamRestTemplates.get(Upstream.TOURAPI)
+                    .getForObject(URI.create(u), String.class);
+
+            try {
+                ObjectMapper mapper = new ObjectMapper();
+                return mapper.readTree(responseBody);
+            } catch (Exception e) {
+                throw new RuntimeException("TourAPI JSON 파싱 실패", e);
+            }
+        });
+    }
 
+    private static JsonNode readJson(String json) {
         try {
-            ObjectMapper mapper = new ObjectMapper();
-            return mapper.readTree(responseBody);
+            return new ObjectMapper().readTree(json);
         } catch (Exception e) {
             throw new RuntimeException("TourAPI JSON 파싱 실패", e);
         }
@@ -44,7 +89,8 @@ public class TourApiClient {
     public JsonNode getFestivalList(double lat, double lng, LocalDate today) {
         City city = kakaoMapClient.getCityFromLatLng(lat, lng);
         String url = String.format(
-                "https://apis.data.go.kr/B551011/KorService2/searchFestival2?serviceKey=%s&MobileOS=ETC&MobileApp=MyApp&eventStartDate=%s&areaCode=%d&numOfRows=10&pageNo=1&_type=json",
+                "%s/B551011/KorService2/searchFestival2?serviceKey=%s&MobileOS=ETC&MobileApp=MyApp&eventStartDate=%s&areaCode=%d&numOfRows=10&pageNo=1&_type=json",
+                baseUrl,
                 apiKey,
                 today.format(DateTimeFormatter.ofPattern("yyyyMMdd")),
                 city.getAreaCode()
@@ -54,7 +100,8 @@ public class TourApiClient {
 
     public JsonNode getFestivalListByCity(City city, LocalDate today) {
         String url = String.format(
-                "https://apis.data.go.kr/B551011/KorService2/searchFestival2?serviceKey=%s&MobileOS=ETC&MobileApp=MyApp&eventStartDate=%s&areaCode=%d&numOfRows=10&pageNo=1&_type=json",
+                "%s/B551011/KorService2/searchFestival2?serviceKey=%s&MobileOS=ETC&MobileApp=MyApp&eventStartDate=%s&areaCode=%d&numOfRows=10&pageNo=1&_type=json",
+                baseUrl,
                 apiKey,
                 today.format(DateTimeFormatter.ofPattern("yyyyMMdd")),
                 city.getAreaCode()
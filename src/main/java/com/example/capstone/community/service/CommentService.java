@@ -6,8 +6,9 @@ import com.example.capstone.community.entity.Comment;
 import com.example.capstone.community.entity.Post;
 import com.example.capstone.community.repository.CommentRepository;
 import com.example.capstone.community.repository.PostRepository;
+import com.example.capstone.user.dto.UserSnapshot;
 import com.example.capstone.user.entity.UserEntity;
-import com.example.capstone.user.repository.UserRepository;
+import com.example.capstone.user.service.UserResolver;
 import com.example.capstone.util.oauth2.dto.CustomOAuth2User;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -25,14 +26,13 @@ import java.util.Optional;
 public class CommentService {
 
     private final CommentRepository commentRepository;
-    private final UserRepository userRepository;
+    private final UserResolver userResolver;
     private final PostRepository postRepository;
 
     // 댓글 생성
     @Transactional
     public void createComment(CustomOAuth2User userDetails, CreateCommentReqDto commentReqDto, Long postId) {
-        UserEntity user = userRepository.findByProviderId(userDetails.getProviderId())
-                .orElseThrow(() -> new EntityNotFoundException("User Not Found"));
+        UserEntity user = userResolver.reference(userDetails.getProviderId());
 
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new EntityNotFoundException("Post Not Found"));
@@ -49,10 +49,9 @@ public class CommentService {
     // 댓글 삭제
     @Transactional
     public void deleteComment(CustomOAuth2User userDetails, Long commentId) {
-        UserEntity user = userRepository.findByProviderId(userDetails.getProviderId())
-                .orElseThrow(() -> new EntityNotFoundException("User Not Found"));
+        UserSnapshot user = userResolver.resolve(userDetails.getProviderId());
 
-        Comment comment = commentRepository.findByIdAndUserId(commentId, user.getId())
+        Comment comment = commentRepository.findByIdAndUserId(commentId, user.id())
                 .orElseThrow(() -> new EntityNotFoundException("Comment Not Found"));
 
         commentRepository.delete(comment);
@@ -61,10 +60,9 @@ public class CommentService {
     // 댓글 수정
     @Transactional
     public void editComment(CustomOAuth2User userDetails, Long commentId, CreateCommentReqDto commentReqDto) {
-        UserEntity user = userRepository.findByProviderId(userDetails.getProviderId())
-                .orElseThrow(() -> new EntityNotFoundException("User Not Found"));
+        UserSnapshot user = userResolver.resolve(userDetails.getProviderId());
 
-        Comment comment = commentRepository.findByIdAndUserId(commentId, user.getId())
+        Comment comment = commentRepository.findByIdAndUserId(commentId, user.id())
                 .orElseThrow(() -> new EntityNotFoundException("Comment Not Found"));
 
         comment.updateComment(commentReqDto.getContent());
@@ -8,8 +8,9 @@ import com.example.capstone.community.entity.Post;
 import com.example.capstone.community.repository.PostRepository;
 import com.example.capstone.matching.entity.City;
 import com.example.capstone.matching.entity.Province;
+import com.example.capstone.user.dto.UserSnapshot;
 import com.example.capstone.user.entity.UserEntity;
-import com.example.capstone.user.repository.UserRepository;
+import com.example.capstone.user.service.UserResolver;
 import com.example.capstone.util.oauth2.dto.CustomOAuth2User;
 import com.example.capstone.util.s3.ImageService;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -31,7 +32,7 @@ import java.util.List;
 @Slf4j
 public class PostService {
 
-    private final UserRepository userRepository;
+    private final UserResolver userResolver;
     private final PostRepository postRepository;
     private final ImageService imageService;
     private static final String POST_IMAGE_DIR = "community-image";
@@ -40,8 +41,7 @@ public class PostService {
     // 게시글 생성
     @Transactional
     public Long createPost(CustomOAuth2User userDetails, CreatePostReqDto createPostReqDto, List<MultipartFile> postImages) throws JsonProcessingException {
-        UserEntity user = userRepository.findByProviderId(userDetails.getProviderId())
-                .orElseThrow(() -> new EntityNotFoundException("User Not Found"));
+        UserEntity user = userResolver.reference(userDetails.getProviderId());
 
         List<String> imageUriList = new ArrayList<>();
         String imageUris = null;
@@ -71,10 +71,9 @@ public class PostService {
     // 게시글 삭제
     @Transactional
     public void deletePost(CustomOAuth2User userDetails, Long postId) {
-        UserEntity user = userRepository.findByProviderId(userDetails.getProviderId())
-                .orElseThrow(() -> new EntityNotFoundException("User Not Found"));
+        UserSnapshot user = userResolver.resolve(userDetails.getProviderId());
 
-        Post post = postRepository.findByUserIdAndId(user.getId(), postId)
+        Post post = postRepository.findByUserIdAndId(user.id(), postId)
                 .orElseThrow(() -> new EntityNotFoundException("Post Not Found"));
 
         postRepository.delete(post);
@@ -107,10 +106,9 @@ public class PostService {
 
     @Transactional
     public void editPost(CustomOAuth2User userDetails, CreatePostReqDto createPostReqDto, List<MultipartFile> postImages, Long postId) throws JsonProcessingException {
-        UserEntity user = userRepository.findByProviderId(userDetails.getProviderId())
-                .orElseThrow(() -> new EntityNotFoundException("User Not Found"));
+        UserSnapshot user = userResolver.resolve(userDetails.getProviderId());
 
-        Post post = postRepository.findByUserIdAndId(user.getId(), postId)
+        Post post = postRepository.findByUserIdAndId(user.id(), postId)
                 .orElseThrow(() -> new EntityNotFoundException("Post Not Found"));
 
         // 기존 이미지 S3 삭제
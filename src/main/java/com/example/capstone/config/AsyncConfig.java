@@ -0,0 +1,141 @@
+package com.example.capstone.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    // Kakao 장소 검색 동시 요청 수 (Kakao 호출 한도에 맞춰 조정)
+    @Value("${kakao.lookup.concurrency:6}")
+    private int kakaoLookupConcurrency;
+
+    @Value("${kakao.lookup.queue-capacity:500}")
+    private int kakaoLookupQueueCapacity;
+
+    // Tmap 경로 요청 동시 수 (구간 × 이동수단 단위)
+    @Value("${tmap.route.concurrency:8}")
+    private int tmapRouteConcurrency;
+
+    @Value("${tmap.route.queue-capacity:500}")
+    private int tmapRouteQueueCapacity;
+
+    // HYBRID 백그라운드 Tmap 조회 동시 수 (응답과 무관, 캐시/보정 계수 갱신용)
+    @Value("${tmap.refine.concurrency:2}")
+    private int tmapRefineConcurrency;
+
+    @Value("${tmap.refine.queue-capacity:100}")
+    private int tmapRefineQueueCapacity;
+
+    // 일정 생성 SSE 스트리밍 동시 처리 수
+    @Value("${schedule.stream.concurrency:16}")
+    private int scheduleStreamConcurrency;
+
+    @Value("${schedule.stream.queue-capacity:32}")
+    private int scheduleStreamQueueCapacity;
+
+    // 일정 생성/재생성 비동기 작업 동시 처리 수
+    @Value("${schedule.job.concurrency:8}")
+    private int scheduleJobConcurrency;
+
+    @Value("${schedule.job.queue-capacity:100}")
+    private int scheduleJobQueueCapacity;
+
+    // 일정 생성/재생성 단계 그래프(이동시간/비용 계산) 동시 실행 수
+    @Value("${schedule.pipeline.concurrency:16}")
+    private int schedulePipelineConcurrency;
+
+    @Value("${schedule.pipeline.queue-capacity:64}")
+    private int schedulePipelineQueueCapacity;
+
+    // Gemini 호출(헤지 요청 포함) 동시 수, 큐 없음 → 가득 차면 호출 스레드에서 직접 실행
+    @Value("${gemini.hedge.concurrency:16}")
+    private int geminiHedgeConcurrency;
+
+    /**
+     * 일정 정제 시 Kakao 장소 검색을 병렬로 수행하는 전용 풀
+     * - 스레드 수 = 동시에 나갈 수 있는 Kakao 요청 수
+     */
+    @Bean(name = "kakaoLookupExecutor")
+    public ThreadPoolTaskExecutor kakaoLookupExecutor() {
+        return boundedExecutor("kakao-lookup-", kakaoLookupConcurrency, kakaoLookupQueueCapacity);
+    }
+
+    /**
+     * 이동시간 계산 시 구간별/이동수단별 Tmap 요청을 병렬로 수행하는 전용 풀
+     */
+    @Bean(name = "tmapRouteExecutor")
+    public ThreadPoolTaskExecutor tmapRouteExecutor() {
+        return boundedExecutor("tmap-route-", tmapRouteConcurrency, tmapRouteQueueCapacity);
+    }
+
+    /**
+     * HYBRID 모드의 백그라운드 Tmap 조회 전용 풀 (EXACT 요청의 tmapRouteExecutor 와 분리)
+     * - 결과는 클라이언트에 전달되지 않고 캐시/추정 보정 계수만 갱신 → 큐가 가득 차면 조용히 버림
+     * - 종료 시 남은 조회를 기다리지 않음
+     */
+    @Bean(name = "tmapRefineExecutor")
+    public ThreadPoolTaskExecutor tmapRefineExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        int size = Math.max(1, tmapRefineConcurrency);
+        executor.setCorePoolSize(size);
+        executor.setMaxPoolSize(size);
+        executor.setQueueCapacity(tmapRefineQueueCapacity);
+        executor.setThreadNamePrefix("tmap-refine-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 일정 생성 SSE 스트리밍 요청을 Tomcat 스레드 밖에서 처리하는 풀
+     * - 큐까지 가득 차면 요청 거절
+     */
+    @Bean(name = "scheduleStreamExecutor")
+    public ThreadPoolTaskExecutor scheduleStreamExecutor() {
+        return boundedExecutor("schedule-stream-", scheduleStreamConcurrency, scheduleStreamQueueCapacity);
+    }
+
+    /**
+     * 일정 생성/재생성 비동기 작업(job) 전용 풀
+     * - 큐까지 가득 차면 작업 등록 거절
+     */
+    @Bean(name = "scheduleJobExecutor")
+    public ThreadPoolTaskExecutor scheduleJobExecutor() {
+        return boundedExecutor("schedule-job-", scheduleJobConcurrency, scheduleJobQueueCapacity);
+    }
+
+    /**
+     * 일정 생성/재생성 단계 그래프(SchedulePipeline) 실행 풀
+     * - 큐까지 가득 차면 요청 스레드에서 직접 실행
+     */
+    @Bean(name = "schedulePipelineExecutor")
+    public ThreadPoolTaskExecutor schedulePipelineExecutor() {
+        return boundedExecutor("schedule-stage-", schedulePipelineConcurrency, schedulePipelineQueueCapacity);
+    }
+
+    /**
+     * Gemini 헤지 요청용 풀
+     * - 큐 없이 스레드가 모두 사용 중이면 거절 (GeminiResilience 가 헤지 없이 직접 호출)
+     */
+    @Bean(name = "geminiHedgeExecutor")
+    public ThreadPoolTaskExecutor geminiHedgeExecutor() {
+        return boundedExecutor("gemini-hedge-", geminiHedgeConcurrency, 0);
+    }
+
+    private ThreadPoolTaskExecutor boundedExecutor(String prefix, int concurrency, int queueCapacity) {
+        int size = Math.max(1, concurrency);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(size);
+        executor.setMaxPoolSize(size);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(prefix);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
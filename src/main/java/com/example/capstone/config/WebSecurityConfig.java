@@ -4,7 +4,11 @@ import com.example.capstone.util.jwt.filter.JWTFilter;
 import com.example.capstone.util.oauth2.handler.CustomSuccessfulHandler;
 import com.example.capstone.util.oauth2.CustomOAuth2UserService;
 import com.example.capstone.util.jwt.JwtUtil;
+import com.example.capstone.util.ratelimit.RequestAdmission;
+import com.example.capstone.util.ratelimit.RequestAdmissionFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -28,6 +32,11 @@ public class WebSecurityConfig {
     private final CustomSuccessfulHandler customSuccessfulHandler;
     private final CustomOAuth2UserService customOAuth2UserService;
     private final JwtUtil jwtUtil;
+    private final RequestAdmission requestAdmission;
+
+    // actuator 전용 포트 (내부 인터페이스에만 바인딩, 미설정 시 -1)
+    @Value("${management.server.port:-1}")
+    private int managementPort;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -38,13 +47,19 @@ public class WebSecurityConfig {
                 .formLogin(form -> form.disable())
                 .httpBasic(basic -> basic.disable())
                 .authorizeHttpRequests(auth -> auth
+                        // SSE 등 비동기 응답 완료 시 재디스패치 (최초 요청에서 이미 인증됨)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
+                        // 관리 포트(management.server.address 로 내부 인터페이스에만 열림)의 actuator 는 스크레이프용으로 허용
+                        .requestMatchers(request -> managementPort > 0 && request.getLocalPort() == managementPort).permitAll()
                         .requestMatchers("/auth/**",
                                 "/swagger-ui/**",
                                 "/swagger-resources/**",
                                 "/v3/api-docs/**",
-                                "/swagger-ui.html"
+                                "/swagger-ui.html",
+                                "/actuator/health"
 
                                 ).permitAll()
+                        // 서비스 포트(0.0.0.0)로 들어온 /actuator/prometheus, /actuator/metrics 는 인증 필요
                         .anyRequest().authenticated())
                 .oauth2Login(oauth2 -> oauth2
                         .userInfoEndpoint(userInfo -> userInfo.userService(customOAuth2UserService))
@@ -52,6 +67,8 @@ public class WebSecurityConfig {
                                 new CustomAuthorizationRequestResolver(clientRegistrationRepository)))
                         .successHandler(customSuccessfulHandler))
                 .addFilterBefore(new JWTFilter(jwtUtil), UsernamePasswordAuthenticationFilter.class)
+                // 인증된 사용자별 요청 한도 (일정 생성/챗봇 등 업스트림 호출이 많은 API)
+                .addFilterAfter(new RequestAdmissionFilter(requestAdmission), JWTFilter.class)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.IF_REQUIRED));
 
         return http.build();
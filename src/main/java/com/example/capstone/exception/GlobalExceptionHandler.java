@@ -1,11 +1,13 @@
 package com.example.capstone.exception;
 
+import com.example.capstone.plan.exception.ScheduleJobRejectedException;
 import com.example.capstone.user.exception.DuplicateNicknameException;
 import com.example.capstone.user.exception.InvalidTokenException;
 import com.example.capstone.user.exception.TokenExpiredException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import jakarta.persistence.EntityNotFoundException;
 import org.jetbrains.annotations.NotNull;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -33,6 +35,15 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorDetails, HttpStatus.UNAUTHORIZED);
     }
 
+    // 작업 큐 포화 → 잠시 후 재시도 (RequestAdmissionFilter 와 같은 Retry-After 초 단위 올림)
+    @ExceptionHandler(ScheduleJobRejectedException.class)
+    public ResponseEntity<ErrorDetails> handleScheduleJobRejectedException(ScheduleJobRejectedException ex, WebRequest request) {
+        ErrorDetails errorDetails = getErrorDetails(ex, request);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf((ex.getRetryAfterMillis() + 999) / 1000))
+                .body(errorDetails);
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<ErrorDetails> handleRuntimeException(RuntimeException ex, WebRequest request) {
         ErrorDetails errorDetails = getErrorDetails(ex, request);
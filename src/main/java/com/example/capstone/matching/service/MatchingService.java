@@ -1,5 +1,6 @@
 package com.example.capstone.matching.service;
 
+import com.example.capstone.user.service.UserResolver;
 import com.example.capstone.util.oauth2.dto.CustomOAuth2User;
 import com.example.capstone.matching.dto.MatchingProfileReqDto;
 import com.example.capstone.matching.dto.MatchingListProfileResDto;
@@ -23,13 +24,13 @@ import java.util.Optional;
 public class MatchingService {
 
     private final UserRepository userRepository;
+    private final UserResolver userResolver;
     private final MatchingProfileRepository matchingProfileRepository;
 
     // 매칭 정보 생성, 수정
     @Transactional
     public void createMatchProfile(CustomOAuth2User userDetails, MatchingProfileReqDto profileRequestDto) {
-        UserEntity user = userRepository.findByProviderId(userDetails.getProviderId())
-                .orElseThrow(() -> new EntityNotFoundException("User Not Found"));
+        UserEntity user = userResolver.reference(userDetails.getProviderId());
 
         Optional<MatchingProfile> optionalProfile = matchingProfileRepository.findByUser(user);
 
@@ -120,8 +121,7 @@ public class MatchingService {
     // 매칭된 사용자 목록 조회
     @Transactional(readOnly = true)
     public List<MatchingListProfileResDto> matchingResult(CustomOAuth2User userDetails) {
-        UserEntity user = userRepository.findByProviderId(userDetails.getProviderId())
-                .orElseThrow(() -> new EntityNotFoundException("User Not Found"));
+        UserEntity user = userResolver.reference(userDetails.getProviderId());
 
         MatchingProfile profile = matchingProfileRepository.findByUser(user)
                 .orElseThrow(() -> new EntityNotFoundException("Matching profile not found"));
@@ -8,9 +8,11 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 @RestController
@@ -27,6 +29,8 @@ public class ScheduleController {
     private final ScheduleDeleteService scheduleDeleteService;
     private final ScheduleQueryService scheduleQueryService;
     private final ScheduleResaveService scheduleResaveService;
+    private final ScheduleStreamService scheduleStreamService;
+    private final ScheduleJobService scheduleJobService;
 
 
 
@@ -76,7 +80,7 @@ public class ScheduleController {
     @Operation(summary = "일정 수정", description = "수정된 장소 리스트를 기반으로 하루 일정을 리빌딩합니다.")
     @PostMapping("/edit")
     public ResponseEntity<ScheduleEditResDto> rebuildDay(@RequestBody ScheduleEditReqDto request) {
-        ScheduleEditResDto result = scheduleEditService.editSchedule(request.getNames());
+        ScheduleEditResDto result = scheduleEditService.editSchedule(request.getNames(), request.getTimeMode());
         return ResponseEntity.ok(result);
     }
 
@@ -94,6 +98,38 @@ public class ScheduleController {
         ScheduleCreateResDto response = scheduleCreateService.generateSchedule(request);
         return ResponseEntity.ok(response);
     }
+    @Operation(summary = "GPT 기반 여행일정 생성 (SSE 스트리밍)", description = "하루치 일정이 정제될 때마다 day 이벤트를, 이후 이동시간(times)·예상 비용(costs)·최종 결과(complete) 이벤트를 순서대로 전송합니다.")
+    @PostMapping(value = "/create/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter createScheduleStream(@RequestBody ScheduleCreateReqDto request) {
+        return scheduleStreamService.streamCreate(request);
+    }
+    @Operation(summary = "GPT 기반 여행일정 생성 (비동기 작업)", description = "작업 ID를 즉시 반환합니다. 결과는 /schedule/job/{jobId} 조회 또는 STOMP /queue/schedule-jobs/{providerId} 구독으로 받습니다. 진행 중인 동일 요청은 같은 작업으로 합쳐집니다.")
+    @PostMapping("/create/job")
+    public ResponseEntity<ScheduleJobResDto> createScheduleJob(
+            @AuthenticationPrincipal CustomOAuth2User userDetails,
+            @RequestBody ScheduleCreateReqDto request) {
+
+        ScheduleJobResDto response = scheduleJobService.submitCreate(request, userDetails);
+        return ResponseEntity.accepted().body(response);
+    }
+    @Operation(summary = "여행일정 재생성 (비동기 작업)", description = "작업 ID를 즉시 반환합니다. 결과 수신 방식은 /create/job 과 동일합니다.")
+    @PostMapping("/recreate/job")
+    public ResponseEntity<ScheduleJobResDto> recreateScheduleJob(
+            @AuthenticationPrincipal CustomOAuth2User userDetails,
+            @RequestBody ScheduleRecreateReqDto request) {
+
+        ScheduleJobResDto response = scheduleJobService.submitRecreate(request, userDetails);
+        return ResponseEntity.accepted().body(response);
+    }
+    @Operation(summary = "일정 생성 작업 조회", description = "비동기 일정 생성 작업의 상태(RUNNING/DONE/FAILED)와 결과를 조회합니다.")
+    @GetMapping("/job/{jobId}")
+    public ResponseEntity<ScheduleJobResDto> getScheduleJob(
+            @AuthenticationPrincipal CustomOAuth2User userDetails,
+            @PathVariable String jobId) {
+
+        ScheduleJobResDto response = scheduleJobService.getJob(jobId, userDetails);
+        return ResponseEntity.ok(response);
+    }
     @Operation(summary = "장소 상세정보 조회", description = "장소 이름과 타입, 예산을 기반으로 한줄 소개, 주소, 좌표를 포함한 상세정보를 반환합니다.")
     @PostMapping("/detail")
     public ResponseEntity<PlaceDetailResDto> getPlaceDetail(@RequestBody PlaceDetailReqDto request) {
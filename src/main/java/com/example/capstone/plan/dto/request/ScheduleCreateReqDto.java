@@ -3,6 +3,7 @@ package com.example.capstone.plan.dto.request;
 import com.example.capstone.plan.entity.City;
 import com.example.capstone.user.entity.MBTI;
 import com.example.capstone.plan.entity.PeopleGroup;
+import com.example.capstone.plan.entity.TravelTimeMode;
 import com.example.capstone.matching.entity.TravelStyle;
 import lombok.*;
 import com.fasterxml.jackson.annotation.JsonFormat;
@@ -20,4 +21,5 @@ public class ScheduleCreateReqDto {
     private TravelStyle travelStyle;   // 여행 성향 (선택)
     private PeopleGroup peopleGroup;   // 여행 인원 수
     private Long budget;
+    private TravelTimeMode timeMode;   // 이동시간 계산 방식 FAST/HYBRID/EXACT (선택, 기본 tmap.time-mode)
 }
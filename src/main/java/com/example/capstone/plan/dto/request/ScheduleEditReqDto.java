@@ -1,5 +1,6 @@
 package com.example.capstone.plan.dto.request;
 
+import com.example.capstone.plan.entity.TravelTimeMode;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -13,4 +14,5 @@ import java.util.List;
 @AllArgsConstructor
 public class ScheduleEditReqDto {
     private List<String> names;  // 해당 하루에 포함된 장소 이름들만 전달
+    private TravelTimeMode timeMode;  // 이동시간 계산 방식 (선택, 기본 tmap.time-mode)
 }
@@ -0,0 +1,18 @@
+package com.example.capstone.plan.dto.response;
+
+import com.example.capstone.plan.entity.ScheduleJobStatus;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class ScheduleJobResDto {
+    private String jobId;
+    private ScheduleJobStatus status;
+    private LocalDateTime createdAt;
+    private ScheduleCreateResDto result;   // status = DONE 일 때만
+    private String error;                  // status = FAILED 일 때만
+}
@@ -0,0 +1,7 @@
+package com.example.capstone.plan.entity;
+
+public enum ScheduleJobStatus {
+    RUNNING,   // 생성 중
+    DONE,      // 완료 (result 포함)
+    FAILED     // 실패 (error 포함)
+}
@@ -0,0 +1,27 @@
+package com.example.capstone.plan.entity;
+
+public enum TravelMode {
+    WALK("walk"),        // 도보
+    DRIVE("drive"),      // 자동차
+    TRANSIT("transit");  // 대중교통
+
+    private final String code;
+
+    TravelMode(String code) {
+        this.code = code;
+    }
+
+    // Tmap 요청 시 사용하는 모드 문자열
+    public String getCode() {
+        return code;
+    }
+
+    public static TravelMode from(String code) {
+        for (TravelMode mode : TravelMode.values()) {
+            if (mode.code.equalsIgnoreCase(code)) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException("잘못된 이동 모드: " + code);
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.capstone.plan.entity;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+/**
+ * 이동시간 계산 방식
+ */
+public enum TravelTimeMode {
+    FAST,    // 추정값만 사용 (Tmap 호출 없음)
+    HYBRID,  // 추정값으로 바로 응답, Tmap 조회는 백그라운드에서 진행 (캐시/보정용)
+    EXACT;   // Tmap 조회 결과를 기다려서 응답
+
+    @JsonCreator
+    public static TravelTimeMode from(String input) {
+        for (TravelTimeMode mode : TravelTimeMode.values()) {
+            if (mode.name().equalsIgnoreCase(input)) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException("잘못된 이동시간 계산 방식: " + input);
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.capstone.plan.exception;
+
+/**
+ * 일정 작업 큐(scheduleJobExecutor)가 가득 차 작업을 받지 못함
+ * - GlobalExceptionHandler 가 503 + Retry-After(초) 로 응답
+ */
+public class ScheduleJobRejectedException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long retryAfterMillis;
+
+    public ScheduleJobRejectedException(long retryAfterMillis, Throwable cause) {
+        super("일정 생성 요청이 많습니다. 잠시 후 다시 시도해주세요.", cause);
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    public long getRetryAfterMillis() {
+        return retryAfterMillis;
+    }
+}
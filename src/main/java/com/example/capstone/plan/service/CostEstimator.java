@@ -0,0 +1,139 @@
+package com.example.capstone.plan.service;
+
+import com.example.capstone.plan.dto.response.ScheduleCreateResDto.PlaceResponse;
+import com.example.capstone.plan.entity.City;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * 규칙 기반 예상 비용 계산 (Gemini 호출 없음)
+ * - 가격표: plan.cost.price-table (기본 classpath:cost/price-table.json)
+ * - 유형(식사/숙소/관광지/액티비티)별 기본값 → 이름, 해시태그 순으로 키워드 규칙 적용(가장 긴 키워드 우선)
+ * - 지역 보정: 시군구(City) 배율이 있으면 우선, 없으면 광역(areaCode) 배율
+ * - 결과는 1,000원 단위 반올림, 무료(0원) 규칙은 보정하지 않음
+ */
+@Slf4j
+@Component
+public class CostEstimator {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Map<String, TypePrices> prices = new HashMap<>();
+    private final Map<Integer, Double> areaMultipliers = new HashMap<>();
+    private final Map<City, Double> cityMultipliers = new EnumMap<>(City.class);
+
+    public CostEstimator(ObjectMapper objectMapper,
+                         @Value("${plan.cost.price-table:classpath:cost/price-table.json}") Resource priceTable) {
+        PriceTable table;
+        try (InputStream in = priceTable.getInputStream()) {
+            table = objectMapper.readValue(in, PriceTable.class);
+        } catch (IOException e) {
+            throw new IllegalStateException("가격표를 읽을 수 없습니다: " + priceTable, e);
+        }
+
+        table.types().forEach((type, price) -> prices.put(type, TypePrices.of(price)));
+        if (table.areaMultipliers() != null) {
+            table.areaMultipliers().forEach((areaCode, m) -> areaMultipliers.put(Integer.valueOf(areaCode), m));
+        }
+        if (table.cityMultipliers() != null) {
+            table.cityMultipliers().forEach((city, m) -> cityMultipliers.put(City.valueOf(city), m));
+        }
+        log.info("[비용 추정] 가격표 로드: 유형 {}개, 광역 배율 {}개, 시군구 배율 {}개",
+                prices.size(), areaMultipliers.size(), cityMultipliers.size());
+    }
+
+    /**
+     * 일정 전체의 estimatedCost 채우기
+     */
+    public void apply(Map<String, List<PlaceResponse>> refinedMap, City city) {
+        for (List<PlaceResponse> places : refinedMap.values()) {
+            for (PlaceResponse place : places) {
+                place.setEstimatedCost(estimate(place.getType(), place.getName(), place.getHashtag(), city));
+            }
+        }
+    }
+
+    /**
+     * 장소 하나의 1인 예상 비용 (원)
+     * - 알 수 없는 유형은 0원
+     */
+    public int estimate(String type, String name, String hashtag, City city) {
+        TypePrices typePrices = prices.get(normalizeType(type));
+        if (typePrices == null) return 0;
+
+        int cost = typePrices.match(compact(name), compact(hashtag));
+        if (cost == 0) return 0;
+
+        return (int) (Math.round(cost * multiplier(city) / 1000.0) * 1000);
+    }
+
+    private double multiplier(City city) {
+        if (city == null) return 1.0;
+        Double cityMultiplier = cityMultipliers.get(city);
+        if (cityMultiplier != null) return cityMultiplier;
+        return areaMultipliers.getOrDefault(city.getAreaCode(), 1.0);
+    }
+
+    // GPT가 쓰는 유형 표기를 가격표 키로 통일
+    private static String normalizeType(String rawType) {
+        if (rawType == null) return "";
+        return switch (rawType.trim()) {
+            case "아침", "점심", "저녁", "브런치", "식당", "meal" -> "식사";
+            case "호텔", "accommodation" -> "숙소";
+            case "활동", "activity" -> "액티비티";
+            default -> rawType.trim();
+        };
+    }
+
+    private static String compact(String s) {
+        return s == null ? "" : WHITESPACE.matcher(s).replaceAll("");
+    }
+
+    // ===== 가격표 JSON 구조 =====
+    record PriceTable(Map<String, TypePrice> types,
+                      Map<String, Double> areaMultipliers,
+                      Map<String, Double> cityMultipliers) {}
+
+    record TypePrice(int base, List<KeywordPrice> rules) {}
+
+    record KeywordPrice(List<String> keywords, int cost) {}
+
+    // 키워드를 길이 내림차순으로 펼쳐 두고, 처음 걸리는 키워드의 가격 사용
+    private record TypePrices(int base, List<Map.Entry<String, Integer>> keywords) {
+
+        static TypePrices of(TypePrice price) {
+            List<Map.Entry<String, Integer>> keywords = new ArrayList<>();
+            if (price.rules() != null) {
+                for (KeywordPrice rule : price.rules()) {
+                    for (String keyword : rule.keywords()) {
+                        keywords.add(Map.entry(compact(keyword), rule.cost()));
+                    }
+                }
+            }
+            keywords.sort(Comparator.comparingInt((Map.Entry<String, Integer> e) -> e.getKey().length()).reversed());
+            return new TypePrices(price.base(), List.copyOf(keywords));
+        }
+
+        // 실제 상호명 우선, 없으면 GPT 해시태그(지역+업종)로 판단
+        int match(String name, String hashtag) {
+            Integer cost = find(name);
+            if (cost == null) cost = find(hashtag);
+            return cost != null ? cost : base;
+        }
+
+        private Integer find(String text) {
+            for (Map.Entry<String, Integer> keyword : keywords) {
+                if (text.contains(keyword.getKey())) return keyword.getValue();
+            }
+            return null;
+        }
+    }
+}
@@ -1,65 +1,76 @@
 package com.example.capstone.plan.service;
 
+import com.example.capstone.util.gpt.GeminiPromptType;
+import com.example.capstone.util.gpt.GeminiSseReader;
+import com.example.capstone.util.http.Upstream;
+import com.example.capstone.util.http.UpstreamRestTemplates;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
 
-import java.time.Duration;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
 
 @Component
 @RequiredArgsConstructor
 public class GeminiClient {
 
+    // 키 순서를 고정해 두어야 노드마다 같은 캐시 키가 나옴
+    private static final Map<String, Object> GENERATION_CONFIG = Collections.unmodifiableMap(new TreeMap<>(Map.of(
+            "responseMimeType", "application/json",
+            "temperature", 0.2
+    )));
+
     @Value("${gemini.api-key}")
     private String apiKey;
 
     @Value("${gemini.model:gemini-2.5-flash-lite}")
     private String model;
 
+    @Value("${gemini.fallback-model:}")
+    private String fallbackModel;
+
+    // 테스트/부하 테스트에서 로컬 스텁 서버로 바꿀 수 있도록 분리
+    @Value("${gemini.base-url:https://generativelanguage.googleapis.com}")
+    private String baseUrl;
+
     private final ObjectMapper objectMapper;
-    private final RestTemplateBuilder restTemplateBuilder;
+    private final UpstreamRestTemplates upstreamRestTemplates;
+    private final GeminiResponseCache responseCache;
+    private final GeminiResilience resilience;
 
     /**
      * 프롬프트를 보내고 Gemini가 반환한 JSON 문자열을 그대로 돌려줌.
-     * - 동기 방식 (RestTemplate)
+     * - 동기 방식 (RestTemplate, 업스트림 공용 커넥션 풀 사용)
+     * - 서킷 브레이커 / 재시도 / 헤지 요청 / 보조 모델 전환은 GeminiResilience 에서 처리
      * - 오류 발생 시 Gemini의 실제 응답 본문을 포함한 예외 메시지 반환
      */
     public String callGemini(String prompt) {
-        RestTemplate restTemplate = restTemplateBuilder
-                .setConnectTimeout(Duration.ofSeconds(10))  // 연결 타임아웃
-                .setReadTimeout(Duration.ofSeconds(60))    // 응답 타임아웃
-                .build();
+        return resilience.execute(model, fallbackModel, m -> invoke(m, prompt)).text();
+    }
 
-        try {
-            // 요청 JSON 본문 구성
-            String requestBody = objectMapper.writeValueAsString(
-                    Map.of(
-                            "contents", new Object[]{
-                                    Map.of("parts", new Object[]{
-                                            Map.of("text", prompt)
-                                    })
-                            },
-                            "generationConfig", Map.of(
-                                    "responseMimeType", "application/json",
-                                    "temperature", 0.2
-                            )
-                    )
-            );
+    // 모델 하나에 대한 단일 호출 (재시도 없음)
+    private String invoke(String model, String prompt) {
+        RestTemplate restTemplate = upstreamRestTemplates.get(Upstream.GEMINI);
 
+        try {
             // HTTP 헤더 설정
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
-            HttpEntity<String> entity = new HttpEntity<>(requestBody, headers);
+            HttpEntity<String> entity = new HttpEntity<>(requestBody(prompt), headers);
 
             ResponseEntity<String> response = restTemplate.exchange(
-                    "https://generativelanguage.googleapis.com/v1beta/models/" + model + ":generateContent?key=" + apiKey,
+                    baseUrl + "/v1beta/models/" + model + ":generateContent?key=" + apiKey,
                     HttpMethod.POST,
                     entity,
                     String.class
@@ -121,6 +132,68 @@ public class GeminiClient {
         }
     }
 
+    /**
+     * 스트리밍 호출 (streamGenerateContent, SSE)
+     * - 생성되는 텍스트 조각을 도착 순서대로 onText 로 전달 (코드펜스 제거 등 후처리 없음)
+     * - 일부를 이미 전달한 뒤에는 다시 시도할 수 없으므로 재시도/헤지/보조 모델 전환 없음
+     * - GeminiResilience 의 서킷 브레이커는 적용 (열려 있으면 호출 없이 실패, 결과는 실패율에 반영)
+     *   · 실패 시 예외, 호출자가 callGemini 로 대체
+     */
+    public void streamGemini(String prompt, Consumer<String> onText) {
+        resilience.stream(model, m -> invokeStream(m, prompt, onText));
+    }
+
+    // 모델 하나에 대한 단일 스트리밍 호출
+    private void invokeStream(String model, String prompt, Consumer<String> onText) {
+        RestTemplate restTemplate = upstreamRestTemplates.get(Upstream.GEMINI);
+        String url = baseUrl + "/v1beta/models/" + model + ":streamGenerateContent?alt=sse&key=" + apiKey;
+
+        try {
+            String body = requestBody(prompt);
+            Long length = restTemplate.execute(url, HttpMethod.POST,
+                    request -> {
+                        request.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                        request.getHeaders().setAccept(List.of(MediaType.TEXT_EVENT_STREAM));
+                        request.getBody().write(body.getBytes(StandardCharsets.UTF_8));
+                    },
+                    response -> GeminiSseReader.read(response.getBody(), objectMapper, onText));
+            if (length == null || length == 0) {
+                throw new RuntimeException("Gemini 스트리밍 응답이 비어 있습니다.");
+            }
+        } catch (HttpStatusCodeException e) {
+            throw new RuntimeException(String.format("Gemini 스트리밍 호출 실패\n상태코드: %s\n에러본문: %s",
+                    e.getStatusCode(), e.getResponseBodyAsString()), e);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("Gemini 스트리밍 처리 중 예외 발생: " + e.getMessage(), e);
+        }
+    }
+
+    private String requestBody(String prompt) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(
+                Map.of(
+                        "contents", new Object[]{
+                                Map.of("parts", new Object[]{
+                                        Map.of("text", prompt)
+                                })
+                        },
+                        "generationConfig", GENERATION_CONFIG
+                )
+        );
+    }
+
+    /**
+     * 응답 캐시를 사용하는 호출 (입력이 같으면 결과도 같은 프롬프트 전용)
+     * - 키: 모델 + generationConfig + 프롬프트 해시, TTL은 프롬프트 유형별
+     * - 실패한 호출은 캐시하지 않음
+     * - 보조 모델이 대신 응답했으면 짧은 TTL 로만 저장 (GeminiResponseCache)
+     */
+    public String callGemini(String prompt, GeminiPromptType type) {
+        return responseCache.get(type, model, GENERATION_CONFIG.toString(), prompt,
+                () -> resilience.execute(model, fallbackModel, m -> invoke(m, prompt)));
+    }
+
     /**
      * JsonNode로 직접 받고 싶을 때 사용
      */
@@ -134,9 +207,9 @@ public class GeminiClient {
     }
 
     /**
-     * 백틱, 코드펜스 제거 후 JSON만 추출
+     * 백틱, 코드펜스 제거 후 JSON만 추출 (벤치마크에서 직접 호출하므로 package-private)
      */
-    private String extractJsonBlock(String raw) {
+    static String extractJsonBlock(String raw) {
         if (raw == null) return null;
         String s = raw.trim();
 
@@ -0,0 +1,332 @@
+package com.example.capstone.plan.service;
+
+import com.example.capstone.util.resilience.CircuitBreaker;
+import com.example.capstone.util.resilience.LatencyTracker;
+import com.example.capstone.util.resilience.RetryBudget;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Gemini 호출 안정화 (서킷 브레이커 / 재시도 / 헤지 요청 / 보조 모델 전환)
+ * - 모델별 서킷 브레이커: 주 모델이 열려 있으면 보조 모델(gemini.fallback-model)로 바로 전환
+ * - 재시도: 일시적 오류(5xx, 429, 타임아웃, 연결 실패)만, 지수 백오프 + full jitter, 재시도 예산 안에서만
+ *   · 보조 모델이 있으면 재시도는 보조 모델로 보냄
+ * - 헤지 요청: 응답이 max(p95, hedge.min-delay) 보다 늦으면 같은 요청을 한 번 더 보내고 먼저 성공한 응답 사용
+ *   · 보조 모델이 있으면 헤지 요청은 보조 모델로 보냄
+ * - 결과(Answer)에 실제로 응답한 모델을 함께 돌려줌 → 호출자가 보조 모델 응답을 구분 (예: 캐시 TTL)
+ * - 스트리밍(stream): 일부를 이미 전달한 뒤에는 다시 보낼 수 없으므로 서킷 브레이커만 적용
+ *   · 서킷이 열려 있으면 호출 없이 CircuitOpenException → 호출자가 일괄 응답(execute)으로 전환
+ *   · 스트림 결과도 같은 모델의 서킷 실패율에 반영 (응답 시간은 헤지 기준에 넣지 않음)
+ *
+ * 설정 (gemini.resilience.*)
+ * - retry.max-attempts, retry.base-delay, retry.max-delay, retry.budget-ratio, retry.min-per-second
+ * - circuit.window-size, circuit.min-calls, circuit.failure-rate, circuit.open-duration, circuit.half-open-calls
+ * - hedge.enabled, hedge.percentile, hedge.min-delay
+ *
+ * 메트릭
+ * - gemini.calls{model, outcome=success|failure} (응답 시간)
+ * - gemini.retries{model}, gemini.retry.budget.exhausted
+ * - gemini.circuit.state{model} (0 닫힘, 1 열림, 2 반열림), gemini.circuit.rejected{model}
+ * - gemini.hedges{model, winner=primary|hedge}, gemini.fallbacks{reason=circuit-open|retry}
+ */
+@Slf4j
+@Component
+public class GeminiResilience {
+
+    private final ThreadPoolTaskExecutor geminiHedgeExecutor;
+    private final MeterRegistry meterRegistry;
+
+    private final int maxAttempts;
+    private final Duration baseDelay;
+    private final Duration maxDelay;
+    private final int circuitWindowSize;
+    private final int circuitMinCalls;
+    private final double circuitFailureRate;
+    private final Duration circuitOpenDuration;
+    private final int circuitHalfOpenCalls;
+    private final boolean hedgeEnabled;
+    private final double hedgePercentile;
+    private final Duration hedgeMinDelay;
+
+    private final RetryBudget retryBudget;
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+    private final Map<String, LatencyTracker> latencies = new ConcurrentHashMap<>();
+    private final Counter budgetExhausted;
+
+    public GeminiResilience(ThreadPoolTaskExecutor geminiHedgeExecutor,
+                            MeterRegistry meterRegistry,
+                            @Value("${gemini.resilience.retry.max-attempts:3}") int maxAttempts,
+                            @Value("${gemini.resilience.retry.base-delay:300ms}") Duration baseDelay,
+                            @Value("${gemini.resilience.retry.max-delay:3s}") Duration maxDelay,
+                            @Value("${gemini.resilience.retry.budget-ratio:0.2}") double budgetRatio,
+                            @Value("${gemini.resilience.retry.min-per-second:1}") double minRetriesPerSecond,
+                            @Value("${gemini.resilience.circuit.window-size:20}") int circuitWindowSize,
+                            @Value("${gemini.resilience.circuit.min-calls:10}") int circuitMinCalls,
+                            @Value("${gemini.resilience.circuit.failure-rate:0.5}") double circuitFailureRate,
+                            @Value("${gemini.resilience.circuit.open-duration:30s}") Duration circuitOpenDuration,
+                            @Value("${gemini.resilience.circuit.half-open-calls:2}") int circuitHalfOpenCalls,
+                            @Value("${gemini.resilience.hedge.enabled:true}") boolean hedgeEnabled,
+                            @Value("${gemini.resilience.hedge.percentile:0.95}") double hedgePercentile,
+                            @Value("${gemini.resilience.hedge.min-delay:5s}") Duration hedgeMinDelay) {
+        this.geminiHedgeExecutor = geminiHedgeExecutor;
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.baseDelay = baseDelay;
+        this.maxDelay = maxDelay;
+        this.circuitWindowSize = circuitWindowSize;
+        this.circuitMinCalls = circuitMinCalls;
+        this.circuitFailureRate = circuitFailureRate;
+        this.circuitOpenDuration = circuitOpenDuration;
+        this.circuitHalfOpenCalls = circuitHalfOpenCalls;
+        this.hedgeEnabled = hedgeEnabled;
+        this.hedgePercentile = hedgePercentile;
+        this.hedgeMinDelay = hedgeMinDelay;
+        this.retryBudget = new RetryBudget(budgetRatio, minRetriesPerSecond);
+        this.budgetExhausted = meterRegistry.counter("gemini.retry.budget.exhausted");
+    }
+
+    /**
+     * call(모델명) 을 안정화 정책에 따라 실행
+     * - fallbackModel 이 비어 있거나 primaryModel 과 같으면 보조 모델 전환 없음
+     * - 재시도/헤지/서킷 전환으로 보조 모델이 응답했으면 Answer.model 이 보조 모델
+     */
+    public Answer execute(String primaryModel, String fallbackModel, Function<String, String> call) {
+        String secondary = fallbackModel != null && !fallbackModel.isBlank() && !fallbackModel.equals(primaryModel)
+                ? fallbackModel : null;
+        retryBudget.onRequest();
+
+        RuntimeException lastError = null;
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            String model = primaryModel;
+            if (attempt > 1) {
+                if (!retryBudget.tryRetry()) {
+                    budgetExhausted.increment();
+                    break;
+                }
+                if (secondary != null) {
+                    model = secondary;
+                    meterRegistry.counter("gemini.fallbacks", "reason", "retry").increment();
+                }
+                meterRegistry.counter("gemini.retries", "model", model).increment();
+                sleep(backoff(attempt));
+            }
+            if (model.equals(primaryModel) && secondary != null && breaker(primaryModel).state() == CircuitBreaker.State.OPEN) {
+                model = secondary;
+                meterRegistry.counter("gemini.fallbacks", "reason", "circuit-open").increment();
+            }
+
+            try {
+                return hedged(model, secondary != null ? secondary : model, call);
+            } catch (RuntimeException e) {
+                lastError = e;
+                if (!isRetryable(e)) throw e;
+                log.warn("[Gemini] {} 호출 실패 ({}회차/{}): {}", model, attempt, maxAttempts, e.getMessage());
+            }
+        }
+        throw lastError != null ? lastError : new RuntimeException("Gemini 호출 재시도 한도 초과");
+    }
+
+    /**
+     * 스트리밍 호출 한 번을 서킷 브레이커 아래에서 실행 (재시도/헤지/보조 모델 전환 없음)
+     */
+    public void stream(String model, Consumer<String> call) {
+        CircuitBreaker breaker = acquire(model);
+        long startedAt = System.nanoTime();
+        try {
+            call.accept(model);
+            breaker.onSuccess();
+            timer(model, "success").record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        } catch (RuntimeException e) {
+            onCallFailure(breaker, model, e, startedAt);
+            throw e;
+        }
+    }
+
+    // 응답이 늦으면 hedgeModel 로 한 번 더 요청, 먼저 성공한 응답 사용
+    private Answer hedged(String model, String hedgeModel, Function<String, String> call) {
+        if (!hedgeEnabled) return callWithBreaker(model, call);
+
+        CompletableFuture<Answer> first;
+        try {
+            first = CompletableFuture.supplyAsync(() -> callWithBreaker(model, call), geminiHedgeExecutor);
+        } catch (TaskRejectedException e) {
+            return callWithBreaker(model, call);
+        }
+
+        try {
+            return first.get(hedgeDelayMillis(model), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 기준 시간 초과 → 헤지 요청
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Gemini 호출 대기 중 인터럽트", e);
+        }
+
+        CompletableFuture<Answer> second;
+        try {
+            second = CompletableFuture.supplyAsync(() -> callWithBreaker(hedgeModel, call), geminiHedgeExecutor);
+        } catch (TaskRejectedException e) {
+            return await(first);
+        }
+
+        CompletableFuture<Answer> winner = new CompletableFuture<>();
+        AtomicInteger remaining = new AtomicInteger(2);
+        first.whenComplete((result, error) -> settle(winner, remaining, result, error, model, "primary"));
+        second.whenComplete((result, error) -> settle(winner, remaining, result, error, model, "hedge"));
+        return await(winner);
+    }
+
+    private void settle(CompletableFuture<Answer> winner, AtomicInteger remaining,
+                        Answer result, Throwable error, String model, String label) {
+        if (error == null) {
+            if (winner.complete(result)) {
+                meterRegistry.counter("gemini.hedges", "model", model, "winner", label).increment();
+            }
+        } else if (remaining.decrementAndGet() == 0) {
+            winner.completeExceptionally(error);
+        }
+    }
+
+    private Answer callWithBreaker(String model, Function<String, String> call) {
+        CircuitBreaker breaker = acquire(model);
+        long startedAt = System.nanoTime();
+        try {
+            String result = call.apply(model);
+            breaker.onSuccess();
+            long elapsed = System.nanoTime() - startedAt;
+            latency(model).record(elapsed / 1_000_000);
+            timer(model, "success").record(elapsed, TimeUnit.NANOSECONDS);
+            return new Answer(model, result);
+        } catch (RuntimeException e) {
+            onCallFailure(breaker, model, e, startedAt);
+            throw e;
+        }
+    }
+
+    // 서킷이 허용하지 않으면 CircuitOpenException
+    private CircuitBreaker acquire(String model) {
+        CircuitBreaker breaker = breaker(model);
+        if (!breaker.tryAcquire()) {
+            meterRegistry.counter("gemini.circuit.rejected", "model", model).increment();
+            throw new CircuitOpenException(model);
+        }
+        return breaker;
+    }
+
+    private void onCallFailure(CircuitBreaker breaker, String model, RuntimeException e, long startedAt) {
+        if (isRetryable(e)) {
+            breaker.onFailure();
+        } else {
+            breaker.onIgnored();
+        }
+        timer(model, "failure").record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private long hedgeDelayMillis(String model) {
+        long p = latency(model).percentile(hedgePercentile);
+        return Math.max(hedgeMinDelay.toMillis(), p);
+    }
+
+    private Duration backoff(int attempt) {
+        long cap = Math.min(maxDelay.toMillis(), baseDelay.toMillis() << Math.min(attempt - 2, 16));
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(cap + 1));
+    }
+
+    private CircuitBreaker breaker(String model) {
+        return breakers.computeIfAbsent(model, m -> {
+            CircuitBreaker breaker = new CircuitBreaker(circuitWindowSize, circuitMinCalls, circuitFailureRate,
+                    circuitOpenDuration, circuitHalfOpenCalls);
+            Gauge.builder("gemini.circuit.state", breaker, b -> b.state().ordinal())
+                    .tag("model", m)
+                    .register(meterRegistry);
+            return breaker;
+        });
+    }
+
+    private LatencyTracker latency(String model) {
+        return latencies.computeIfAbsent(model, m -> new LatencyTracker(200, 20));
+    }
+
+    private Timer timer(String model, String outcome) {
+        return Timer.builder("gemini.calls")
+                .tag("model", model)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    // 일시적인 오류만 재시도 / 서킷 실패로 집계
+    private static boolean isRetryable(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof CircuitOpenException) return true;
+            if (t instanceof HttpStatusCodeException http) {
+                int status = http.getStatusCode().value();
+                return status >= 500 || status == 429 || status == 408;
+            }
+            if (t instanceof ResourceAccessException || t instanceof IOException || t instanceof TimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Answer await(CompletableFuture<Answer> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private static RuntimeException unwrap(Exception e) {
+        Throwable cause = e.getCause() != null ? e.getCause() : e;
+        return cause instanceof RuntimeException re ? re : new RuntimeException(cause.getMessage(), cause);
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Gemini 재시도 대기 중 인터럽트", e);
+        }
+    }
+
+    /**
+     * 호출 결과와 실제로 응답한 모델
+     */
+    public record Answer(String model, String text) {
+        public boolean servedBy(String model) {
+            return this.model.equals(model);
+        }
+    }
+
+    /**
+     * 서킷이 열려 있어 호출하지 않음
+     */
+    public static class CircuitOpenException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        public CircuitOpenException(String model) {
+            super("Gemini 서킷 열림: " + model);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.capstone.plan.service;
+
+import com.example.capstone.plan.service.GeminiResilience.Answer;
+import com.example.capstone.util.cache.TieredCache;
+import com.example.capstone.util.gpt.GeminiPromptType;
+import com.example.capstone.util.hash.HashUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Gemini 응답 캐시 (프롬프트 유형별)
+ * - 키: sha256(모델 + generationConfig + 프롬프트)
+ * - L1: 프로세스 내 캐시, L2: Redis (노드 간 공유)
+ * - 유형별 적중률: cache.tier.requests{cache=gemini-{유형}}
+ * - 유형별 실제 호출 시간: gemini.cache.load{type} → 적중 수 × 평균 호출 시간 = 절약된 시간
+ * - 보조 모델이 대신 응답한 결과는 fallback-ttl 동안만 보관 (0 이면 저장 안 함)
+ *   · 키는 주 모델 기준이므로 유형별 TTL(최대 수십 일)로 저장하면 주 모델 복구 후에도 보조 모델 응답이 계속 나감
+ *
+ * 설정 (gemini.cache.*)
+ * - enabled, local-max-size, {유형}.ttl, fallback-ttl
+ *
+ * 메트릭
+ * - gemini.cache.fallback{type}: 보조 모델 응답이라 짧은 TTL 로 저장한 횟수
+ */
+@Component
+public class GeminiResponseCache {
+
+    private final boolean enabled;
+    private final Map<GeminiPromptType, TieredCache<String>> caches = new EnumMap<>(GeminiPromptType.class);
+    private final Map<GeminiPromptType, Duration> ttls = new EnumMap<>(GeminiPromptType.class);
+    private final Map<GeminiPromptType, Timer> loadTimers = new EnumMap<>(GeminiPromptType.class);
+    private final Map<GeminiPromptType, Counter> fallbackCounters = new EnumMap<>(GeminiPromptType.class);
+    private final Duration fallbackTtl;
+
+    public GeminiResponseCache(RedisTemplate<String, String> redisTemplate,
+                               MeterRegistry meterRegistry,
+                               Environment env) {
+        this.enabled = env.getProperty("gemini.cache.enabled", Boolean.class, true);
+        long localMaxSize = env.getProperty("gemini.cache.local-max-size", Long.class, 2000L);
+        this.fallbackTtl = env.getProperty("gemini.cache.fallback-ttl", Duration.class, Duration.ofMinutes(5));
+
+        for (GeminiPromptType type : GeminiPromptType.values()) {
+            caches.put(type, new TieredCache<>("gemini-" + type.getKey(), localMaxSize, redisTemplate,
+                    Function.identity(), Function.identity(), meterRegistry));
+            ttls.put(type, env.getProperty("gemini.cache." + type.getKey() + ".ttl", Duration.class, type.getDefaultTtl()));
+            loadTimers.put(type, Timer.builder("gemini.cache.load")
+                    .description("캐시 미스로 실제 Gemini를 호출한 시간")
+                    .tag("type", type.getKey())
+                    .register(meterRegistry));
+            fallbackCounters.put(type, Counter.builder("gemini.cache.fallback")
+                    .description("보조 모델 응답이라 짧은 TTL 로 저장한 횟수")
+                    .tag("type", type.getKey())
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 캐시 조회 → 없으면 loader(Gemini 호출) 결과 저장
+     * - 비활성화 상태면 항상 loader 호출
+     * - loader 결과를 model 이 아닌 보조 모델이 응답했으면 fallback-ttl 로 저장
+     */
+    public String get(GeminiPromptType type, String model, String generationConfig, String prompt, Supplier<Answer> loader) {
+        if (!enabled) {
+            return loader.get().text();
+        }
+        Timer loadTimer = loadTimers.get(type);
+        // 이번 호출에서 새로 불러온 값의 TTL (L2 적중 값은 유형별 TTL, 남은 TTL 이하로 L1 승격)
+        AtomicReference<Duration> ttl = new AtomicReference<>(ttls.get(type));
+        return caches.get(type).get(
+                key(model, generationConfig, prompt),
+                response -> response.isBlank() ? Duration.ZERO : ttl.get(),
+                () -> {
+                    Answer answer = loadTimer.record(loader);
+                    if (answer != null && !answer.servedBy(model)) {
+                        ttl.set(fallbackTtl);
+                        fallbackCounters.get(type).increment();
+                    }
+                    return answer != null ? answer.text() : null;
+                }
+        );
+    }
+
+    private String key(String model, String generationConfig, String prompt) {
+        return HashUtils.sha256Hex(model + "\n" + generationConfig + "\n" + prompt);
+    }
+}
@@ -2,52 +2,79 @@ package com.example.capstone.plan.service;
 
 import com.example.capstone.plan.dto.common.KakaoPlaceDto;
 import com.example.capstone.plan.entity.City;
+import com.example.capstone.util.concurrent.SingleFlight;
+import com.example.capstone.util.http.Upstream;
+import com.example.capstone.util.http.UpstreamRestTemplates;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
-import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 @Component
-@RequiredArgsConstructor
 public class KakaoMapClient {
 
     @Value("${kakao.api.key}")
     private String kakaoApiKey;
 
+    // 부하 테스트 시 로컬 대체 서버로 교체 (loadtest 프로필)
+    @Value("${kakao.api.base-url:https://dapi.kakao.com}")
+    private String baseUrl;
+
     private final ObjectMapper objectMapper;
-    private final RestTemplateBuilder restTemplateBuilder;
+    private final UpstreamRestTemplates upstreamRestTemplates;
+    private final KakaoPlaceCache kakaoPlaceCache;
+
+    // 같은 URL 동시 요청은 한 번만 호출 (키: 요청 URL)
+    private final SingleFlight<String, JsonNode> singleFlight;
+
+    public KakaoMapClient(ObjectMapper objectMapper,
+                          UpstreamRestTemplates upstreamRestTemplates,
+                          KakaoPlaceCache kakaoPlaceCache,
+                          MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.upstreamRestTemplates = upstreamRestTemplates;
+        this.kakaoPlaceCache = kakaoPlaceCache;
+        this.singleFlight = new SingleFlight<>("kakao", Function.identity(), meterRegistry);
+    }
 
+    // 업스트림 공용 커넥션 풀 사용 (upstream.http.kakao.*)
     private RestTemplate getRestTemplate() {
-        return restTemplateBuilder
-                .setConnectTimeout(Duration.ofSeconds(5))
-                .setReadTimeout(Duration.ofSeconds(10))
-                .build();
+        return upstreamRestTemplates.get(Upstream.KAKAO);
+    }
+
+    // Kakao GET 요청 → documents 노드 (없으면 null), 응답 노드는 동시 호출자끼리 공유하므로 읽기 전용으로 사용
+    private JsonNode fetchDocuments(String url) {
+        return singleFlight.execute(url, u -> {
+            HttpHeaders headers = new HttpHeaders();
+            headers.set("Authorization", "KakaoAK " + kakaoApiKey);
+            HttpEntity<Void> entity = new HttpEntity<>(headers);
+
+            ResponseEntity<String> response = getRestTemplate()
+                    .exchange(u, HttpMethod.GET, entity, String.class);
+            try {
+                return objectMapper.readTree(response.getBody()).get("documents");
+            } catch (Exception e) {
+                throw new RuntimeException("KakaoMap 응답 파싱 실패", e);
+            }
+        });
     }
 
     // 위도경도 → City enum
     public City getCityFromLatLng(double lat, double lng) {
         try {
             String url = String.format(
-                    "https://dapi.kakao.com/v2/local/geo/coord2regioncode.json?x=%f&y=%f",
+                    baseUrl + "/v2/local/geo/coord2regioncode.json?x=%f&y=%f",
                     lng, lat
             );
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Authorization", "KakaoAK " + kakaoApiKey);
-            HttpEntity<Void> entity = new HttpEntity<>(headers);
-
-            ResponseEntity<String> response = getRestTemplate()
-                    .exchange(url, HttpMethod.GET, entity, String.class);
-
-            JsonNode documents = objectMapper.readTree(response.getBody()).get("documents");
+            JsonNode documents = fetchDocuments(url);
             if (documents != null && documents.size() > 0) {
                 String region2 = documents.get(0).path("region_2depth_name").asText();
                 for (City city : City.values()) {
@@ -76,22 +103,20 @@ public class KakaoMapClient {
         return searchPlaceWithCategory(keyword, null);
     }
 
-    // 단일 장소 검색
+    // 단일 장소 검색 (KakaoPlaceCache 경유)
     public KakaoPlaceDto searchPlaceWithCategory(String keyword, String categoryCode) {
+        return kakaoPlaceCache.getPlace(keyword, categoryCode, null, null,
+                () -> requestPlaceWithCategory(keyword, categoryCode));
+    }
+
+    private KakaoPlaceDto requestPlaceWithCategory(String keyword, String categoryCode) {
         try {
-            String url = "https://dapi.kakao.com/v2/local/search/keyword.json?query=" + keyword;
+            String url = baseUrl + "/v2/local/search/keyword.json?query=" + keyword;
             if (categoryCode != null && !categoryCode.isBlank()) {
                 url += "&category_group_code=" + categoryCode;
             }
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Authorization", "KakaoAK " + kakaoApiKey);
-            HttpEntity<Void> entity = new HttpEntity<>(headers);
-
-            ResponseEntity<String> response = getRestTemplate()
-                    .exchange(url, HttpMethod.GET, entity, String.class);
-
-            JsonNode documents = objectMapper.readTree(response.getBody()).get("documents");
+            JsonNode documents = fetchDocuments(url);
 
             if (documents != null && documents.size() > 0) {
                 for (JsonNode doc : documents) {
@@ -108,22 +133,20 @@ public class KakaoMapClient {
         return null;
     }
 
-    // 다중 장소 검색
+    // 다중 장소 검색 (KakaoPlaceCache 경유)
     public List<KakaoPlaceDto> searchPlacesWithCategory(String keyword, String categoryCode) {
+        return kakaoPlaceCache.getPlaces(keyword, categoryCode,
+                () -> requestPlacesWithCategory(keyword, categoryCode));
+    }
+
+    private List<KakaoPlaceDto> requestPlacesWithCategory(String keyword, String categoryCode) {
         try {
-            String url = "https://dapi.kakao.com/v2/local/search/keyword.json?query=" + keyword;
+            String url = baseUrl + "/v2/local/search/keyword.json?query=" + keyword;
             if (categoryCode != null && !categoryCode.isBlank()) {
                 url += "&category_group_code=" + categoryCode;
             }
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Authorization", "KakaoAK " + kakaoApiKey);
-            HttpEntity<Void> entity = new HttpEntity<>(headers);
-
-            ResponseEntity<String> response = getRestTemplate()
-                    .exchange(url, HttpMethod.GET, entity, String.class);
-
-            JsonNode documents = objectMapper.readTree(response.getBody()).get("documents");
+            JsonNode documents = fetchDocuments(url);
             List<KakaoPlaceDto> result = new ArrayList<>();
 
             if (documents != null && documents.size() > 0) {
@@ -143,18 +166,11 @@ public class KakaoMapClient {
     public List<KakaoPlaceDto> searchPlacesByCategory(double lat, double lng, String categoryCode) {
         try {
             String url = String.format(
-                    "https://dapi.kakao.com/v2/local/search/category.json?category_group_code=%s&x=%f&y=%f&radius=5000&sort=distance",
+                    baseUrl + "/v2/local/search/category.json?category_group_code=%s&x=%f&y=%f&radius=5000&sort=distance",
                     categoryCode, lng, lat
             );
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Authorization", "KakaoAK " + kakaoApiKey);
-            HttpEntity<Void> entity = new HttpEntity<>(headers);
-
-            ResponseEntity<String> response = getRestTemplate()
-                    .exchange(url, HttpMethod.GET, entity, String.class);
-
-            JsonNode documents = objectMapper.readTree(response.getBody()).get("documents");
+            JsonNode documents = fetchDocuments(url);
             List<KakaoPlaceDto> result = new ArrayList<>();
 
             if (documents != null && documents.size() > 0) {
@@ -183,18 +199,11 @@ public class KakaoMapClient {
     public List<KakaoPlaceDto> searchTopPlacesByCategory(double lat, double lng, String categoryCode, int limit) {
         try {
             String url = String.format(
-                    "https://dapi.kakao.com/v2/local/search/category.json?category_group_code=%s&x=%f&y=%f&radius=5000&sort=distance",
+                    baseUrl + "/v2/local/search/category.json?category_group_code=%s&x=%f&y=%f&radius=5000&sort=distance",
                     categoryCode, lng, lat
             );
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Authorization", "KakaoAK " + kakaoApiKey);
-            HttpEntity<Void> entity = new HttpEntity<>(headers);
-
-            ResponseEntity<String> response = getRestTemplate()
-                    .exchange(url, HttpMethod.GET, entity, String.class);
-
-            JsonNode documents = objectMapper.readTree(response.getBody()).get("documents");
+            JsonNode documents = fetchDocuments(url);
             List<KakaoPlaceDto> result = new ArrayList<>();
 
             if (documents != null && documents.size() > 0) {
@@ -210,21 +219,20 @@ public class KakaoMapClient {
             throw new RuntimeException("KakaoMap 재조회 전용 검색 오류", e);
         }
     }
+    // 좌표 주변 키워드 검색 (KakaoPlaceCache 경유)
     public KakaoPlaceDto searchPlaceByCoordinate(String keyword, double lat, double lng) {
+        return kakaoPlaceCache.getPlace(keyword, null, lat, lng,
+                () -> requestPlaceByCoordinate(keyword, lat, lng));
+    }
+
+    private KakaoPlaceDto requestPlaceByCoordinate(String keyword, double lat, double lng) {
         try {
             String url = String.format(
-                    "https://dapi.kakao.com/v2/local/search/keyword.json?query=%s&x=%f&y=%f&radius=1000",
+                    baseUrl + "/v2/local/search/keyword.json?query=%s&x=%f&y=%f&radius=1000",
                     keyword, lng, lat
             );
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Authorization", "KakaoAK " + kakaoApiKey);
-            HttpEntity<Void> entity = new HttpEntity<>(headers);
-
-            ResponseEntity<String> response = getRestTemplate()
-                    .exchange(url, HttpMethod.GET, entity, String.class);
-
-            JsonNode documents = objectMapper.readTree(response.getBody()).get("documents");
+            JsonNode documents = fetchDocuments(url);
 
             if (documents != null && documents.size() > 0) {
                 return extractPlaceFromJson(documents.get(0)); // 첫 결과 반환
@@ -0,0 +1,112 @@
+package com.example.capstone.plan.service;
+
+import com.example.capstone.plan.dto.common.KakaoPlaceDto;
+import com.example.capstone.util.cache.TieredCache;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Kakao 키워드 검색 결과 캐시
+ * - L1: 프로세스 내 캐시(크기 제한), L2: Redis (노드 간 공유, 사전 적재 결과를 모든 노드가 사용)
+ * - 키: 정규화된 키워드 + 카테고리 코드 + (선택) 좌표
+ * - "검색 결과 없음"도 짧은 TTL로 저장 → 같은 fallback 키워드로 반복 호출 방지
+ * - 적중/미스/제거 통계는 cache.* 메트릭(cache=kakao-place, kakao-places)으로 노출
+ */
+@Component
+public class KakaoPlaceCache {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final TypeReference<List<KakaoPlaceDto>> PLACE_LIST = new TypeReference<>() {};
+
+    private final TieredCache<Optional<KakaoPlaceDto>> placeCache;
+    private final TieredCache<List<KakaoPlaceDto>> placesCache;
+    private final Duration ttl;
+    private final Duration negativeTtl;
+
+    public KakaoPlaceCache(RedisTemplate<String, String> redisTemplate,
+                           ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry,
+                           @Value("${kakao.cache.max-size:10000}") long maxSize,
+                           @Value("${kakao.cache.ttl:6h}") Duration ttl,
+                           @Value("${kakao.cache.negative-ttl:10m}") Duration negativeTtl) {
+        this.ttl = ttl;
+        this.negativeTtl = negativeTtl;
+        this.placeCache = new TieredCache<>("kakao-place", maxSize, redisTemplate,
+                place -> toJson(objectMapper, place.orElse(null)),
+                json -> Optional.ofNullable(fromJson(objectMapper, json, KakaoPlaceDto.class)),
+                meterRegistry);
+        this.placesCache = new TieredCache<>("kakao-places", maxSize, redisTemplate,
+                places -> toJson(objectMapper, places),
+                json -> List.copyOf(fromJson(objectMapper, json, PLACE_LIST)),
+                meterRegistry);
+    }
+
+    // 단일 장소 검색 결과 (없으면 null)
+    public KakaoPlaceDto getPlace(String keyword, String categoryCode, Double lat, Double lng, Supplier<KakaoPlaceDto> loader) {
+        return placeCache.get(
+                key(keyword, categoryCode, lat, lng),
+                result -> result.isPresent() ? ttl : negativeTtl,
+                () -> Optional.ofNullable(loader.get())
+        ).orElse(null);
+    }
+
+    // 다중 장소 검색 결과 (없으면 빈 리스트)
+    public List<KakaoPlaceDto> getPlaces(String keyword, String categoryCode, Supplier<List<KakaoPlaceDto>> loader) {
+        return placesCache.get(
+                key(keyword, categoryCode, null, null),
+                result -> result.isEmpty() ? negativeTtl : ttl,
+                () -> List.copyOf(loader.get())
+        );
+    }
+
+    private String key(String keyword, String categoryCode, Double lat, Double lng) {
+        StringBuilder sb = new StringBuilder(normalize(keyword))
+                .append('|')
+                .append(categoryCode == null ? "" : categoryCode);
+        if (lat != null && lng != null) {
+            // 소수점 4자리 ≈ 10m
+            sb.append('|').append(String.format(Locale.ROOT, "%.4f,%.4f", lat, lng));
+        }
+        return sb.toString();
+    }
+
+    private static String toJson(ObjectMapper objectMapper, Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (Exception e) {
+            throw new RuntimeException("Kakao 캐시 직렬화 실패", e);
+        }
+    }
+
+    private static <T> T fromJson(ObjectMapper objectMapper, String json, Class<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (Exception e) {
+            throw new RuntimeException("Kakao 캐시 역직렬화 실패", e);
+        }
+    }
+
+    private static <T> T fromJson(ObjectMapper objectMapper, String json, TypeReference<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (Exception e) {
+            throw new RuntimeException("Kakao 캐시 역직렬화 실패", e);
+        }
+    }
+
+    private String normalize(String keyword) {
+        if (keyword == null) return "";
+        return WHITESPACE.matcher(keyword.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+}
@@ -2,6 +2,7 @@ package com.example.capstone.plan.service;
 
 import com.example.capstone.plan.dto.request.PlaceDetailReqDto;
 import com.example.capstone.plan.dto.response.PlaceDetailResDto;
+import com.example.capstone.util.gpt.GeminiPromptType;
 import com.example.capstone.util.gpt.GptDescriptionPromptBuilder;
 import com.example.capstone.plan.dto.common.KakaoPlaceDto;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -22,7 +23,7 @@ public class PlaceDetailService {
         try {
             // 1) 한줄 설명: Gemini JSON 강제 사용
             String prompt = descriptionPromptBuilder.build(request.getName(), request.getType());
-            String llmResponse = geminiClient.callGemini(prompt);
+            String llmResponse = geminiClient.callGemini(prompt, GeminiPromptType.PLACE_DESCRIPTION);
             JsonNode descNode = objectMapper.readTree(llmResponse);
             String description = descNode.path("description").asText("");
 
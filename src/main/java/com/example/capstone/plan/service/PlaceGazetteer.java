@@ -0,0 +1,179 @@
+package com.example.capstone.plan.service;
+
+import com.example.capstone.plan.dto.common.KakaoPlaceDto;
+import com.example.capstone.plan.entity.City;
+import com.example.capstone.util.geo.GeoUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * 도시별 장소 색인 (프로세스 내)
+ * - GPT 장소 키워드 → 이미 확인된 장소를 Kakao 호출 없이 바로 찾기 위한 용도
+ * - 도시(City)별로 키워드 색인 / 장소명 색인 / geohash 격자 색인을 유지
+ * - ScheduleRefinerService 가 Kakao로 찾은 결과로만 채움
+ *   · 저장된 일정(TravelPlace)은 클라이언트가 보낸 이름/좌표라 적재하지 않음 (한 사용자의 값이 모두의 정제 결과가 되지 않도록)
+ *   · 기동 직후에는 비어 있고, 요청이 Kakao 를 거치며 채워짐
+ * - 같은 이름의 장소가 반경 dedup-radius 안에 이미 있으면 하나로 합침
+ *
+ * 설정 (plan.gazetteer.*)
+ * - enabled, max-places-per-city, dedup-radius
+ *
+ * 메트릭
+ * - place.gazetteer.lookups{result=hit|miss}, place.gazetteer.size
+ */
+@Slf4j
+@Component
+public class PlaceGazetteer {
+
+    private static final int CELL_PRECISION = 6; // ≈ 1.2km × 0.6km
+    private static final Pattern NON_WORD = Pattern.compile("[\\s\\p{Z}()\\[\\]{}·ㆍ・•—–\\-]+");
+
+    private final boolean enabled;
+    private final int maxPlacesPerCity;
+    private final double dedupRadius;
+
+    private final Map<City, CityIndex> indexes = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+
+    public PlaceGazetteer(MeterRegistry meterRegistry,
+                          @Value("${plan.gazetteer.enabled:true}") boolean enabled,
+                          @Value("${plan.gazetteer.max-places-per-city:5000}") int maxPlacesPerCity,
+                          @Value("${plan.gazetteer.dedup-radius:150}") double dedupRadius) {
+        this.enabled = enabled;
+        this.maxPlacesPerCity = maxPlacesPerCity;
+        this.dedupRadius = dedupRadius;
+        this.hits = Counter.builder("place.gazetteer.lookups").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("place.gazetteer.lookups").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("place.gazetteer.size", indexes, m -> m.values().stream().mapToInt(CityIndex::size).sum())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 키워드(GPT 장소명) → 장소
+     * - 1순위: 같은 키워드/카테고리로 이전에 확인된 장소
+     * - 2순위: 장소명이 정규화 기준으로 일치하는 장소 (카테고리 일치)
+     * - 없으면 null
+     */
+    public KakaoPlaceDto find(City city, String keyword, String categoryCode) {
+        if (!enabled || city == null || keyword == null) return null;
+
+        CityIndex index = indexes.get(city);
+        GazetteerPlace place = index != null ? index.find(normalize(keyword), categoryCode) : null;
+        if (place == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return place.toDto();
+    }
+
+    /**
+     * Kakao 결과 등록 (keyword 로 찾은 장소)
+     */
+    public void add(City city, String keyword, String categoryCode, KakaoPlaceDto kakao) {
+        if (!enabled || city == null || kakao == null || !GeoUtils.isValid(kakao.getLatitude(), kakao.getLongitude())) {
+            return;
+        }
+        String category = kakao.getCategoryGroupCode() != null && !kakao.getCategoryGroupCode().isBlank()
+                ? kakao.getCategoryGroupCode() : categoryCode;
+        GazetteerPlace place = new GazetteerPlace(kakao.getPlaceName(), kakao.getAddress(), kakao.getPhone(),
+                kakao.getLatitude(), kakao.getLongitude(), category);
+
+        indexes.computeIfAbsent(city, c -> new CityIndex())
+                .add(keyword != null ? normalize(keyword) : null, categoryCode, normalize(place.name()), place);
+    }
+
+    private static String normalize(String s) {
+        return NON_WORD.matcher(s).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    private record GazetteerPlace(String name, String address, String phone,
+                                  double lat, double lng, String categoryCode) {
+
+        boolean matches(String category) {
+            return category == null || category.isBlank() || category.equals(categoryCode);
+        }
+
+        KakaoPlaceDto toDto() {
+            return KakaoPlaceDto.builder()
+                    .placeName(name)
+                    .address(address)
+                    .phone(phone)
+                    .latitude(lat)
+                    .longitude(lng)
+                    .categoryGroupCode(categoryCode)
+                    .build();
+        }
+    }
+
+    // 도시 하나의 색인, 장소 수가 작아 단순 동기화로 충분
+    private final class CityIndex {
+        private final Map<String, GazetteerPlace> byKeyword = new HashMap<>();
+        private final Map<String, List<GazetteerPlace>> byName = new HashMap<>();
+        private final Map<String, List<GazetteerPlace>> byCell = new HashMap<>();
+        private int size;
+
+        synchronized GazetteerPlace find(String keyword, String categoryCode) {
+            GazetteerPlace place = byKeyword.get(keywordKey(keyword, categoryCode));
+            if (place != null) return place;
+
+            for (GazetteerPlace candidate : byName.getOrDefault(keyword, List.of())) {
+                if (candidate.matches(categoryCode)) return candidate;
+            }
+            return null;
+        }
+
+        synchronized void add(String keyword, String categoryCode, String nameKey, GazetteerPlace place) {
+            GazetteerPlace existing = findNearbySameName(nameKey, place);
+            if (existing == null) {
+                if (size >= maxPlacesPerCity) return;
+                byName.computeIfAbsent(nameKey, k -> new ArrayList<>()).add(place);
+                byCell.computeIfAbsent(GeoUtils.geohash(place.lat(), place.lng(), CELL_PRECISION), k -> new ArrayList<>())
+                        .add(place);
+                size++;
+                existing = place;
+            }
+            if (keyword != null && !keyword.isEmpty()) {
+                byKeyword.put(keywordKey(keyword, categoryCode), existing);
+            }
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        // 주변 격자(3×3)에서 같은 이름 + dedup-radius 이내 장소 탐색
+        private GazetteerPlace findNearbySameName(String nameKey, GazetteerPlace place) {
+            double latStep = 0.0055; // precision 6 격자 크기
+            double lngStep = 0.011;
+            Set<String> cells = new HashSet<>();
+            for (int dLat = -1; dLat <= 1; dLat++) {
+                for (int dLng = -1; dLng <= 1; dLng++) {
+                    cells.add(GeoUtils.geohash(place.lat() + dLat * latStep, place.lng() + dLng * lngStep, CELL_PRECISION));
+                }
+            }
+            for (String cell : cells) {
+                for (GazetteerPlace candidate : byCell.getOrDefault(cell, List.of())) {
+                    if (normalize(candidate.name()).equals(nameKey)
+                            && GeoUtils.haversineMeters(candidate.lat(), candidate.lng(), place.lat(), place.lng()) <= dedupRadius) {
+                        return candidate;
+                    }
+                }
+            }
+            return null;
+        }
+
+        private String keywordKey(String keyword, String categoryCode) {
+            return keyword + "|" + (categoryCode == null ? "" : categoryCode);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.capstone.plan.service;
+
+import com.example.capstone.plan.dto.response.ScheduleCreateResDto.PlaceResponse;
+import com.example.capstone.plan.entity.TravelMode;
+import com.example.capstone.util.geo.GeoUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 이동시간 계산 대상 구간(Leg) 계획
+ * - 같은 날짜 안에서 연속된 두 장소만 하나의 구간으로 묶음 (날짜를 넘는 구간 제외)
+ * - 좌표가 없는(0.0) 장소가 낀 구간 제외 (도착 장소는 계산 불가로 표시)
+ * - 직선 거리(haversine)로 구간별 Tmap 조회 수단 결정, 나머지 수단은 추정값으로 채움
+ *   · min-distance 미만: 조회 없이 모두 추정
+ *   · walk-max-distance 초과: 도보 조회 생략
+ *   · transit-min-distance 미만: 대중교통 조회 생략
+ *
+ * 설정 (tmap.legs.*)
+ * - min-distance, walk-max-distance, transit-min-distance (미터)
+ */
+@Component
+public class RouteLegPlanner {
+
+    private static final int MODE_COUNT = TravelMode.values().length;
+
+    private final double minDistance;
+    private final double walkMaxDistance;
+    private final double transitMinDistance;
+
+    public RouteLegPlanner(@Value("${tmap.legs.min-distance:100}") double minDistance,
+                           @Value("${tmap.legs.walk-max-distance:3000}") double walkMaxDistance,
+                           @Value("${tmap.legs.transit-min-distance:700}") double transitMinDistance) {
+        this.minDistance = minDistance;
+        this.walkMaxDistance = walkMaxDistance;
+        this.transitMinDistance = transitMinDistance;
+    }
+
+    public LegPlan plan(Map<String, List<PlaceResponse>> schedule) {
+        List<Leg> legs = new ArrayList<>();
+        int crossDayLegs = 0;
+        List<PlaceResponse> unreachable = new ArrayList<>();
+        int estimatedModes = 0;
+        boolean firstDay = true;
+
+        for (List<PlaceResponse> dayPlaces : schedule.values()) {
+            // 이전 날짜 마지막 장소 → 오늘 첫 장소 구간은 계산하지 않음
+            if (!firstDay && !dayPlaces.isEmpty()) {
+                crossDayLegs++;
+            }
+            firstDay = false;
+
+            PlaceResponse prev = null;
+            for (PlaceResponse current : dayPlaces) {
+                if (prev != null) {
+                    if (!GeoUtils.isValid(prev.getLat(), prev.getLng()) || !GeoUtils.isValid(current.getLat(), current.getLng())) {
+                        unreachable.add(current);
+                    } else {
+                        Leg leg = toLeg(prev, current);
+                        estimatedModes += MODE_COUNT - leg.modes().size();
+                        legs.add(leg);
+                    }
+                }
+                prev = current;
+            }
+        }
+        return new LegPlan(legs, unreachable, crossDayLegs, estimatedModes);
+    }
+
+    private Leg toLeg(PlaceResponse from, PlaceResponse to) {
+        double distance = GeoUtils.haversineMeters(from.getLat(), from.getLng(), to.getLat(), to.getLng());
+
+        Set<TravelMode> modes = EnumSet.noneOf(TravelMode.class);
+        if (distance >= minDistance) {
+            modes.add(TravelMode.DRIVE);
+            if (distance <= walkMaxDistance) modes.add(TravelMode.WALK);
+            if (distance >= transitMinDistance) modes.add(TravelMode.TRANSIT);
+        }
+        return new Leg(from, to, distance, modes);
+    }
+
+    /**
+     * from → to 구간, 결과(이동시간)는 to 장소에 기록
+     * - modes: Tmap으로 조회할 수단, 나머지 수단은 distanceMeters 기반 추정
+     */
+    public record Leg(PlaceResponse from, PlaceResponse to, double distanceMeters, Set<TravelMode> modes) {}
+
+    /**
+     * 계획 결과 + 생략한 조회 통계
+     * - unreachable: 좌표가 없어 이동시간을 계산할 수 없는 구간의 도착 장소
+     */
+    public record LegPlan(List<Leg> legs, List<PlaceResponse> unreachable, int crossDayLegs, int estimatedModes) {
+
+        public int invalidLegs() {
+            return unreachable.size();
+        }
+
+        // 기존 방식(모든 연속 구간 × 모든 수단) 대비 생략한 Tmap 호출 수
+        public int avoidedCalls() {
+            return (crossDayLegs + invalidLegs()) * MODE_COUNT + estimatedModes;
+        }
+
+        public LegPlan withCrossDayLegs(int crossDayLegs) {
+            return new LegPlan(legs, unreachable, crossDayLegs, estimatedModes);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.capstone.plan.service;
+
+import com.example.capstone.plan.entity.TravelMode;
+import com.example.capstone.util.cache.TieredCache;
+import com.example.capstone.util.concurrent.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Tmap 이동시간 캐시
+ * - 키: (이동수단, 출발/도착 좌표를 약 50m 격자로 반올림한 값)
+ * - L1: 프로세스 내 캐시, L2: Redis (노드 간 공유)
+ * - 대중교통은 시간대에 따라 결과가 바뀌므로 도보/자동차보다 TTL을 짧게 유지
+ * - 캐시 미스 시 같은 키의 동시 Tmap 호출은 하나로 합침 (single-flight, 키는 캐시 키와 동일)
+ */
+@Component
+public class RouteTimeCache {
+
+    private final TieredCache<Integer> cache;
+    private final SingleFlight<String, Integer> singleFlight;
+    private final double gridDegrees;
+    private final Duration transitTtl;
+    private final Duration defaultTtl;
+
+    public RouteTimeCache(RedisTemplate<String, String> redisTemplate,
+                          MeterRegistry meterRegistry,
+                          @Value("${tmap.cache.grid-degrees:0.0005}") double gridDegrees,
+                          @Value("${tmap.cache.local-max-size:20000}") long localMaxSize,
+                          @Value("${tmap.cache.transit-ttl:6h}") Duration transitTtl,
+                          @Value("${tmap.cache.ttl:7d}") Duration defaultTtl) {
+        this.gridDegrees = gridDegrees;
+        this.transitTtl = transitTtl;
+        this.defaultTtl = defaultTtl;
+        this.cache = new TieredCache<>("route-time", localMaxSize, redisTemplate,
+                String::valueOf, Integer::valueOf, meterRegistry);
+        this.singleFlight = new SingleFlight<>("tmap", Function.identity(), meterRegistry);
+    }
+
+    /**
+     * 캐시 조회 → 없으면 loader(Tmap 호출) 결과 저장
+     * - 음수(계산 실패) 결과는 저장하지 않음
+     */
+    public int get(TravelMode mode, double startLat, double startLng, double endLat, double endLng, Supplier<Integer> loader) {
+        String key = key(mode, startLat, startLng, endLat, endLng);
+        Duration ttl = ttlFor(mode);
+        return cache.get(key, minutes -> minutes >= 0 ? ttl : Duration.ZERO,
+                () -> singleFlight.execute(key, k -> loader.get()));
+    }
+
+    private Duration ttlFor(TravelMode mode) {
+        return mode == TravelMode.TRANSIT ? transitTtl : defaultTtl;
+    }
+
+    private String key(TravelMode mode, double startLat, double startLng, double endLat, double endLng) {
+        return mode.getCode()
+                + ":" + quantize(startLat) + ":" + quantize(startLng)
+                + ":" + quantize(endLat) + ":" + quantize(endLng);
+    }
+
+    // 위경도를 격자 인덱스로 변환 (0.0005도 ≈ 위도 55m / 경도 44m)
+    private long quantize(double degrees) {
+        return Math.round(degrees / gridDegrees);
+    }
+}
@@ -7,17 +7,28 @@ import com.example.capstone.plan.dto.response.ScheduleCreateResDto.DailySchedule
 import com.example.capstone.plan.dto.response.ScheduleCreateResDto.PlaceResponse;
 import com.example.capstone.util.gpt.GptCreatePromptBuilder;
 import com.example.capstone.util.gpt.GptCostPromptBuilder;
+import com.example.capstone.util.concurrent.StageGraph.Stage;
+import com.example.capstone.util.gpt.ItineraryStreamParser;
+import com.example.capstone.util.metrics.PipelineMetrics;
+import com.example.capstone.util.metrics.PipelineTimer;
+import com.example.capstone.util.text.PlaceNameMatcher;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
 
 import static java.sql.DriverManager.println;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ScheduleCreateService {
@@ -27,10 +38,30 @@ public class ScheduleCreateService {
     private final KakaoMapClient kakaoMapClient;
     private final GeminiClient geminiClient;
     private final ObjectMapper objectMapper;
-    private final TmapRouteService tmapRouteService;
     private final GptCostPromptBuilder gptCostPromptBuilder;
+    private final SchedulePipeline schedulePipeline;
+    private final PipelineMetrics pipelineMetrics;
+
+    @Value("${plan.cost.llm-refine:false}")
+    private boolean llmCostRefine;
+
+    @Value("${gemini.stream.enabled:true}")
+    private boolean streamItinerary;
 
     public ScheduleCreateResDto generateSchedule(ScheduleCreateReqDto request) {
+        return generateSchedule(request, ScheduleProgressListener.NONE);
+    }
+
+    /**
+     * 일정 생성 + 단계별 중간 결과를 listener로 전달
+     * - 하루 정제 완료 → onDayRefined, 이동시간 완료 → onTravelTimes, 비용 완료 → onEstimatedCosts
+     * - 최종 반환값은 generateSchedule(request)와 동일
+     * - 이동시간/비용은 하루 정제가 끝날 때마다 SchedulePipeline 으로 바로 계산 (정제와 겹침)
+     * - 단계별 소요 시간: schedule.pipeline.stage{pipeline=create, stage=prompt|generate-refine|gemini|refine|route|cost|cost-llm|assemble}
+     *   · route, cost 는 하루 단위로 기록
+     */
+    public ScheduleCreateResDto generateSchedule(ScheduleCreateReqDto request, ScheduleProgressListener listener) {
+        PipelineTimer timer = pipelineMetrics.start("create");
         try {
             // 0. 날짜 유효성 검증 (startDate 확인)
             LocalDate today = LocalDate.now();
@@ -39,102 +70,183 @@ public class ScheduleCreateService {
                 throw new IllegalArgumentException("오늘 이전 날짜로는 일정을 생성할 수 없습니다.");
             }
 
-            // 1. GPT 프롬프트로 장소 구조 생성
-            String prompt = gptCreatePromptBuilder.build(request);
-            JsonNode root = geminiClient.callGeminiAsJsonNode(prompt).get("itinerary");
-
-
-            // 2. GPT 응답 → 날짜별 GptPlaceDto 맵으로 변환
-            Map<String, List<GptPlaceDto>> gptMap = new LinkedHashMap<>();
-            for (JsonNode dayNode : root) {
-                String date = dayNode.get("date").asText();
-                List<GptPlaceDto> places = new ArrayList<>();
-                for (JsonNode placeNode : dayNode.get("travelSchedule")) {
-                    String type = placeNode.get("type").asText();
-                    String hashtag = placeNode.get("name").asText();
-                    places.add(GptPlaceDto.builder()
-                            .name(hashtag)     // GPT가 생성한 장소 키워드
-                            .type(type)        // 예: "관광지", "식사"
-                            .location(null)    // GPT가 위도/경도 제공하지 않으므로 null 처리
-                            .build());
+            // 1~3. Gemini 일정 생성 + KakaoMap 정제 (하루 단위로 완료되는 대로 전달)
+            String prompt = timer.stage("prompt", () -> gptCreatePromptBuilder.build(request));
+            SchedulePipeline.Run stages = schedulePipeline.start(timer, request.getDestination(), request.getTimeMode());
+            AtomicInteger refinedDays = new AtomicInteger(1);
+            BiConsumer<String, List<PlaceResponse>> onDayRefined = (date, places) -> {
+                listener.onDayRefined(toDailyBlock(refinedDays.getAndIncrement(), date, places));
+                stages.onDayRefined(date, places);
+            };
 
-                }
-                gptMap.put(date, places);
+            // 스트리밍은 생성과 정제가 겹치므로 한 단계로 측정
+            Map<String, List<PlaceResponse>> refinedMap = streamItinerary
+                    ? timer.stage("generate-refine", () -> generateAndRefineStreaming(request, prompt, onDayRefined))
+                    : null;
+            if (refinedMap == null) {
+                JsonNode itinerary = timer.stage("gemini", () -> geminiClient.callGeminiAsJsonNode(prompt).get("itinerary"));
+                Map<String, List<GptPlaceDto>> gptMap = parseItinerary(itinerary);
+                refinedMap = timer.stage("refine", () -> scheduleRefinerService.refine(request.getDestination(), gptMap, onDayRefined));
             }
+            Map<String, List<PlaceResponse>> refined = refinedMap;
 
-            // 3. KakaoMap 정제
-            Map<String, List<PlaceResponse>> refinedMap = scheduleRefinerService.refine(gptMap);
-
-            // 4. 이동시간 계산
-            tmapRouteService.populateTimes(refinedMap);
+            // 4~5. 이동시간 + 가격표 기반 비용 추정 (정제 중 이미 시작), Gemini 비용 보정은 이동시간 계산과 겹쳐 호출
+            Stage<JsonNode> costLlm = llmCostRefine
+                    ? stages.afterCosts("cost-llm", () -> requestGeminiCosts(refined))
+                    : null;
+            stages.awaitRoutes();
+            stages.awaitCosts();
+            listener.onTravelTimes(buildDailyBlocks(refined));
 
-            // 5. 예산 계산: 프롬프트 생성 → GPT 호출 → JSON 파싱 → estimatedCost 삽입
-            String costPrompt = gptCostPromptBuilder.build(convertToPlaceDetailMap(refinedMap));
-            JsonNode costJson = geminiClient.callGeminiAsJsonNode(costPrompt);
+            JsonNode costJson = costLlm != null ? stages.await(costLlm) : null;
+            if (costJson != null) {
+                applyEstimatedCosts(refined, costJson);
+            }
 
-            Iterator<String> fieldNames = costJson.fieldNames();
-            while (fieldNames.hasNext()) {
-                String date = fieldNames.next();
-                if (date.equals("totalEstimatedCost")) continue;
+            // 6. DailyScheduleBlock 응답 조립
+            ScheduleCreateResDto response = timer.stage("assemble", () -> {
+                List<DailyScheduleBlock> dailyBlocks = buildDailyBlocks(refined);
+                listener.onEstimatedCosts(dailyBlocks);
 
-                JsonNode dateBlock = costJson.get(date);
-                if (dateBlock == null || !dateBlock.has("travelSchedule")) continue;
+                String destination = request.getDestination().getDisplayName();
+                long nights = ChronoUnit.DAYS.between(request.getStartDate(), request.getEndDate());
+                String title = destination + " " + nights + "박 " + (nights + 1) + "일 여행";
 
-                JsonNode travelSchedule = dateBlock.get("travelSchedule");
-                if (travelSchedule == null || !travelSchedule.isArray()) continue;
+                return new ScheduleCreateResDto(title, request.getStartDate(), request.getEndDate(), dailyBlocks);
+            });
+            timer.success();
+            return response;
 
-                List<PlaceResponse> places = refinedMap.get(date);
-                if (places == null) continue;
+        } catch (Exception e) {
+            timer.failure(e);
+            log.error("[일정 생성] 실패", e);
+            throw new RuntimeException("일정 생성 중 오류 발생: " + e.getMessage(), e);
+        }
+    }
 
-                for (JsonNode placeNode : travelSchedule) {
-                    String gptName = Optional.ofNullable(placeNode.get("name")).map(JsonNode::asText).orElse(null);
-                    int cost = Optional.ofNullable(placeNode.get("estimatedCost")).map(JsonNode::asInt).orElse(0);
+    /**
+     * Gemini 스트리밍으로 일정 생성, 장소가 하나 완성될 때마다 바로 Kakao 정제 시작
+     * - 스트림이 실패하면 null → 호출자가 기존 방식(전체 응답 후 정제)으로 다시 생성
+     *   · Gemini 서킷이 열려 있으면 스트림 없이 바로 null
+     *   · 이미 제출한 정제는 취소 (시작 전 검색은 버리고, 진행 중인 검색 결과는 캐시를 통해 재생성에서 재사용)
+     */
+    private Map<String, List<PlaceResponse>> generateAndRefineStreaming(ScheduleCreateReqDto request, String prompt,
+                                                                        BiConsumer<String, List<PlaceResponse>> onDayRefined) {
+        long startedAt = System.nanoTime();
+        ScheduleRefinerService.Refinement refinement = scheduleRefinerService.start(request.getDestination());
+        AtomicInteger submitted = new AtomicInteger();
+        AtomicLong firstPlaceAt = new AtomicLong();
 
-                    if (gptName == null) continue;
+        ItineraryStreamParser parser = new ItineraryStreamParser(objectMapper, (date, place) -> {
+            if (place.getName() == null || place.getName().isBlank()) return;
+            firstPlaceAt.compareAndSet(0, System.nanoTime());
+            refinement.submit(date, place);
+            submitted.incrementAndGet();
+        });
+        try {
+            geminiClient.streamGemini(prompt, parser::feed);
+            parser.finish();
+        } catch (Exception e) {
+            refinement.cancel();
+            log.warn("[일정 생성] Gemini 스트리밍 실패, 일괄 응답으로 재시도: {}", e.getMessage());
+            return null;
+        }
 
-                    String gptNameKey = gptName.replaceAll("\\s+", "").toLowerCase();
+        log.info("[일정 생성] Gemini 스트리밍 장소 {}개, 첫 장소 {}ms, 생성 완료 {}ms", submitted.get(),
+                firstPlaceAt.get() == 0 ? -1 : (firstPlaceAt.get() - startedAt) / 1_000_000,
+                (System.nanoTime() - startedAt) / 1_000_000);
+        return refinement.complete(onDayRefined);
+    }
 
-                    for (PlaceResponse place : places) {
-                        String placeNameKey = place.getName().replaceAll("\\s+", "").toLowerCase();
+    // GPT 응답 → 날짜별 GptPlaceDto 맵
+    private Map<String, List<GptPlaceDto>> parseItinerary(JsonNode root) {
+        Map<String, List<GptPlaceDto>> gptMap = new LinkedHashMap<>();
+        for (JsonNode dayNode : root) {
+            String date = dayNode.get("date").asText();
+            List<GptPlaceDto> places = new ArrayList<>();
+            for (JsonNode placeNode : dayNode.get("travelSchedule")) {
+                String type = placeNode.get("type").asText();
+                String hashtag = placeNode.get("name").asText();
+                places.add(GptPlaceDto.builder()
+                        .name(hashtag)     // GPT가 생성한 장소 키워드
+                        .type(type)        // 예: "관광지", "식사"
+                        .location(null)    // GPT가 위도/경도 제공하지 않으므로 null 처리
+                        .build());
 
-                        if (placeNameKey.equals(gptNameKey)) {
-                            place.setEstimatedCost(cost);
-                            break;
-                        }
-                    }
-                }
             }
+            gptMap.put(date, places);
+        }
+        return gptMap;
+    }
 
+    /**
+     * Gemini 비용 보정 요청 (plan.cost.llm-refine=true 일 때만)
+     * - 응답은 applyEstimatedCosts 로 반영: 이름이 일치하는 장소만 Gemini 추정값으로 덮어씀, 나머지는 로컬 추정값 유지
+     * - Gemini 실패 시 null → 로컬 추정값 그대로 사용
+     */
+    private JsonNode requestGeminiCosts(Map<String, List<PlaceResponse>> refinedMap) {
+        try {
+            String costPrompt = gptCostPromptBuilder.build(convertToPlaceDetailMap(refinedMap));
+            return geminiClient.callGeminiAsJsonNode(costPrompt);
+        } catch (Exception e) {
+            log.warn("[일정 생성] Gemini 비용 보정 실패, 로컬 추정값 사용: {}", e.getMessage());
+            return null;
+        }
+    }
 
+    // 날짜 키 비용 응답 → 이름이 완전 일치하는 장소에 비용 반영 (벤치마크에서 직접 호출하므로 package-private)
+    static void applyEstimatedCosts(Map<String, List<PlaceResponse>> refinedMap, JsonNode costJson) {
+        Iterator<String> fieldNames = costJson.fieldNames();
+        while (fieldNames.hasNext()) {
+            String date = fieldNames.next();
+            if (date.equals("totalEstimatedCost")) continue;
 
-            // 6. DailyScheduleBlock 응답 조립
-            List<DailyScheduleBlock> dailyBlocks = new ArrayList<>();
-            int dayCounter = 1;
-            for (Map.Entry<String, List<PlaceResponse>> entry : refinedMap.entrySet()) {
-                String day = dayCounter++ + "일차";
-                String date = entry.getKey();
-                int totalCost = entry.getValue().stream()
-                        .mapToInt(PlaceResponse::getEstimatedCost)
-                        .sum();
-
-                dailyBlocks.add(DailyScheduleBlock.builder()
-                        .day(day)
-                        .date(date)
-                        .totalEstimatedCost(totalCost)
-                        .places(entry.getValue())
-                        .build());
-            }
+            JsonNode dateBlock = costJson.get(date);
+            if (dateBlock == null || !dateBlock.has("travelSchedule")) continue;
 
-            String destination = request.getDestination().getDisplayName();
-            long nights = ChronoUnit.DAYS.between(request.getStartDate(), request.getEndDate());
-            String title = destination + " " + nights + "박 " + (nights + 1) + "일 여행";
+            JsonNode travelSchedule = dateBlock.get("travelSchedule");
+            if (travelSchedule == null || !travelSchedule.isArray()) continue;
 
-            return new ScheduleCreateResDto(title, request.getStartDate(), request.getEndDate(), dailyBlocks);
+            List<PlaceResponse> places = refinedMap.get(date);
+            if (places == null) continue;
 
-        } catch (Exception e) {
-            e.printStackTrace();
-            throw new RuntimeException("일정 생성 중 오류 발생: " + e.getMessage(), e);
+            // 장소명은 한 번만 정규화/색인
+            PlaceNameMatcher<PlaceResponse> matcher = PlaceNameMatcher.of(places, PlaceResponse::getName);
+
+            for (JsonNode placeNode : travelSchedule) {
+                String gptName = Optional.ofNullable(placeNode.get("name")).map(JsonNode::asText).orElse(null);
+                int cost = Optional.ofNullable(placeNode.get("estimatedCost")).map(JsonNode::asInt).orElse(0);
+
+                if (gptName == null) continue;
+
+                PlaceResponse place = matcher.findExact(gptName);
+                if (place != null) {
+                    place.setEstimatedCost(cost);
+                }
+            }
+        }
+    }
+
+    private List<DailyScheduleBlock> buildDailyBlocks(Map<String, List<PlaceResponse>> refinedMap) {
+        List<DailyScheduleBlock> dailyBlocks = new ArrayList<>();
+        int dayCounter = 1;
+        for (Map.Entry<String, List<PlaceResponse>> entry : refinedMap.entrySet()) {
+            dailyBlocks.add(toDailyBlock(dayCounter++, entry.getKey(), entry.getValue()));
         }
+        return dailyBlocks;
+    }
+
+    private DailyScheduleBlock toDailyBlock(int dayNumber, String date, List<PlaceResponse> places) {
+        int totalCost = places.stream()
+                .mapToInt(PlaceResponse::getEstimatedCost)
+                .sum();
+
+        return DailyScheduleBlock.builder()
+                .day(dayNumber + "일차")
+                .date(date)
+                .totalEstimatedCost(totalCost)
+                .places(places)
+                .build();
     }
 
     // PlaceResponse → PlaceDetailDto로 변환 (GptCostPromptBuilder에 맞춤)
@@ -2,8 +2,8 @@ package com.example.capstone.plan.service;
 
 import com.example.capstone.plan.entity.TravelSchedule;
 import com.example.capstone.plan.repository.ScheduleRepository;
-import com.example.capstone.user.entity.UserEntity;
-import com.example.capstone.user.repository.UserRepository;
+import com.example.capstone.user.dto.UserSnapshot;
+import com.example.capstone.user.service.UserResolver;
 import com.example.capstone.util.oauth2.dto.CustomOAuth2User;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -14,13 +14,12 @@ import org.springframework.stereotype.Service;
 public class ScheduleDeleteService {
 
     private final ScheduleRepository scheduleRepository;
-    private final UserRepository userRepository;
+    private final UserResolver userResolver;
 
     public void deleteSchedule(Long scheduleId, CustomOAuth2User userDetails) {
-        UserEntity user = userRepository.findByProviderId(userDetails.getProviderId())
-                .orElseThrow(() -> new EntityNotFoundException("User Not Found"));
+        UserSnapshot user = userResolver.resolve(userDetails.getProviderId());
 
-        TravelSchedule schedule = scheduleRepository.findByIdAndUserId(scheduleId, user.getId())
+        TravelSchedule schedule = scheduleRepository.findByIdAndUserId(scheduleId, user.id())
                 .orElseThrow(() -> new EntityNotFoundException("Schedule Not Found"));
 
         scheduleRepository.delete(schedule);
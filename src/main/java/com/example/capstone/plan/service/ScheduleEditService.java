@@ -3,15 +3,23 @@ package com.example.capstone.plan.service;
 import com.example.capstone.plan.dto.common.KakaoPlaceDto;
 import com.example.capstone.plan.dto.response.ScheduleCreateResDto.PlaceResponse;
 import com.example.capstone.plan.dto.response.ScheduleEditResDto;
+import com.example.capstone.plan.entity.TravelTimeMode;
 import com.example.capstone.util.gpt.GptEditPromptBuilder;
+import com.example.capstone.util.metrics.PipelineMetrics;
+import com.example.capstone.util.metrics.PipelineTimer;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ScheduleEditService {
@@ -21,28 +29,53 @@ public class ScheduleEditService {
     private final KakaoMapClient kakaoMapClient; // 좌표/주소
     private final TmapRouteService tmapRouteService; //  추가: TMAP 이동시간
     private final ObjectMapper objectMapper;
+    private final PipelineMetrics pipelineMetrics;
 
     public ScheduleEditResDto editSchedule(List<String> names) {
+        return editSchedule(names, null);
+    }
+
+    /**
+     * 일정 수정
+     * - timeMode: 이동시간 계산 방식 (null이면 tmap.time-mode), FAST/HYBRID는 Tmap 응답을 기다리지 않음
+     * - 단계별 소요 시간: schedule.pipeline.stage{pipeline=edit, stage=prompt|gemini|refine|route}
+     */
+    public ScheduleEditResDto editSchedule(List<String> names, TravelTimeMode timeMode) {
+        PipelineTimer timer = pipelineMetrics.start("edit");
         try {
-            String prompt = promptBuilder.build(names);
-            String gptResponse = geminiClient.callGemini(prompt);
+            String prompt = timer.stage("prompt", () -> promptBuilder.build(names));
+            String gptResponse = timer.stage("gemini", () -> geminiClient.callGemini(prompt));
+
+            List<PlaceResponse> places = timer.stage("refine", () -> parseGptResponse(gptResponse));
+
+            // 이동시간: 일정 생성과 동일한 구간 계획/동시 조회 사용 (하루 일정)
+            Map<String, List<PlaceResponse>> day = new LinkedHashMap<>();
+            day.put("edit", places);
+            timer.stage("route", () -> tmapRouteService.populateTimes(day, timeMode));
 
-            List<PlaceResponse> places = parseGptResponse(gptResponse);
             int total = places.stream().mapToInt(PlaceResponse::getEstimatedCost).sum();
 
-            return ScheduleEditResDto.builder()
+            ScheduleEditResDto response = ScheduleEditResDto.builder()
                     .totalEstimatedCost(total)
                     .places(places)
                     .build();
+            timer.success();
+            return response;
 
         } catch (Exception e) {
-            e.printStackTrace();
+            timer.failure(e);
+            log.error("[일정 수정] 실패", e);
             throw new RuntimeException("일정 수정 중 오류 발생: " + e.getMessage(), e);
         }
     }
 
-    private List<PlaceResponse> parseGptResponse(String json) throws Exception {
-        JsonNode root = objectMapper.readTree(json);
+    private List<PlaceResponse> parseGptResponse(String json) {
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("GPT 응답 JSON 파싱 실패: " + e.getOriginalMessage(), e);
+        }
 
         JsonNode placesNode;
         if (root.isArray()) {
@@ -55,7 +88,6 @@ public class ScheduleEditService {
         }
 
         List<PlaceResponse> result = new ArrayList<>();
-        PlaceResponse prev = null; //  이전 장소 추적 (TMAP 계산용)
 
         for (JsonNode node : placesNode) {
             String name = node.path("name").asText(null);
@@ -71,45 +103,17 @@ public class ScheduleEditService {
             double currLat = kakao.getLatitude();
             double currLng = kakao.getLongitude();
 
-            Integer walkTime = null;
-            Integer driveTime = null;
-            Integer transitTime = null;
-
-            if (prev != null && valid(prev.getLat(), prev.getLng()) && valid(currLat, currLng)) {
-                try {
-                    int walk    = tmapRouteService.getTime("walk",    prev.getLat(), prev.getLng(), currLat, currLng);
-                    int drive   = tmapRouteService.getTime("drive",   prev.getLat(), prev.getLng(), currLat, currLng);
-                    int transit = tmapRouteService.getTime("transit", prev.getLat(), prev.getLng(), currLat, currLng);
-
-                    walkTime = walk;
-                    driveTime = drive;
-                    transitTime = transit;
-                } catch (Exception e) {
-                    walkTime = -1;
-                    driveTime = -1;
-                    transitTime = -1;
-                }
-            }
-
             PlaceResponse place = PlaceResponse.builder()
                     .name(name)
                     .hashtag(hashtag)
                     .type(node.path("type").asText(null))
                     .estimatedCost(node.path("estimatedCost").asInt(0))
-                    .walkTime(walkTime)
-                    .driveTime(driveTime)
-                    .transitTime(transitTime)
                     .lat(currLat)
                     .lng(currLng)
                     .build();
 
             result.add(place);
-            prev = place;
         }
         return result;
     }
-
-    private boolean valid(double lat, double lng) {
-        return !(lat == 0.0 || lng == 0.0);
-    }
 }
@@ -0,0 +1,175 @@
+package com.example.capstone.plan.service;
+
+import com.example.capstone.plan.dto.request.ScheduleCreateReqDto;
+import com.example.capstone.plan.dto.request.ScheduleRecreateReqDto;
+import com.example.capstone.plan.dto.response.ScheduleCreateResDto;
+import com.example.capstone.plan.dto.response.ScheduleJobResDto;
+import com.example.capstone.plan.entity.ScheduleJobStatus;
+import com.example.capstone.plan.exception.ScheduleJobRejectedException;
+import com.example.capstone.util.hash.HashUtils;
+import com.example.capstone.util.oauth2.dto.CustomOAuth2User;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 일정 생성/재생성 비동기 작업
+ * - 요청 즉시 jobId 반환, 생성은 scheduleJobExecutor 전용 풀에서 수행
+ * - 결과 조회: GET /schedule/job/{jobId} 폴링 또는 STOMP /queue/schedule-jobs/{providerId} 구독
+ * - 같은 사용자의 동일한 요청(더블탭, 재시도)이 진행 중이면 새로 만들지 않고 기존 작업에 합류
+ * - 완료된 작업은 schedule.job.retention 이후 정리
+ * - 작업 큐가 가득 차면 ScheduleJobRejectedException → 503 + Retry-After(schedule.job.retry-after)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ScheduleJobService {
+
+    public static final String JOB_DESTINATION_PREFIX = "/queue/schedule-jobs/";
+
+    private final ScheduleCreateService scheduleCreateService;
+    private final ScheduleRecreateService scheduleRecreateService;
+    private final ThreadPoolTaskExecutor scheduleJobExecutor;
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, ScheduleJob> jobs = new ConcurrentHashMap<>();
+    private final Map<String, ScheduleJob> inFlight = new ConcurrentHashMap<>();
+
+    @Value("${schedule.job.retention:10m}")
+    private Duration retention;
+
+    @Value("${schedule.job.retry-after:5s}")
+    private Duration retryAfter;
+
+    public ScheduleJobResDto submitCreate(ScheduleCreateReqDto request, CustomOAuth2User userDetails) {
+        return submit("create", request, userDetails, () -> scheduleCreateService.generateSchedule(request));
+    }
+
+    public ScheduleJobResDto submitRecreate(ScheduleRecreateReqDto request, CustomOAuth2User userDetails) {
+        return submit("recreate", request, userDetails, () -> scheduleRecreateService.recreateSchedule(request));
+    }
+
+    public ScheduleJobResDto getJob(String jobId, CustomOAuth2User userDetails) {
+        ScheduleJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new IllegalArgumentException("존재하지 않거나 만료된 작업입니다.");
+        }
+        if (!job.getProviderId().equals(userDetails.getProviderId())) {
+            throw new IllegalArgumentException("접근 권한이 없습니다.");
+        }
+        return toDto(job);
+    }
+
+    private ScheduleJobResDto submit(String kind, Object request, CustomOAuth2User userDetails,
+                                     Supplier<ScheduleCreateResDto> pipeline) {
+        String providerId = userDetails.getProviderId();
+        String dedupKey = providerId + ":" + kind + ":" + HashUtils.sha256Hex(toJson(request));
+
+        // 진행 중인 동일 요청이 있으면 합류, 없으면 새 작업 등록
+        ScheduleJob[] created = new ScheduleJob[1];
+        ScheduleJob job = inFlight.computeIfAbsent(dedupKey, key -> {
+            created[0] = new ScheduleJob(UUID.randomUUID().toString(), providerId, key,
+                    LocalDateTime.now(), new CompletableFuture<>());
+            return created[0];
+        });
+
+        if (created[0] == null) {
+            log.info("[일정 작업] 진행 중인 작업에 합류 jobId={} user={}", job.getJobId(), providerId);
+            return toDto(job);
+        }
+
+        jobs.put(job.getJobId(), job);
+        try {
+            scheduleJobExecutor.execute(() -> run(job, pipeline));
+        } catch (TaskRejectedException e) {
+            inFlight.remove(dedupKey, job);
+            jobs.remove(job.getJobId());
+            log.warn("[일정 작업] 작업 큐 가득 참, 거절 user={}", providerId);
+            throw new ScheduleJobRejectedException(retryAfter.toMillis(), e);
+        }
+        return toDto(job);
+    }
+
+    private void run(ScheduleJob job, Supplier<ScheduleCreateResDto> pipeline) {
+        try {
+            job.getFuture().complete(pipeline.get());
+        } catch (Exception e) {
+            job.getFuture().completeExceptionally(e);
+        } finally {
+            job.markFinished();
+            inFlight.remove(job.getDedupKey(), job);
+        }
+
+        ScheduleJobResDto result = toDto(job);
+        try {
+            messagingTemplate.convertAndSend(JOB_DESTINATION_PREFIX + job.getProviderId(), result);
+        } catch (Exception e) {
+            log.warn("[일정 작업] STOMP 전송 실패 jobId={}: {}", job.getJobId(), e.getMessage());
+        }
+    }
+
+    // 완료 후 보관 기간이 지난 작업 정리
+    @Scheduled(fixedDelayString = "${schedule.job.cleanup-interval:60000}")
+    public void evictExpiredJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minus(retention);
+        jobs.values().removeIf(job -> job.getFinishedAt() != null && job.getFinishedAt().isBefore(threshold));
+    }
+
+    private ScheduleJobResDto toDto(ScheduleJob job) {
+        CompletableFuture<ScheduleCreateResDto> future = job.getFuture();
+        ScheduleJobResDto.ScheduleJobResDtoBuilder builder = ScheduleJobResDto.builder()
+                .jobId(job.getJobId())
+                .createdAt(job.getCreatedAt());
+
+        if (!future.isDone()) {
+            return builder.status(ScheduleJobStatus.RUNNING).build();
+        }
+        try {
+            return builder.status(ScheduleJobStatus.DONE).result(future.join()).build();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            return builder.status(ScheduleJobStatus.FAILED).error(cause.getMessage()).build();
+        }
+    }
+
+    private String toJson(Object request) {
+        try {
+            return objectMapper.writeValueAsString(request);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("요청 직렬화 실패", e);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static final class ScheduleJob {
+        private final String jobId;
+        private final String providerId;
+        private final String dedupKey;
+        private final LocalDateTime createdAt;
+        private final CompletableFuture<ScheduleCreateResDto> future;
+        private volatile LocalDateTime finishedAt;
+
+        void markFinished() {
+            this.finishedAt = LocalDateTime.now();
+        }
+    }
+}
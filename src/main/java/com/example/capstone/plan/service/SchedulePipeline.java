@@ -0,0 +1,82 @@
+package com.example.capstone.plan.service;
+
+import com.example.capstone.plan.dto.response.ScheduleCreateResDto.PlaceResponse;
+import com.example.capstone.plan.entity.City;
+import com.example.capstone.plan.entity.TravelTimeMode;
+import com.example.capstone.util.concurrent.StageGraph;
+import com.example.capstone.util.concurrent.StageGraph.Stage;
+import com.example.capstone.util.metrics.PipelineTimer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 일정 생성/재생성 공용 단계 그래프 (정제 이후 단계)
+ * - 하루 정제가 끝나면 그 날의 이동시간(route)과 비용 추정(cost)을 schedulePipelineExecutor 에서 바로 시작
+ *   · N일 이동시간 계산이 N+1일 정제와 겹침 (구간은 날짜를 넘지 않으므로 하루 단위로 계산해도 결과 동일)
+ *   · 비용 추정은 이름/유형만 사용하므로 이동시간을 기다리지 않음 (두 단계는 PlaceResponse 의 서로 다른 필드에 기록)
+ * - afterCosts: 모든 날의 비용 추정 뒤에 실행할 단계 (Gemini 비용 보정 호출 → 이동시간 계산과 겹침)
+ * - 결과 대기/반영은 요청 스레드에서 (awaitRoutes, awaitCosts, await)
+ *
+ * 설정 (schedule.pipeline.*)
+ * - concurrency, queue-capacity: 단계 실행 풀 (가득 차면 요청 스레드에서 직접 실행)
+ */
+@Component
+@RequiredArgsConstructor
+public class SchedulePipeline {
+
+    private final ThreadPoolTaskExecutor schedulePipelineExecutor;
+    private final TmapRouteService tmapRouteService;
+    private final CostEstimator costEstimator;
+
+    public Run start(PipelineTimer timer, City city, TravelTimeMode timeMode) {
+        return new Run(new StageGraph(schedulePipelineExecutor, timer), city, timeMode);
+    }
+
+    /**
+     * 요청 하나의 단계 그래프 (요청 스레드에서만 사용)
+     */
+    public final class Run {
+        private final StageGraph graph;
+        private final City city;
+        private final TravelTimeMode timeMode;
+        private final List<Stage<Void>> routes = new ArrayList<>();
+        private final List<Stage<Void>> costs = new ArrayList<>();
+
+        private Run(StageGraph graph, City city, TravelTimeMode timeMode) {
+            this.graph = graph;
+            this.city = city;
+            this.timeMode = timeMode;
+        }
+
+        /**
+         * 하루 정제 완료 → 그 날의 이동시간/비용 단계 시작 (정제 콜백에서 날짜 순서대로 호출)
+         */
+        public void onDayRefined(String date, List<PlaceResponse> places) {
+            boolean firstDay = routes.isEmpty();
+            routes.add(graph.stage("route", () -> tmapRouteService.populateDayTimes(date, places, firstDay, timeMode)));
+            costs.add(graph.stage("cost", () -> costEstimator.apply(Map.of(date, places), city)));
+        }
+
+        public <T> Stage<T> afterCosts(String name, Supplier<T> action) {
+            return graph.stage(name, costs, action);
+        }
+
+        public void awaitRoutes() {
+            graph.joinAll(routes);
+        }
+
+        public void awaitCosts() {
+            graph.joinAll(costs);
+        }
+
+        public <T> T await(Stage<T> stage) {
+            return graph.join(stage);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.capstone.plan.service;
+
+import com.example.capstone.plan.dto.response.ScheduleCreateResDto.DailyScheduleBlock;
+
+import java.util.List;
+
+/**
+ * 일정 생성 단계별 중간 결과 수신 (SSE 스트리밍 등)
+ * - 필요한 단계만 구현
+ */
+public interface ScheduleProgressListener {
+
+    ScheduleProgressListener NONE = new ScheduleProgressListener() {};
+
+    // 하루치 장소 정제 완료 (이동시간/비용 미포함)
+    default void onDayRefined(DailyScheduleBlock block) {}
+
+    // 전체 일정 이동시간 계산 완료
+    default void onTravelTimes(List<DailyScheduleBlock> blocks) {}
+
+    // 전체 일정 예상 비용 계산 완료
+    default void onEstimatedCosts(List<DailyScheduleBlock> blocks) {}
+}
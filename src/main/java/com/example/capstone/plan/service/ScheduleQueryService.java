@@ -8,8 +8,8 @@ import com.example.capstone.plan.entity.TravelSchedule;
 import com.example.capstone.plan.repository.DayRepository;
 import com.example.capstone.plan.repository.PlaceRepository;
 import com.example.capstone.plan.repository.ScheduleRepository;
-import com.example.capstone.user.entity.UserEntity;
-import com.example.capstone.user.repository.UserRepository;
+import com.example.capstone.user.dto.UserSnapshot;
+import com.example.capstone.user.service.UserResolver;
 import com.example.capstone.util.oauth2.dto.CustomOAuth2User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -23,14 +23,13 @@ import java.util.*;
 public class ScheduleQueryService {
 
     private final ScheduleRepository scheduleRepository;
-    private final UserRepository userRepository;
+    private final UserResolver userResolver;
 
     public List<SimpleScheduleResDto> getSimpleScheduleList(CustomOAuth2User userDetails) {
         String providerId = userDetails.getProviderId();
-        UserEntity user = userRepository.findByProviderId(providerId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        UserSnapshot user = userResolver.resolve(providerId);
 
-        List<TravelSchedule> travelSchedules = scheduleRepository.findByUserId(user.getId());
+        List<TravelSchedule> travelSchedules = scheduleRepository.findByUserId(user.id());
         return travelSchedules.stream()
                 .map(schedule -> new SimpleScheduleResDto(
                         schedule.getId(),
@@ -43,10 +42,9 @@ public class ScheduleQueryService {
 
     public ScheduleCreateResDto getFullSchedule(Long scheduleId, CustomOAuth2User userDetails) {
         String providerId = userDetails.getProviderId();
-        UserEntity user = userRepository.findByProviderId(providerId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        UserSnapshot user = userResolver.resolve(providerId);
 
-        TravelSchedule schedule = scheduleRepository.findByIdAndUserId(scheduleId, user.getId())
+        TravelSchedule schedule = scheduleRepository.findByIdAndUserId(scheduleId, user.id())
                 .orElseThrow(() -> new IllegalArgumentException("접근 권한이 없습니다."));
 
         List<PlaceDetailDto> places = getPlacesFromDatabase(scheduleId);
@@ -7,17 +7,24 @@ import com.example.capstone.plan.dto.request.ScheduleRecreateReqDto;
 import com.example.capstone.plan.dto.response.ScheduleCreateResDto;
 import com.example.capstone.plan.dto.response.ScheduleCreateResDto.PlaceResponse;
 import com.example.capstone.plan.dto.response.ScheduleCreateResDto.DailyScheduleBlock;
+import com.example.capstone.util.concurrent.StageGraph.Stage;
 import com.example.capstone.util.gpt.GptRecreatePromptBuilder;
 import com.example.capstone.util.gpt.GptCostPromptBuilder;
+import com.example.capstone.util.metrics.PipelineMetrics;
+import com.example.capstone.util.metrics.PipelineTimer;
+import com.example.capstone.util.text.PlaceNameMatcher;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ScheduleRecreateService {
@@ -25,36 +32,53 @@ public class ScheduleRecreateService {
     private final ScheduleRefinerService scheduleRefinerService;
     private final GptRecreatePromptBuilder gptRecreatePromptBuilder;
     private final GptCostPromptBuilder gptCostPromptBuilder;
-    private final TmapRouteService tmapRouteService;
+    private final SchedulePipeline schedulePipeline;
 
     // 생성 서비스와 동일하게 Gemini 사용으로 통일
     private final GeminiClient geminiClient;
     private final ObjectMapper objectMapper;
+    private final PipelineMetrics pipelineMetrics;
 
+    @Value("${plan.cost.llm-refine:false}")
+    private boolean llmCostRefine;
+
+    /**
+     * 일정 재생성
+     * - 정제 이후는 생성과 같은 단계 그래프(SchedulePipeline) 사용: 하루 정제가 끝나면 이동시간/비용 계산 시작
+     * - 단계별 소요 시간: schedule.pipeline.stage{pipeline=recreate, stage=prompt|gemini|refine|route|cost|cost-llm}
+     *   · route, cost 는 하루 단위로 기록
+     */
     public ScheduleCreateResDto recreateSchedule(ScheduleRecreateReqDto regenerateRequest) {
+        final PipelineTimer timer = pipelineMetrics.start("recreate");
         try {
             final ScheduleCreateReqDto request = regenerateRequest.getRequest();
             final List<String> excludePlaceNames = Optional.ofNullable(regenerateRequest.getExcludedNames())
                     .orElseGet(Collections::emptyList);
 
             // 1) 프롬프트 생성 & Gemini 호출 (JSON 바로)
-            final String prompt = gptRecreatePromptBuilder.build(request, excludePlaceNames);
-            final JsonNode itineraryNode = Optional.ofNullable(geminiClient.callGeminiAsJsonNode(prompt).get("itinerary"))
+            final String prompt = timer.stage("prompt", () -> gptRecreatePromptBuilder.build(request, excludePlaceNames));
+            final JsonNode itineraryNode = Optional.ofNullable(timer.stage("gemini", () -> geminiClient.callGeminiAsJsonNode(prompt).get("itinerary")))
                     .orElseThrow(() -> new IllegalStateException("Gemini 응답에 'itinerary' 가 없습니다."));
 
             // 2) Gemini 응답 -> 날짜별 GptPlaceDto 맵
             final Map<String, List<GptPlaceDto>> gptMap = parseItineraryToMap(itineraryNode);
 
-            // 3) KakaoMap 정제
-            final Map<String, List<PlaceResponse>> refinedMap = scheduleRefinerService.refine(gptMap);
-
-            // 4) 이동시간 계산(Tmap)
-            tmapRouteService.populateTimes(refinedMap);
-
-            // 5) 예산 계산 (프롬프트 -> Gemini JSON 응답 -> 이름기반 매핑)
-            final String costPrompt = gptCostPromptBuilder.build(convertToPlaceDetailMap(refinedMap));
-            final JsonNode costJson = geminiClient.callGeminiAsJsonNode(costPrompt);
-            applyEstimatedCostsByName(refinedMap, costJson);
+            // 3) KakaoMap 정제 (하루 정제가 끝날 때마다 그 날의 이동시간/비용 계산 시작)
+            final SchedulePipeline.Run stages = schedulePipeline.start(timer, request.getDestination(), request.getTimeMode());
+            final Map<String, List<PlaceResponse>> refinedMap = timer.stage("refine",
+                    () -> scheduleRefinerService.refine(request.getDestination(), gptMap, stages::onDayRefined));
+
+            // 4) 이동시간(Tmap) + 5) 예산 계산 (가격표 기반 로컬 추정, 설정 시 Gemini 이름기반 보정을 이동시간 계산과 겹쳐 호출)
+            final Stage<JsonNode> costLlm = llmCostRefine
+                    ? stages.afterCosts("cost-llm", () -> requestGeminiCosts(refinedMap))
+                    : null;
+            stages.awaitRoutes();
+            stages.awaitCosts();
+
+            final JsonNode costJson = costLlm != null ? stages.await(costLlm) : null;
+            if (costJson != null) {
+                applyEstimatedCostsByName(refinedMap, costJson);
+            }
 
             // 6) 응답 조립 (생성과 동일 포맷)
             final List<DailyScheduleBlock> dailyBlocks = new ArrayList<>();
@@ -83,15 +107,18 @@ public class ScheduleRecreateService {
             final long nights = ChronoUnit.DAYS.between(request.getStartDate(), request.getEndDate());
             final String title = request.getDestination().getDisplayName() + " " + nights + "박 " + (nights + 1) + "일 여행";
 
-            return ScheduleCreateResDto.builder()
+            final ScheduleCreateResDto response = ScheduleCreateResDto.builder()
                     .title(title)
                     .startDate(request.getStartDate())
                     .endDate(request.getEndDate())
                     .days(dailyBlocks)
                     .build();
+            timer.success();
+            return response;
 
         } catch (Exception e) {
-            e.printStackTrace();
+            timer.failure(e);
+            log.error("[일정 재생성] 실패", e);
             throw new RuntimeException("일정 재생성 중 오류 발생: " + e.getMessage(), e);
         }
     }
@@ -141,8 +168,19 @@ public class ScheduleRecreateService {
         return result;
     }
 
-    /** 비용 매핑: 이름 정규화 후 매칭 (생성 서비스의 로직과 동일 철학) */
-    private void applyEstimatedCostsByName(Map<String, List<PlaceResponse>> refinedMap, JsonNode costJson) {
+    /** Gemini 비용 보정 요청 (plan.cost.llm-refine=true). 실패 시 null → 로컬 추정값 유지 */
+    private JsonNode requestGeminiCosts(Map<String, List<PlaceResponse>> refinedMap) {
+        try {
+            final String costPrompt = gptCostPromptBuilder.build(convertToPlaceDetailMap(refinedMap));
+            return geminiClient.callGeminiAsJsonNode(costPrompt);
+        } catch (Exception e) {
+            log.warn("[일정 재생성] Gemini 비용 보정 실패, 로컬 추정값 사용: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /** 비용 매핑: 이름 정규화 후 매칭 (생성 서비스의 로직과 동일 철학, 벤치마크에서 직접 호출하므로 package-private) */
+    static void applyEstimatedCostsByName(Map<String, List<PlaceResponse>> refinedMap, JsonNode costJson) {
         // costJson 구조가 (1) 날짜 키 오브젝트 이거나 (2) itinerary 배열일 수 있음. 둘 다 지원.
         if (costJson.has("itinerary") && costJson.get("itinerary").isArray()) {
             // 케이스 (2): itinerary 배열
@@ -176,47 +214,22 @@ public class ScheduleRecreateService {
         }
     }
 
-    private void mapCostsByName(List<PlaceResponse> places, JsonNode travelSchedule) {
+    private static void mapCostsByName(List<PlaceResponse> places, JsonNode travelSchedule) {
+        // 장소명은 한 번만 정규화/색인 (완전 일치 → 약한 포함 매칭 순)
+        final PlaceNameMatcher<PlaceResponse> matcher = PlaceNameMatcher.of(places, PlaceResponse::getName);
+
         for (JsonNode placeNode : travelSchedule) {
             final String gptName = optText(placeNode, "name");
             final Integer cost = placeNode.hasNonNull("estimatedCost") ? placeNode.get("estimatedCost").asInt(0) : 0;
             if (gptName == null) continue;
 
-            final String key = normalize(gptName);
-
-            // 1순위: 완전 일치
-            Optional<PlaceResponse> exact = places.stream()
-                    .filter(p -> normalize(p.getName()).equals(key))
-                    .findFirst();
-
-            if (exact.isPresent()) {
-                exact.get().setEstimatedCost(cost);
-                continue;
+            final PlaceResponse matched = matcher.find(gptName);
+            if (matched != null) {
+                matched.setEstimatedCost(cost);
             }
-
-            // 2순위: 약한 포함 매칭(지점/띄어쓰기 차이 보정)
-            Optional<PlaceResponse> weak = places.stream()
-                    .filter(p -> weakEquals(p.getName(), gptName))
-                    .findFirst();
-
-            weak.ifPresent(p -> p.setEstimatedCost(cost));
         }
     }
 
-    // === 문자열 정규화/약매칭 유틸 (생성 서비스와 동일 철학) ===
-    private static String normalize(String s) {
-        if (s == null) return "";
-        return s.replaceAll("[\\s\\p{Z}]+", "")
-                .replaceAll("[()\\[\\]{}·ㆍ・·••—–-]", "")
-                .toLowerCase();
-    }
-
-    private static boolean weakEquals(String a, String b) {
-        String na = normalize(a);
-        String nb = normalize(b);
-        return na.equals(nb) || na.contains(nb) || nb.contains(na);
-    }
-
     private static String optText(JsonNode node, String field) {
         return node != null && node.has(field) && !node.get(field).isNull() ? node.get(field).asText() : null;
     }
@@ -5,6 +5,7 @@ import com.example.capstone.plan.dto.common.GptPlaceDto;
 import com.example.capstone.plan.dto.common.KakaoPlaceDto;
 import com.example.capstone.plan.dto.common.PlaceDetailDto;
 import com.example.capstone.plan.dto.response.ScheduleCreateResDto;
+import com.example.capstone.plan.entity.City;
 import com.example.capstone.plan.entity.TravelDay;
 import com.example.capstone.plan.entity.TravelPlace;
 import com.example.capstone.plan.repository.DayRepository;
@@ -13,56 +14,181 @@ import com.example.capstone.plan.dto.response.ScheduleCreateResDto.PlaceResponse
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiConsumer;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ScheduleRefinerService {
 
     private final KakaoMapClient kakaoMapClient;
+    private final PlaceGazetteer placeGazetteer;
+    private final ThreadPoolTaskExecutor kakaoLookupExecutor;
     private final ObjectMapper objectMapper = new ObjectMapper();
     private final DayRepository dayRepository;
     private final PlaceRepository placeRepository;
 
+    /**
+     * GPT 일정(날짜별 장소) → Kakao 정제
+     * - 일정 전체의 장소 검색을 kakaoLookupExecutor 풀로 한 번에 병렬 요청
+     * - 결과는 원래 날짜/장소 순서대로 조립
+     * - kakao.lookup.concurrency 가 1 이하이면 기존처럼 순차 처리
+     * - 풀이 가득 차면 넘친 장소는 요청 스레드에서 직접 검색
+     */
     public Map<String, List<PlaceResponse>> refine(Map<String, List<GptPlaceDto>> gptMap) {
-        Map<String, List<PlaceResponse>> refinedMap = new LinkedHashMap<>();
+        return refine(null, gptMap, (date, places) -> {});
+    }
+
+    /**
+     * refine + 목적지 도시의 장소 색인(PlaceGazetteer)을 먼저 조회, 없을 때만 Kakao 검색
+     */
+    public Map<String, List<PlaceResponse>> refine(City city, Map<String, List<GptPlaceDto>> gptMap) {
+        return refine(city, gptMap, (date, places) -> {});
+    }
 
+    /**
+     * refine + 날짜별 정제가 끝날 때마다 onDayRefined(날짜, 장소목록) 호출 (날짜 순서대로)
+     * - city 가 null 이면 장소 색인 없이 Kakao 검색만 사용
+     */
+    public Map<String, List<PlaceResponse>> refine(City city,
+                                                   Map<String, List<GptPlaceDto>> gptMap,
+                                                   BiConsumer<String, List<PlaceResponse>> onDayRefined) {
+        // 모든 장소 검색을 한꺼번에 제출 (날짜/장소 순서 유지) 후 순서대로 수집
+        Refinement refinement = start(city);
         for (Map.Entry<String, List<GptPlaceDto>> entry : gptMap.entrySet()) {
-            String date = entry.getKey();
-            List<GptPlaceDto> gptPlaces = entry.getValue();
-            List<PlaceResponse> refinedPlaces = new ArrayList<>();
-
-            for (GptPlaceDto gpt : gptPlaces) {
-                KakaoPlaceDto kakaoPlace = kakaoMapClient.searchPlaceFromGpt(
-                        gpt.getName(),
-                        gpt.getLocation() != null ? gpt.getLocation().getName() : null,
-                        mapToCategoryCode(gpt.getType())
-                );
+            for (GptPlaceDto gpt : entry.getValue()) {
+                refinement.submit(entry.getKey(), gpt);
+            }
+        }
+        return refinement.complete(onDayRefined);
+    }
+
+    /**
+     * 장소를 하나씩 받아 정제하는 세션 시작 (Gemini 스트리밍 응답용)
+     * - submit 즉시 장소 검색을 시작하므로 일정 생성이 끝나기 전에 정제가 진행됨
+     * - complete 에서 제출 순서대로 결과 조립
+     */
+    public Refinement start(City city) {
+        return new Refinement(city);
+    }
 
-                String name = kakaoPlace != null ? kakaoPlace.getPlaceName() : gpt.getName();
-                double lat = kakaoPlace != null ? kakaoPlace.getLatitude() : 0.0;
-                double lng = kakaoPlace != null ? kakaoPlace.getLongitude() : 0.0;
+    public final class Refinement {
+        private final City city;
+        private final boolean concurrent = kakaoLookupExecutor.getMaxPoolSize() > 1;
+        private final long startedAt = System.nanoTime();
+        private final Map<String, List<CompletableFuture<PlaceLookup>>> pending = new LinkedHashMap<>();
 
-                PlaceResponse place = PlaceResponse.builder()
-                        .type(gpt.getType())
-                        .hashtag(gpt.getName())
-                        .name(name)
-                        .lat(lat)
-                        .lng(lng)
-                        .estimatedCost(0)
-                        .build();
+        private Refinement(City city) {
+            this.city = city;
+        }
+
+        public synchronized void submit(String date, GptPlaceDto gpt) {
+            pending.computeIfAbsent(date, d -> new ArrayList<>()).add(lookup(gpt));
+        }
 
-                refinedPlaces.add(place);
+        // 풀이 가득 차서 거절되면 제출한 스레드에서 바로 검색 (요청을 실패시키지 않음)
+        private CompletableFuture<PlaceLookup> lookup(GptPlaceDto gpt) {
+            if (concurrent) {
+                try {
+                    return CompletableFuture.supplyAsync(() -> resolvePlace(city, gpt), kakaoLookupExecutor);
+                } catch (TaskRejectedException e) {
+                    log.debug("[Kakao 정제] 검색 풀 포화, 직접 검색: {}", gpt.getName());
+                }
             }
+            return CompletableFuture.completedFuture(resolvePlace(city, gpt));
+        }
 
-            refinedMap.put(date, refinedPlaces);
+        /**
+         * 정제 중단 (스트림이 중간에 실패해 결과를 쓰지 않을 때)
+         * - 아직 풀에서 시작하지 않은 검색은 실행하지 않음
+         * - 이미 진행 중인 검색은 끝까지 진행, 결과는 Kakao 캐시/장소 색인에 남아 이어지는 재생성의 같은 장소 검색이 재사용
+         */
+        public synchronized void cancel() {
+            int skipped = 0;
+            for (List<CompletableFuture<PlaceLookup>> futures : pending.values()) {
+                for (CompletableFuture<PlaceLookup> future : futures) {
+                    if (future.cancel(false)) skipped++;
+                }
+            }
+            pending.clear();
+            log.info("[Kakao 정제] 중단, 시작 전 검색 {}건 취소", skipped);
         }
 
-        return refinedMap;
+        public synchronized Map<String, List<PlaceResponse>> complete(BiConsumer<String, List<PlaceResponse>> onDayRefined) {
+            Map<String, List<PlaceResponse>> refinedMap = new LinkedHashMap<>();
+            long lookupMsSum = 0;
+            int lookupCount = 0;
+            for (Map.Entry<String, List<CompletableFuture<PlaceLookup>>> entry : pending.entrySet()) {
+                List<PlaceResponse> refinedPlaces = new ArrayList<>();
+                for (CompletableFuture<PlaceLookup> future : entry.getValue()) {
+                    PlaceLookup lookup = join(future);
+                    log.debug("[Kakao 정제] {} -> {} ({}ms)", lookup.place().getHashtag(), lookup.place().getName(), lookup.elapsedMs());
+                    lookupMsSum += lookup.elapsedMs();
+                    lookupCount++;
+                    refinedPlaces.add(lookup.place());
+                }
+                refinedMap.put(entry.getKey(), refinedPlaces);
+                onDayRefined.accept(entry.getKey(), refinedPlaces);
+            }
+
+            log.info("[Kakao 정제] 장소 {}개, 총 {}ms (개별 검색 합계 {}ms, 동시성 {})",
+                    lookupCount, (System.nanoTime() - startedAt) / 1_000_000, lookupMsSum,
+                    kakaoLookupExecutor.getMaxPoolSize());
+            return refinedMap;
+        }
     }
 
+    private PlaceLookup resolvePlace(City city, GptPlaceDto gpt) {
+        long startedAt = System.nanoTime();
+        String categoryCode = mapToCategoryCode(gpt.getType());
+
+        // 장소 색인 적중 시 Kakao 호출 생략
+        KakaoPlaceDto kakaoPlace = placeGazetteer.find(city, gpt.getName(), categoryCode);
+        if (kakaoPlace == null) {
+            kakaoPlace = kakaoMapClient.searchPlaceFromGpt(
+                    gpt.getName(),
+                    gpt.getLocation() != null ? gpt.getLocation().getName() : null,
+                    categoryCode
+            );
+            placeGazetteer.add(city, gpt.getName(), categoryCode, kakaoPlace);
+        }
+
+        String name = kakaoPlace != null ? kakaoPlace.getPlaceName() : gpt.getName();
+        double lat = kakaoPlace != null ? kakaoPlace.getLatitude() : 0.0;
+        double lng = kakaoPlace != null ? kakaoPlace.getLongitude() : 0.0;
+
+        PlaceResponse place = PlaceResponse.builder()
+                .type(gpt.getType())
+                .hashtag(gpt.getName())
+                .name(name)
+                .lat(lat)
+                .lng(lng)
+                .estimatedCost(0)
+                .build();
+
+        return new PlaceLookup(place, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    // 병렬 처리 중 발생한 예외는 원래 예외로 풀어서 전달
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw e;
+        }
+    }
+
+    private record PlaceLookup(PlaceResponse place, long elapsedMs) {}
+
 
 
     /**
@@ -124,7 +250,8 @@ public class ScheduleRefinerService {
     }
 
 
-    private List<GptPlaceDto> extractPlacesFromGptJson(String gptJson) {
+    // 벤치마크에서 직접 호출하므로 package-private
+    List<GptPlaceDto> extractPlacesFromGptJson(String gptJson) {
         List<GptPlaceDto> result = new ArrayList<>();
         try {
             JsonNode root = objectMapper.readTree(gptJson);
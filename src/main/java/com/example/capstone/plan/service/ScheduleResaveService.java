@@ -8,8 +8,8 @@ import com.example.capstone.plan.entity.TravelSchedule;
 import com.example.capstone.plan.repository.DayRepository;
 import com.example.capstone.plan.repository.PlaceRepository;
 import com.example.capstone.plan.repository.ScheduleRepository;
-import com.example.capstone.user.entity.UserEntity;
-import com.example.capstone.user.repository.UserRepository;
+import com.example.capstone.user.dto.UserSnapshot;
+import com.example.capstone.user.service.UserResolver;
 import com.example.capstone.util.oauth2.dto.CustomOAuth2User;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -24,18 +24,17 @@ public class ScheduleResaveService {
     private final ScheduleRepository scheduleRepository;
     private final DayRepository dayRepository;
     private final PlaceRepository placeRepository;
-    private final UserRepository userRepository;
+    private final UserResolver userResolver;
 
     @Transactional
     public ScheduleSaveResDto resaveDayPlaces(Long scheduleId, ScheduleResaveReqDto request, CustomOAuth2User userDetails) {
 
         // ✅ 1. 사용자 검증
         String providerId = userDetails.getProviderId();
-        UserEntity user = userRepository.findByProviderId(providerId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        UserSnapshot user = userResolver.resolve(providerId);
 
         // ✅ 2. 일정 검증
-        TravelSchedule schedule = scheduleRepository.findByIdAndUserId(scheduleId, user.getId())
+        TravelSchedule schedule = scheduleRepository.findByIdAndUserId(scheduleId, user.id())
                 .orElseThrow(() -> new IllegalArgumentException("해당 일정이 존재하지 않거나 접근 권한이 없습니다."));
 
         // ✅ 3. 요청에서 하루 일정 추출
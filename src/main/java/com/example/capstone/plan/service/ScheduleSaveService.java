@@ -9,7 +9,7 @@ import com.example.capstone.plan.repository.DayRepository;
 import com.example.capstone.plan.repository.PlaceRepository;
 import com.example.capstone.plan.repository.ScheduleRepository;
 import com.example.capstone.user.entity.UserEntity;
-import com.example.capstone.user.repository.UserRepository;
+import com.example.capstone.user.service.UserResolver;
 import com.example.capstone.util.oauth2.dto.CustomOAuth2User;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -25,7 +25,7 @@ public class ScheduleSaveService {
 
     private final DayRepository dayRepository;
     private final PlaceRepository placeRepository;
-    private final UserRepository userRepository;
+    private final UserResolver userResolver;
     private final ScheduleRepository scheduleRepository;
 
 
@@ -34,8 +34,7 @@ public class ScheduleSaveService {
     public ScheduleSaveResDto saveSchedule(ScheduleSaveReqDto request, CustomOAuth2User userDetails) {
 
         String providerId = userDetails.getProviderId();
-        UserEntity user = userRepository.findByProviderId(providerId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        UserEntity user = userResolver.reference(providerId);
 
         TravelSchedule travelSchedule = TravelSchedule.builder()
                 .user(user)
@@ -0,0 +1,95 @@
+package com.example.capstone.plan.service;
+
+import com.example.capstone.exception.ErrorDetails;
+import com.example.capstone.plan.dto.request.ScheduleCreateReqDto;
+import com.example.capstone.plan.dto.response.ScheduleCreateResDto;
+import com.example.capstone.plan.dto.response.ScheduleCreateResDto.DailyScheduleBlock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 일정 생성 SSE 스트리밍
+ *
+ * 이벤트 순서
+ * - day      : 하루치 정제 완료 (DailyScheduleBlock, 이동시간/비용 미포함) → 날짜 수만큼
+ * - times    : 이동시간 반영된 전체 일정 (List<DailyScheduleBlock>)
+ * - costs    : 예상 비용 반영된 전체 일정 (List<DailyScheduleBlock>)
+ * - complete : 최종 결과 (/schedule/create 응답과 동일한 ScheduleCreateResDto)
+ * - error    : 실패 시 ErrorDetails
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ScheduleStreamService {
+
+    private final ScheduleCreateService scheduleCreateService;
+    private final ThreadPoolTaskExecutor scheduleStreamExecutor;
+
+    @Value("${schedule.stream.timeout:180s}")
+    private Duration timeout;
+
+    public SseEmitter streamCreate(ScheduleCreateReqDto request) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+
+        try {
+            scheduleStreamExecutor.execute(() -> run(emitter, request));
+        } catch (TaskRejectedException e) {
+            throw new RuntimeException("일정 생성 요청이 많습니다. 잠시 후 다시 시도해주세요.", e);
+        }
+        return emitter;
+    }
+
+    private void run(SseEmitter emitter, ScheduleCreateReqDto request) {
+        try {
+            ScheduleCreateResDto result = scheduleCreateService.generateSchedule(request, new ScheduleProgressListener() {
+                @Override
+                public void onDayRefined(DailyScheduleBlock block) {
+                    send(emitter, "day", block);
+                }
+
+                @Override
+                public void onTravelTimes(List<DailyScheduleBlock> blocks) {
+                    send(emitter, "times", blocks);
+                }
+
+                @Override
+                public void onEstimatedCosts(List<DailyScheduleBlock> blocks) {
+                    send(emitter, "costs", blocks);
+                }
+            });
+
+            send(emitter, "complete", result);
+            emitter.complete();
+
+        } catch (Exception e) {
+            log.warn("[일정 생성 스트리밍 실패] {}", e.getMessage());
+            try {
+                emitter.send(SseEmitter.event()
+                        .name("error")
+                        .data(new ErrorDetails(e.getMessage(), "uri=/schedule/create/stream", null)));
+                emitter.complete();
+            } catch (Exception ignored) {
+                // 클라이언트 연결 종료 등으로 전송 불가
+                emitter.completeWithError(e);
+            }
+        }
+    }
+
+    // 전송 실패(클라이언트 연결 종료) 시 예외를 던져 남은 단계를 중단
+    private void send(SseEmitter emitter, String event, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(event).data(data));
+        } catch (IOException e) {
+            throw new IllegalStateException("SSE 전송 실패 (클라이언트 연결 종료): " + event, e);
+        }
+    }
+}
@@ -1,23 +1,37 @@
 package com.example.capstone.plan.service;
 
 import com.example.capstone.plan.dto.response.ScheduleCreateResDto.PlaceResponse;
+import com.example.capstone.plan.entity.TravelMode;
+import com.example.capstone.plan.entity.TravelTimeMode;
+import com.example.capstone.plan.service.RouteLegPlanner.Leg;
+import com.example.capstone.plan.service.RouteLegPlanner.LegPlan;
+import com.example.capstone.util.http.Upstream;
+import com.example.capstone.util.http.UpstreamRestTemplates;
+import com.example.capstone.util.ratelimit.RateLimitExceededException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.*;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
 
-import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class TmapRouteService {
@@ -25,22 +39,47 @@ public class TmapRouteService {
     @Value("${TMAP_API_KEY}")
     private String appKey;
 
-    private final RestTemplateBuilder restTemplateBuilder;
+    // 부하 테스트 시 로컬 대체 서버로 교체 (loadtest 프로필)
+    @Value("${tmap.base-url:https://apis.openapi.sk.com}")
+    private String baseUrl;
+
+    @Value("${tmap.time-mode:exact}")
+    private String defaultTimeMode;
+
+    private final UpstreamRestTemplates upstreamRestTemplates;
     private final ObjectMapper objectMapper;
+    private final RouteLegPlanner routeLegPlanner;
+    private final RouteTimeCache routeTimeCache;
+    private final ThreadPoolTaskExecutor tmapRouteExecutor;
+    private final ThreadPoolTaskExecutor tmapRefineExecutor;
+    private final TravelTimeEstimator travelTimeEstimator;
+    private final MeterRegistry meterRegistry;
 
+    // 업스트림 공용 커넥션 풀 사용 (upstream.http.tmap.*)
     private RestTemplate getRestTemplate() {
-        return restTemplateBuilder
-                .setConnectTimeout(Duration.ofSeconds(5))
-                .setReadTimeout(Duration.ofSeconds(10))
-                .build();
+        return upstreamRestTemplates.get(Upstream.TMAP);
     }
 
+    /**
+     * 두 지점 간 이동시간(분)
+     * - RouteTimeCache(L1/Redis) 적중 시 Tmap 호출 생략
+     * - 실제 Tmap 결과는 TravelTimeEstimator 보정에 사용
+     */
     public int getTime(String mode, double startLat, double startLng, double endLat, double endLng) {
+        TravelMode travelMode = TravelMode.from(mode);
+        return routeTimeCache.get(travelMode, startLat, startLng, endLat, endLng, () -> {
+            int minutes = requestTime(mode, startLat, startLng, endLat, endLng);
+            travelTimeEstimator.observe(travelMode, startLat, startLng, endLat, endLng, minutes);
+            return minutes;
+        });
+    }
+
+    private int requestTime(String mode, double startLat, double startLng, double endLat, double endLng) {
         try {
             String url = switch (mode) {
-                case "walk" -> "https://apis.openapi.sk.com/tmap/routes/pedestrian?version=1&format=json";
-                case "drive" -> "https://apis.openapi.sk.com/tmap/routes?version=1&format=json";
-                case "transit" -> "https://apis.openapi.sk.com/transit/routes";
+                case "walk" -> baseUrl + "/tmap/routes/pedestrian?version=1&format=json";
+                case "drive" -> baseUrl + "/tmap/routes?version=1&format=json";
+                case "transit" -> baseUrl + "/transit/routes";
                 default -> throw new IllegalArgumentException("잘못된 이동 모드: " + mode);
             };
 
@@ -90,29 +129,191 @@ public class TmapRouteService {
         }
     }
 
+    /**
+     * 일정 전체의 이동시간 계산 (기본 계산 방식: tmap.time-mode)
+     */
     public void populateTimes(Map<String, List<PlaceResponse>> schedule) {
-        PlaceResponse prev = null;
+        populateTimes(schedule, null);
+    }
 
-        for (List<PlaceResponse> dayPlaces : schedule.values()) {
-            for (PlaceResponse current : dayPlaces) {
-                if (prev != null) {
-                    try {
-                        int walk = getTime("walk", prev.getLat(), prev.getLng(), current.getLat(), current.getLng());
-                        int drive = getTime("drive", prev.getLat(), prev.getLng(), current.getLat(), current.getLng());
-                        int transit = getTime("transit", prev.getLat(), prev.getLng(), current.getLat(), current.getLng());
+    /**
+     * 일정 전체의 이동시간 계산
+     * - FAST: 모든 구간을 보정된 추정값으로 채움 (Tmap 호출 없음)
+     * - HYBRID: FAST와 같이 바로 반환, Tmap 조회는 백그라운드(tmapRefineExecutor)로 보내 캐시/보정 계수만 갱신
+     *   · 백그라운드 결과는 이번 응답에 반영되지 않음 (다음 요청의 캐시 적중/추정 정확도에만 기여)
+     * - EXACT: RouteLegPlanner가 고른 구간 × 이동수단을 tmapRouteExecutor 풀로 동시에 요청
+     *   · 조회하지 않는 수단은 추정값, 실패한 이동수단만 -1 (나머지 수단의 결과는 유지)
+     *   · Tmap 호출 한도(upstream.rate-limit.tmap*)에 걸린 수단은 추정값
+     *   · 풀이 가득 차서 제출이 거절된 수단도 추정값 (요청을 실패시키지 않음)
+     * - 좌표가 없는 구간은 -1, 결과는 일정 순서대로 PlaceResponse에 반영
+     */
+    public void populateTimes(Map<String, List<PlaceResponse>> schedule, TravelTimeMode timeMode) {
+        populate(routeLegPlanner.plan(schedule), timeMode);
+    }
 
-                        current.setWalkTime(walk);
-                        current.setDriveTime(drive);
-                        current.setTransitTime(transit);
-                    } catch (Exception e) {
-                        System.err.println("[Tmap 경로 계산 실패] " + e.getMessage());
-                        current.setWalkTime(-1);
-                        current.setDriveTime(-1);
-                        current.setTransitTime(-1);
+    /**
+     * 하루치 이동시간 계산 (일정 생성 시 정제가 끝난 날부터 바로 계산)
+     * - 구간은 날짜를 넘지 않으므로 populateTimes 로 일정 전체를 계산한 결과와 같음
+     * - firstDay 가 아니면 전날 마지막 장소 → 첫 장소 구간을 날짜경계 생략으로 집계
+     */
+    public void populateDayTimes(String date, List<PlaceResponse> places, boolean firstDay, TravelTimeMode timeMode) {
+        LegPlan plan = routeLegPlanner.plan(Map.of(date, places));
+        populate(firstDay || places.isEmpty() ? plan : plan.withCrossDayLegs(plan.crossDayLegs() + 1), timeMode);
+    }
+
+    private void populate(LegPlan plan, TravelTimeMode timeMode) {
+        long startedAt = System.nanoTime();
+        TravelTimeMode mode = timeMode != null ? timeMode : TravelTimeMode.from(defaultTimeMode);
+
+        // 좌표가 없는 구간은 계산 불가
+        for (PlaceResponse place : plan.unreachable()) {
+            for (TravelMode travelMode : TravelMode.values()) {
+                applyTime(place, travelMode, -1);
+            }
+        }
+
+        if (mode == TravelTimeMode.EXACT) {
+            populateExact(plan, startedAt);
+            return;
+        }
+
+        for (Leg leg : plan.legs()) {
+            for (TravelMode travelMode : TravelMode.values()) {
+                applyTime(leg.to(), travelMode, estimate(leg, travelMode));
+            }
+        }
+        int refining = mode == TravelTimeMode.HYBRID ? refineInBackground(plan.legs()) : 0;
+
+        log.info("[Tmap 이동시간] {} 구간 {}개 추정, 백그라운드 조회 제출 {}건, 총 {}ms",
+                mode, plan.legs().size(), refining, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    private void populateExact(LegPlan plan, long startedAt) {
+        List<Leg> legs = plan.legs();
+
+        // 1. 조회 대상 구간/이동수단 요청 제출
+        List<Map<TravelMode, CompletableFuture<Integer>>> pending = new ArrayList<>(legs.size());
+        for (Leg leg : legs) {
+            Map<TravelMode, CompletableFuture<Integer>> byMode = new EnumMap<>(TravelMode.class);
+            for (TravelMode mode : leg.modes()) {
+                CompletableFuture<Integer> future;
+                try {
+                    future = CompletableFuture.supplyAsync(() -> getTime(
+                            mode.getCode(),
+                            leg.from().getLat(), leg.from().getLng(),
+                            leg.to().getLat(), leg.to().getLng()
+                    ), tmapRouteExecutor);
+                } catch (TaskRejectedException e) {
+                    future = CompletableFuture.failedFuture(e);
+                }
+                byMode.put(mode, future);
+            }
+            pending.add(byMode);
+        }
+
+        // 2. 일정 순서대로 결과 반영 (조회하지 않은 수단, 호출 한도에 걸리거나 풀이 거절한 수단은 추정값)
+        int calls = 0;
+        int failures = 0;
+        int rateLimited = 0;
+        int rejected = 0;
+        for (int i = 0; i < legs.size(); i++) {
+            Leg leg = legs.get(i);
+            PlaceResponse current = leg.to();
+            Map<TravelMode, CompletableFuture<Integer>> byMode = pending.get(i);
+
+            for (TravelMode mode : TravelMode.values()) {
+                CompletableFuture<Integer> future = byMode.get(mode);
+                if (future == null) {
+                    applyTime(current, mode, estimate(leg, mode));
+                    continue;
+                }
+
+                int minutes;
+                try {
+                    minutes = future.join();
+                    calls++;
+                } catch (CompletionException e) {
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    if (cause instanceof TaskRejectedException) {
+                        applyTime(current, mode, estimate(leg, mode));
+                        rejected++;
+                        continue;
                     }
+                    calls++;
+                    if (isRateLimited(cause)) {
+                        applyTime(current, mode, estimate(leg, mode));
+                        rateLimited++;
+                        continue;
+                    }
+                    log.warn("[Tmap 경로 계산 실패] {} {} → {}: {}", mode.getCode(),
+                            leg.from().getName(), current.getName(), cause.getMessage());
+                    minutes = -1;
+                    failures++;
                 }
-                prev = current;
+                applyTime(current, mode, minutes);
             }
         }
+
+        recordAvoided("cross-day", plan.crossDayLegs() * TravelMode.values().length);
+        recordAvoided("invalid", plan.invalidLegs() * TravelMode.values().length);
+        recordAvoided("estimated", plan.estimatedModes());
+        recordAvoided("rate-limited", rateLimited);
+        recordAvoided("rejected", rejected);
+
+        log.info("[Tmap 이동시간] 구간 {}개, 요청 {}건(실패 {}건, 한도초과 추정 {}건), 생략 {}건(날짜경계 {}, 좌표없음 {}, 추정 {}, 풀 거절 {}), 총 {}ms (동시성 {})",
+                legs.size(), calls, failures, rateLimited, plan.avoidedCalls() + rejected, plan.crossDayLegs(), plan.invalidLegs(),
+                plan.estimatedModes(), rejected, (System.nanoTime() - startedAt) / 1_000_000,
+                tmapRouteExecutor.getMaxPoolSize());
+    }
+
+    private int estimate(Leg leg, TravelMode mode) {
+        return travelTimeEstimator.estimateMinutes(mode,
+                leg.from().getLat(), leg.from().getLng(), leg.to().getLat(), leg.to().getLng());
+    }
+
+    /**
+     * HYBRID: 이미 반환한 일정은 건드리지 않고, Tmap 결과로 캐시와 추정 보정 계수만 갱신
+     * - 결과는 클라이언트에 전달되지 않음 → EXACT 요청과 풀을 나눠 쓰지 않도록 전용 풀(tmapRefineExecutor) 사용
+     * - 풀이 가득 차면 넘친 조회는 풀의 DiscardPolicy 가 버림 (다음 요청에서 다시 시도)
+     */
+    private int refineInBackground(List<Leg> legs) {
+        int submitted = 0;
+        for (Leg leg : legs) {
+            for (TravelMode mode : leg.modes()) {
+                tmapRefineExecutor.execute(() -> {
+                    try {
+                        getTime(mode.getCode(), leg.from().getLat(), leg.from().getLng(),
+                                leg.to().getLat(), leg.to().getLng());
+                    } catch (Exception e) {
+                        log.debug("[Tmap 백그라운드 조회 실패] {} {} → {}: {}", mode.getCode(),
+                                leg.from().getName(), leg.to().getName(), e.getMessage());
+                    }
+                });
+                submitted++;
+            }
+        }
+        return submitted;
+    }
+
+    private static boolean isRateLimited(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof RateLimitExceededException) return true;
+        }
+        return false;
+    }
+
+    // 생략한 Tmap 호출 수: tmap.route.calls.avoided{reason}
+    private void recordAvoided(String reason, int count) {
+        if (count > 0) {
+            meterRegistry.counter("tmap.route.calls.avoided", "reason", reason).increment(count);
+        }
+    }
+
+    private void applyTime(PlaceResponse place, TravelMode mode, int minutes) {
+        switch (mode) {
+            case WALK -> place.setWalkTime(minutes);
+            case DRIVE -> place.setDriveTime(minutes);
+            case TRANSIT -> place.setTransitTime(minutes);
+        }
     }
 }
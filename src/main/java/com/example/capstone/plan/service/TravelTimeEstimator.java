@@ -0,0 +1,136 @@
+package com.example.capstone.plan.service;
+
+import com.example.capstone.plan.entity.TravelMode;
+import com.example.capstone.util.geo.GeoUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 직선 거리 기반 이동시간 추정 (Tmap 호출 없이 채우는 값)
+ * - 실제 경로는 직선보다 길기 때문에 detour-factor 를 곱한 거리로 계산
+ * - 대중교통은 평균 대기/환승 시간을 더하되, 걷는 편이 빠르면 도보 시간 사용
+ * - 실제 Tmap 결과를 관측할 때마다 (지역 격자, 이동수단)별 보정 계수를 갱신
+ *   · 관측 수가 min-samples 미만인 지역은 이동수단 전체 보정 계수 사용
+ *   · 보정 계수는 지수 이동 평균, 0.5 ~ 3.0 범위로 제한
+ *
+ * 설정 (tmap.estimate.*)
+ * - detour-factor, walk-speed-kmh, drive-speed-kmh, transit-speed-kmh, transit-wait-minutes
+ * - calibration.region-degrees, calibration.min-samples, calibration.alpha
+ */
+@Component
+public class TravelTimeEstimator {
+
+    private static final double MIN_RATIO = 0.5;
+    private static final double MAX_RATIO = 3.0;
+    private static final double MIN_OBSERVED_DISTANCE = 100;
+
+    private final double detourFactor;
+    private final double walkSpeedKmh;
+    private final double driveSpeedKmh;
+    private final double transitSpeedKmh;
+    private final int transitWaitMinutes;
+    private final double regionDegrees;
+    private final int minSamples;
+    private final double alpha;
+
+    private final Map<String, Calibration> calibrations = new ConcurrentHashMap<>();
+
+    public TravelTimeEstimator(@Value("${tmap.estimate.detour-factor:1.3}") double detourFactor,
+                               @Value("${tmap.estimate.walk-speed-kmh:4.0}") double walkSpeedKmh,
+                               @Value("${tmap.estimate.drive-speed-kmh:30}") double driveSpeedKmh,
+                               @Value("${tmap.estimate.transit-speed-kmh:18}") double transitSpeedKmh,
+                               @Value("${tmap.estimate.transit-wait-minutes:8}") int transitWaitMinutes,
+                               @Value("${tmap.estimate.calibration.region-degrees:0.25}") double regionDegrees,
+                               @Value("${tmap.estimate.calibration.min-samples:5}") int minSamples,
+                               @Value("${tmap.estimate.calibration.alpha:0.1}") double alpha) {
+        this.detourFactor = detourFactor;
+        this.walkSpeedKmh = walkSpeedKmh;
+        this.driveSpeedKmh = driveSpeedKmh;
+        this.transitSpeedKmh = transitSpeedKmh;
+        this.transitWaitMinutes = transitWaitMinutes;
+        this.regionDegrees = regionDegrees;
+        this.minSamples = minSamples;
+        this.alpha = alpha;
+    }
+
+    /**
+     * 직선 거리(미터) → 이동시간(분, 최소 1분), 보정 없음
+     */
+    public int estimateMinutes(TravelMode mode, double distanceMeters) {
+        return toMinutes(baseMinutes(mode, distanceMeters));
+    }
+
+    /**
+     * 두 지점 간 이동시간(분, 최소 1분), 출발 지역의 보정 계수 적용
+     */
+    public int estimateMinutes(TravelMode mode, double startLat, double startLng, double endLat, double endLng) {
+        double distance = GeoUtils.haversineMeters(startLat, startLng, endLat, endLng);
+        return toMinutes(baseMinutes(mode, distance) * ratio(mode, startLat, startLng));
+    }
+
+    /**
+     * 실제 Tmap 결과 관측 → 보정 계수 갱신
+     * - 너무 가까운 구간, 실패(음수) 결과는 무시
+     */
+    public void observe(TravelMode mode, double startLat, double startLng, double endLat, double endLng, int minutes) {
+        if (minutes <= 0) return;
+        double distance = GeoUtils.haversineMeters(startLat, startLng, endLat, endLng);
+        if (distance < MIN_OBSERVED_DISTANCE) return;
+
+        double ratio = clamp(minutes / baseMinutes(mode, distance));
+        calibrations.computeIfAbsent(regionKey(mode, startLat, startLng), k -> new Calibration()).update(ratio, alpha);
+        calibrations.computeIfAbsent(mode.getCode(), k -> new Calibration()).update(ratio, alpha);
+    }
+
+    private double ratio(TravelMode mode, double lat, double lng) {
+        Calibration region = calibrations.get(regionKey(mode, lat, lng));
+        if (region != null && region.samples() >= minSamples) return region.ratio();
+
+        Calibration global = calibrations.get(mode.getCode());
+        if (global != null && global.samples() >= minSamples) return global.ratio();
+        return 1.0;
+    }
+
+    private double baseMinutes(TravelMode mode, double distanceMeters) {
+        double km = distanceMeters * detourFactor / 1000.0;
+        return switch (mode) {
+            case WALK -> km / walkSpeedKmh * 60;
+            case DRIVE -> km / driveSpeedKmh * 60;
+            case TRANSIT -> Math.min(km / walkSpeedKmh * 60, km / transitSpeedKmh * 60 + transitWaitMinutes);
+        };
+    }
+
+    private String regionKey(TravelMode mode, double lat, double lng) {
+        return mode.getCode() + ":" + (long) Math.floor(lat / regionDegrees) + ":" + (long) Math.floor(lng / regionDegrees);
+    }
+
+    private static int toMinutes(double minutes) {
+        return Math.max(1, (int) Math.ceil(minutes));
+    }
+
+    private static double clamp(double ratio) {
+        return Math.max(MIN_RATIO, Math.min(MAX_RATIO, ratio));
+    }
+
+    // (지역, 이동수단)별 실제/추정 비율의 지수 이동 평균
+    private static final class Calibration {
+        private double ratio = 1.0;
+        private long samples;
+
+        synchronized void update(double observed, double alpha) {
+            ratio = samples == 0 ? observed : ratio + alpha * (observed - ratio);
+            samples++;
+        }
+
+        synchronized double ratio() {
+            return ratio;
+        }
+
+        synchronized long samples() {
+            return samples;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.capstone.user.dto;
+
+import com.example.capstone.user.entity.Gender;
+import com.example.capstone.user.entity.UserEntity;
+
+/**
+ * 인증된 사용자의 가벼운 사본 (UserResolver 캐시 값)
+ * - 연관관계 설정이 필요하면 UserResolver.reference 로 엔티티 참조를 받음
+ */
+public record UserSnapshot(Long id, String providerId, String nickname, String profileImageUrl, int age, Gender gender) {
+
+    public static UserSnapshot from(UserEntity user) {
+        return new UserSnapshot(user.getId(), user.getProviderId(), user.getNickname(), user.getProfileImageUrl(),
+                user.getAge(), user.getGender());
+    }
+}
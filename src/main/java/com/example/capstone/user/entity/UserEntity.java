@@ -33,8 +33,8 @@ public class UserEntity extends BaseTimeEntity {
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Comment> comments  = new ArrayList<>();
 
-    // 사용자 식별자 (kakao + provider id)
-    @Column(nullable = false)
+    // 사용자 식별자 (kakao + provider id), 요청마다 조회하므로 유니크 인덱스
+    @Column(nullable = false, unique = true)
     private String providerId;
 
     @Column(nullable = false, unique = true)
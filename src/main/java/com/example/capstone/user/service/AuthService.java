@@ -2,6 +2,7 @@ package com.example.capstone.user.service;
 
 import com.example.capstone.user.dto.SignupResDto;
 import com.example.capstone.user.exception.InvalidTokenException;
+import com.example.capstone.util.jwt.JwtClaims;
 import com.example.capstone.util.jwt.JwtUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -22,13 +23,14 @@ public class AuthService {
     private long refreshExpiationMs;
 
     public SignupResDto reissue(String refreshToken) {
-        if (!jwtUtil.validateJwt(refreshToken) || !jwtUtil.getTypeFromJwt(refreshToken).equals("REFRESH")) {
+        JwtClaims claims = jwtUtil.parse(refreshToken);
+        if (!claims.isType("REFRESH")) {
             throw new InvalidTokenException("Invalid refresh token");
         }
 
-        String nickname = jwtUtil.getNicknameFromJwt(refreshToken);
-        String providerId = jwtUtil.getProviderIdFromJwt(refreshToken);
-        String email = jwtUtil.getEmailFromJwt(refreshToken);
+        String nickname = claims.nickname();
+        String providerId = claims.providerId();
+        String email = claims.email();
 
         // Todo: Redis 통한 Refresh 토큰 유효성 검증 후 삭제
         String storedRefreshToken = redisTemplate.opsForValue().get("REFRESH:" + nickname);
@@ -51,10 +53,11 @@ public class AuthService {
     }
 
     public void logout(String refreshToken) {
-        if (!jwtUtil.validateJwt(refreshToken) || !jwtUtil.getTypeFromJwt(refreshToken).equals("REFRESH")) {
+        JwtClaims claims = jwtUtil.parse(refreshToken);
+        if (!claims.isType("REFRESH")) {
             throw new InvalidTokenException("Invalid refresh token");
         }
-        String nickname = jwtUtil.getNicknameFromJwt(refreshToken);
+        String nickname = claims.nickname();
 
         // Todo: Redis 통한 Refresh 토큰 유효성 검증
         String storedRefreshToken = redisTemplate.opsForValue().get("REFRESH:" + nickname);
@@ -0,0 +1,96 @@
+package com.example.capstone.user.service;
+
+import com.example.capstone.user.dto.UserSnapshot;
+import com.example.capstone.user.entity.UserEntity;
+import com.example.capstone.user.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+
+/**
+ * providerId → 사용자 사본(UserSnapshot) 조회
+ * - 요청 안에서는 한 번만 조회 (요청 속성에 보관), 요청 밖(STOMP, 비동기 작업)에서는 공용 캐시만 사용
+ * - 공용 캐시(Caffeine)에 없을 때만 DB 조회 (providerId 유니크 인덱스)
+ * - 없는 사용자는 EntityNotFoundException, 결과를 캐시하지 않음
+ * - reference: 연관관계 설정/조회 조건용 엔티티 참조 (getReferenceById → SELECT 없음)
+ *   · 참조의 id 외 필드를 읽으면 그때 조회되므로 닉네임 등은 사본에서 읽음
+ * - 프로필 수정/가입 시 evict (트랜잭션 커밋 후 한 번 더 비워 커밋 전 값이 다시 적재되지 않도록)
+ *   · 노드별 캐시라 다른 노드에는 ttl 이후 반영
+ *
+ * 설정 (user.cache.*)
+ * - max-size, ttl
+ *
+ * 메트릭
+ * - cache.gets{cache=user.snapshot, result=hit|miss} 등 Caffeine 캐시 지표
+ */
+@Component
+public class UserResolver {
+
+    private static final String REQUEST_ATTRIBUTE = UserResolver.class.getName() + ".";
+
+    private final UserRepository userRepository;
+    private final Cache<String, UserSnapshot> snapshots;
+
+    public UserResolver(UserRepository userRepository,
+                        @Value("${user.cache.max-size:10000}") long maxSize,
+                        @Value("${user.cache.ttl:5m}") Duration ttl,
+                        MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, snapshots, "user.snapshot");
+    }
+
+    public UserSnapshot resolve(String providerId) {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request != null && request.getAttribute(REQUEST_ATTRIBUTE + providerId, RequestAttributes.SCOPE_REQUEST) instanceof UserSnapshot memo) {
+            return memo;
+        }
+
+        UserSnapshot snapshot = snapshots.get(providerId, id -> userRepository.findByProviderId(id)
+                .map(UserSnapshot::from)
+                .orElse(null));
+        if (snapshot == null) {
+            throw new EntityNotFoundException("User Not Found");
+        }
+
+        if (request != null) {
+            request.setAttribute(REQUEST_ATTRIBUTE + providerId, snapshot, RequestAttributes.SCOPE_REQUEST);
+        }
+        return snapshot;
+    }
+
+    public UserEntity reference(String providerId) {
+        return userRepository.getReferenceById(resolve(providerId).id());
+    }
+
+    public void evict(String providerId) {
+        snapshots.invalidate(providerId);
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request != null) {
+            request.removeAttribute(REQUEST_ATTRIBUTE + providerId, RequestAttributes.SCOPE_REQUEST);
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    snapshots.invalidate(providerId);
+                }
+            });
+        }
+    }
+}
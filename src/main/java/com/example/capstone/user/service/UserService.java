@@ -26,6 +26,7 @@ import java.util.concurrent.TimeUnit;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final UserResolver userResolver;
     private final ImageService imageService;
     private final JwtUtil jwtUtil;
     private final RedisTemplate<String, String> redisTemplate;
@@ -64,6 +65,7 @@ public class UserService {
                 .build();
 
         userRepository.save(user);
+        userResolver.evict(user.getProviderId());
 
         // 정식 토큰 발급
         String accessToken = jwtUtil.generateToken("ACCESS", user.getProviderId(), user.getEmail(), user.getNickname());
@@ -120,6 +122,7 @@ public class UserService {
 
         user.updateProfile(dto.getNickname(), dto.getGender(), dto.getAge(), dto.getMbti(), imageUrl);
         userRepository.save(user);
+        userResolver.evict(user.getProviderId());
     }
 
 
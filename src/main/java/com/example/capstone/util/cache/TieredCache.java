@@ -0,0 +1,207 @@
+package com.example.capstone.util.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 2단계 캐시 (L1: 프로세스 내 Caffeine, L2: Redis)
+ * - L1 미스 시 L2 조회, L2 적중 값은 L1으로 승격
+ *   · 값과 Redis 의 남은 TTL 을 함께 읽어(redis/get-with-ttl.lua) L1 TTL 은 그보다 길지 않게
+ *     → 만료 직전에 읽은 값이 L1 에서 다시 전체 TTL 동안 살아남지 않음 (항목 수명은 처음 저장 기준 TTL 이내)
+ * - 항목별 TTL 지원 (값에 따라 TTL을 다르게 줄 수 있음)
+ * - Redis 장애 시 캐시 미스로 처리하고 원본 조회로 진행
+ * - redisTemplate 이 null 이면 L1 전용 캐시로 동작
+ *
+ * 메트릭
+ * - cache.tier.requests{cache, tier=l1|l2, result=hit|miss}
+ * - cache.gets / cache.evictions 등 Caffeine 통계 (CaffeineCacheMetrics)
+ */
+@Slf4j
+public class TieredCache<V> {
+
+    private static final DefaultRedisScript<List<Object>> GET_WITH_TTL = script("redis/get-with-ttl.lua");
+
+    private final String name;
+    private final Cache<String, Entry<V>> local;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Function<V, String> serializer;
+    private final Function<String, V> deserializer;
+
+    private final Counter l1Hit;
+    private final Counter l1Miss;
+    private final Counter l2Hit;
+    private final Counter l2Miss;
+
+    public TieredCache(String name,
+                       long maximumSize,
+                       RedisTemplate<String, String> redisTemplate,
+                       Function<V, String> serializer,
+                       Function<String, V> deserializer,
+                       MeterRegistry meterRegistry) {
+        this.name = name;
+        this.redisTemplate = redisTemplate;
+        this.serializer = serializer;
+        this.deserializer = deserializer;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new EntryExpiry<V>())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, local, name);
+        this.l1Hit = counter(meterRegistry, "l1", "hit");
+        this.l1Miss = counter(meterRegistry, "l1", "miss");
+        this.l2Hit = counter(meterRegistry, "l2", "hit");
+        this.l2Miss = counter(meterRegistry, "l2", "miss");
+    }
+
+    /**
+     * L1 전용 캐시 생성
+     */
+    public static <V> TieredCache<V> localOnly(String name, long maximumSize, MeterRegistry meterRegistry) {
+        return new TieredCache<>(name, maximumSize, null, null, null, meterRegistry);
+    }
+
+    /**
+     * 캐시 조회 → 없으면 loader 호출 후 저장
+     * - loader 결과가 null 이면 저장하지 않음
+     * - ttlFor 가 0 이하의 Duration 을 주면 저장하지 않음
+     */
+    public V get(String key, Function<V, Duration> ttlFor, Supplier<V> loader) {
+        Entry<V> cached = local.getIfPresent(key);
+        if (cached != null) {
+            l1Hit.increment();
+            return cached.value();
+        }
+        l1Miss.increment();
+
+        Remote<V> remote = readRemote(key);
+        if (remote != null) {
+            l2Hit.increment();
+            putLocal(key, remote.value(), remote.capTtl(ttlFor.apply(remote.value())));
+            return remote.value();
+        }
+        if (redisTemplate != null) {
+            l2Miss.increment();
+        }
+
+        V loaded = loader.get();
+        if (loaded != null) {
+            put(key, loaded, ttlFor.apply(loaded));
+        }
+        return loaded;
+    }
+
+    public void put(String key, V value, Duration ttl) {
+        if (value == null || ttl == null || ttl.isZero() || ttl.isNegative()) return;
+        putLocal(key, value, ttl);
+        writeRemote(key, value, ttl);
+    }
+
+    public void evict(String key) {
+        local.invalidate(key);
+        if (redisTemplate == null) return;
+        try {
+            redisTemplate.delete(redisKey(key));
+        } catch (Exception e) {
+            log.warn("[{} 캐시] Redis 삭제 실패: {}", name, e.getMessage());
+        }
+    }
+
+    public long localSize() {
+        return local.estimatedSize();
+    }
+
+    private void putLocal(String key, V value, Duration ttl) {
+        if (ttl == null || ttl.isZero() || ttl.isNegative()) return;
+        local.put(key, new Entry<>(value, ttl));
+    }
+
+    // 값 + 남은 TTL (없으면 null)
+    private Remote<V> readRemote(String key) {
+        if (redisTemplate == null) return null;
+        try {
+            List<Object> reply = redisTemplate.execute(GET_WITH_TTL, List.of(redisKey(key)));
+            if (reply == null || reply.isEmpty() || reply.get(0) == null) return null;
+            V value = deserializer.apply(String.valueOf(reply.get(0)));
+            if (value == null) return null;
+            long pttl = reply.size() > 1 && reply.get(1) instanceof Number n ? n.longValue() : -1;
+            return new Remote<>(value, pttl);
+        } catch (Exception e) {
+            log.warn("[{} 캐시] Redis 조회 실패: {}", name, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRemote(String key, V value, Duration ttl) {
+        if (redisTemplate == null) return;
+        try {
+            redisTemplate.opsForValue().set(redisKey(key), serializer.apply(value), ttl.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            log.warn("[{} 캐시] Redis 저장 실패: {}", name, e.getMessage());
+        }
+    }
+
+    private String redisKey(String key) {
+        return "CACHE:" + name + ":" + key;
+    }
+
+    @SuppressWarnings("unchecked") // 스크립트 응답은 Redis 다중 응답(List)
+    private static DefaultRedisScript<List<Object>> script(String location) {
+        DefaultRedisScript<List<Object>> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource(location));
+        script.setResultType((Class<List<Object>>) (Class<?>) List.class);
+        return script;
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder("cache.tier.requests")
+                .tag("cache", name)
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record Entry<V>(V value, Duration ttl) {}
+
+    // pttl: Redis 에 남은 TTL(ms), 만료 없음 -1, 그 사이 삭제됨 -2
+    private record Remote<V>(V value, long pttl) {
+        Duration capTtl(Duration ttl) {
+            if (pttl == -1 || ttl == null) return ttl;
+            if (pttl < 0) return Duration.ZERO;
+            Duration remaining = Duration.ofMillis(pttl);
+            return remaining.compareTo(ttl) < 0 ? remaining : ttl;
+        }
+    }
+
+    private static class EntryExpiry<V> implements Expiry<String, Entry<V>> {
+        @Override
+        public long expireAfterCreate(String key, Entry<V> entry, long currentTime) {
+            return entry.ttl().toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Entry<V> entry, long currentTime, long currentDuration) {
+            return entry.ttl().toNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String key, Entry<V> entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
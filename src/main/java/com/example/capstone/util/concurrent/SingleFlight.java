@@ -0,0 +1,82 @@
+package com.example.capstone.util.concurrent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 동일 요청 동시 호출 합치기 (single-flight)
+ * - 같은 키의 호출이 진행 중이면 새로 호출하지 않고 진행 중인 호출의 결과(또는 예외)를 함께 받음
+ * - 호출이 끝나면 바로 키를 비움 → 결과를 보관하지 않음 (보관은 캐시 담당)
+ * - 키 함수는 클라이언트별로 지정 (예: 요청 URL, 격자 단위로 반올림한 좌표)
+ *
+ * 메트릭
+ * - upstream.singleflight.calls{name, result=leader|coalesced}
+ * - upstream.singleflight.inflight{name}
+ */
+public class SingleFlight<R, V> {
+
+    private final Function<? super R, ?> keyFunction;
+    private final Map<Object, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter leaders;
+    private final Counter coalesced;
+
+    public SingleFlight(String name, Function<? super R, ?> keyFunction, MeterRegistry meterRegistry) {
+        this.keyFunction = keyFunction;
+        this.leaders = counter(meterRegistry, name, "leader");
+        this.coalesced = counter(meterRegistry, name, "coalesced");
+        Gauge.builder("upstream.singleflight.inflight", inFlight, Map::size)
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * request 의 키로 진행 중인 호출이 있으면 그 결과를 기다리고, 없으면 call 실행
+     */
+    public V execute(R request, Function<? super R, ? extends V> call) {
+        Object key = keyFunction.apply(request);
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+
+        leaders.increment();
+        try {
+            V result = call.apply(request);
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) throw re;
+            if (cause instanceof Error err) throw err;
+            throw e;
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String name, String result) {
+        return Counter.builder("upstream.singleflight.calls")
+                .tag("name", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.capstone.util.concurrent;
+
+import com.example.capstone.util.metrics.PipelineTimer;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * 요청 하나의 단계 의존 그래프
+ * - stage(이름, 선행 단계, 작업): 선행 단계가 모두 끝나면 executor 에서 실행 → 서로 의존하지 않는 단계는 동시에 진행
+ * - 단계마다 PipelineTimer 로 시간 기록 (같은 이름의 단계는 합산, 병렬 단계의 합은 전체 시간보다 클 수 있음)
+ * - 선행 단계가 실패하면 뒤 단계는 실행하지 않고 같은 예외로 실패
+ * - executor 가 가득 차서 거절하면 제출한 스레드에서 바로 실행 (요청을 실패시키지 않음)
+ * - join 은 원래 예외를 풀어서 던짐
+ */
+public class StageGraph {
+
+    /**
+     * 그래프의 단계 하나 (결과는 join 으로 받음)
+     */
+    public static final class Stage<T> {
+        private final CompletableFuture<T> future;
+
+        private Stage(CompletableFuture<T> future) {
+            this.future = future;
+        }
+    }
+
+    private final Executor executor;
+    private final PipelineTimer timer;
+
+    public StageGraph(Executor executor, PipelineTimer timer) {
+        this.executor = task -> {
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                task.run();
+            }
+        };
+        this.timer = timer;
+    }
+
+    public <T> Stage<T> stage(String name, Supplier<T> action) {
+        return stage(name, List.of(), action);
+    }
+
+    public Stage<Void> stage(String name, Runnable action) {
+        return stage(name, List.of(), action);
+    }
+
+    public <T> Stage<T> stage(String name, List<? extends Stage<?>> after, Supplier<T> action) {
+        return new Stage<>(allOf(after).thenApplyAsync(ignored -> timer.stage(name, action), executor));
+    }
+
+    public Stage<Void> stage(String name, List<? extends Stage<?>> after, Runnable action) {
+        return stage(name, after, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public <T> T join(Stage<T> stage) {
+        try {
+            return stage.future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw e;
+        }
+    }
+
+    // 모든 단계 완료 대기, 실패한 단계가 있으면 그 예외
+    public void joinAll(List<? extends Stage<?>> stages) {
+        join(new Stage<>(allOf(stages)));
+    }
+
+    private static CompletableFuture<Void> allOf(List<? extends Stage<?>> stages) {
+        return CompletableFuture.allOf(stages.stream().map((Stage<?> stage) -> stage.future).toArray(CompletableFuture[]::new));
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.capstone.util.geo;
+
+/**
+ * 위경도 계산 유틸
+ */
+public final class GeoUtils {
+
+    private static final double EARTH_RADIUS_METERS = 6_371_000.0;
+    private static final char[] GEOHASH_BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+
+    private GeoUtils() {
+    }
+
+    /**
+     * 두 지점 사이의 대원 거리(미터, haversine)
+     */
+    public static double haversineMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    /**
+     * 좌표 유효성 (장소 검색 실패 시 들어가는 0.0 좌표, 범위를 벗어난 값 제외)
+     */
+    public static boolean isValid(double lat, double lng) {
+        if (lat == 0.0 || lng == 0.0) return false;
+        if (Double.isNaN(lat) || Double.isNaN(lng)) return false;
+        return lat >= -90 && lat <= 90 && lng >= -180 && lng <= 180;
+    }
+
+    /**
+     * geohash 문자열 (precision 6 ≈ 1.2km × 0.6km 격자)
+     */
+    public static String geohash(double lat, double lng, int precision) {
+        double minLat = -90, maxLat = 90;
+        double minLng = -180, maxLng = 180;
+        StringBuilder sb = new StringBuilder(precision);
+        boolean evenBit = true;
+        int bit = 0;
+        int ch = 0;
+
+        while (sb.length() < precision) {
+            if (evenBit) {
+                double mid = (minLng + maxLng) / 2;
+                if (lng >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLng = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLng = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (lat >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLat = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+            if (++bit == 5) {
+                sb.append(GEOHASH_BASE32[ch]);
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return sb.toString();
+    }
+}
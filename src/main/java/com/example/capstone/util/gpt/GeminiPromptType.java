@@ -0,0 +1,23 @@
+package com.example.capstone.util.gpt;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+
+/**
+ * 응답 캐시 대상 Gemini 프롬프트 유형
+ * - 입력(장소/축제 정보)이 같으면 결과도 사실상 같은 프롬프트만 등록
+ * - TTL 기본값은 gemini.cache.{key}.ttl 로 덮어쓸 수 있음
+ */
+@Getter
+@RequiredArgsConstructor
+public enum GeminiPromptType {
+    PLACE_DESCRIPTION("place-description", Duration.ofDays(30)), // GptDescriptionPromptBuilder
+    FOOD("food", Duration.ofDays(7)),                             // Food(Recreate)PromptBuilder
+    HOTEL("hotel", Duration.ofDays(7)),                           // Hotel(Recreate)PromptBuilder
+    FESTIVAL("festival", Duration.ofDays(1));                     // Festival(Recreate)PromptBuilder
+
+    private final String key;
+    private final Duration defaultTtl;
+}
@@ -0,0 +1,60 @@
+package com.example.capstone.util.gpt;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Gemini streamGenerateContent(alt=sse) 응답 읽기
+ * - "data: {GenerateContentResponse}" 이벤트마다 candidates[0].content.parts[*].text 를 onText 로 전달
+ * - 차단(promptFeedback.blockReason) 응답은 예외
+ * - 전달한 텍스트 길이 합계 반환 (0 이면 빈 응답)
+ */
+public final class GeminiSseReader {
+
+    private GeminiSseReader() {}
+
+    public static long read(InputStream body, ObjectMapper objectMapper, Consumer<String> onText) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        StringBuilder data = new StringBuilder();
+        long length = 0;
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isEmpty()) {
+                length += dispatch(data, objectMapper, onText);
+            } else if (line.startsWith("data:")) {
+                data.append(line.substring(5).trim());
+            }
+        }
+        length += dispatch(data, objectMapper, onText);
+        return length;
+    }
+
+    private static long dispatch(StringBuilder data, ObjectMapper objectMapper, Consumer<String> onText) throws IOException {
+        if (data.isEmpty()) return 0;
+        JsonNode event = objectMapper.readTree(data.toString());
+        data.setLength(0);
+
+        String blockReason = event.path("promptFeedback").path("blockReason").asText(null);
+        if (blockReason != null && !blockReason.isBlank()) {
+            throw new IllegalStateException("Gemini 요청 차단: " + blockReason);
+        }
+
+        long length = 0;
+        for (JsonNode part : event.path("candidates").path(0).path("content").path("parts")) {
+            String text = part.path("text").asText(null);
+            if (text != null && !text.isEmpty()) {
+                onText.accept(text);
+                length += text.length();
+            }
+        }
+        return length;
+    }
+}
@@ -0,0 +1,209 @@
+package com.example.capstone.util.gpt;
+
+import com.example.capstone.plan.dto.common.GptPlaceDto;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일정 생성 응답 증분 파서 (Gemini 스트리밍용)
+ * - 입력: {"itinerary":[{"date":"...","travelSchedule":[{"type":"...","name":"..."}, ...]}, ...]}
+ * - 텍스트 조각을 feed 할 때마다 Jackson 비동기 파서로 읽고, 장소 객체 하나가 닫히는 즉시 onPlace 호출
+ *   · 날짜가 장소 목록보다 뒤에 오면 날짜를 읽을 때까지 장소를 모아 두었다가 전달
+ * - 최상위 객체 앞의 코드펜스(```json) 등은 건너뛰고, 최상위 객체가 닫힌 뒤 입력은 무시
+ * - 스레드 안전하지 않음 (스트림 하나당 인스턴스 하나)
+ */
+public class ItineraryStreamParser {
+
+    /**
+     * 장소/일자 완료 콜백
+     */
+    public interface Listener {
+        void onPlace(String date, GptPlaceDto place);
+
+        default void onDay(String date, List<GptPlaceDto> places) {}
+    }
+
+    private enum Role { ROOT, ITINERARY, DAY, SCHEDULE, PLACE, OTHER }
+
+    private final ObjectMapper objectMapper;
+    private final Listener listener;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+
+    private final Deque<Role> stack = new ArrayDeque<>();
+    private final Map<String, List<GptPlaceDto>> result = new LinkedHashMap<>();
+    private String fieldName;
+    private boolean started;
+    private boolean closed;
+
+    // 현재 일자
+    private String date;
+    private List<GptPlaceDto> dayPlaces;
+    private List<GptPlaceDto> undated;
+
+    // 현재 장소 객체 토큰
+    private TokenBuffer placeTokens;
+
+    public ItineraryStreamParser(ObjectMapper objectMapper, Listener listener) {
+        this.objectMapper = objectMapper;
+        this.listener = listener;
+        try {
+            this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new IllegalStateException("비동기 JSON 파서 생성 실패", e);
+        }
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    /**
+     * 텍스트 조각 입력 → 완성된 장소가 있으면 바로 콜백
+     */
+    public void feed(String chunk) {
+        if (closed || chunk == null || chunk.isEmpty()) return;
+        if (!started) {
+            int start = chunk.indexOf('{');
+            if (start < 0) return;
+            chunk = chunk.substring(start);
+            started = true;
+        }
+        byte[] bytes = chunk.getBytes(StandardCharsets.UTF_8);
+        try {
+            feeder.feedInput(bytes, 0, bytes.length);
+            drain();
+        } catch (IOException e) {
+            throw new IllegalStateException("일정 JSON 스트림 파싱 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 입력 종료 → 최상위 객체가 닫히지 않았으면 예외
+     */
+    public Map<String, List<GptPlaceDto>> finish() {
+        if (!closed) {
+            feeder.endOfInput();
+            try {
+                drain();
+            } catch (IOException e) {
+                throw new IllegalStateException("일정 JSON 스트림 파싱 실패: " + e.getMessage(), e);
+            }
+        }
+        if (!closed) {
+            throw new IllegalStateException("일정 JSON 스트림이 완료되지 않았습니다.");
+        }
+        return result;
+    }
+
+    private void drain() throws IOException {
+        JsonToken token;
+        while (!closed && (token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            if (placeTokens != null) {
+                placeTokens.copyCurrentEvent(parser);
+            }
+            switch (token) {
+                case FIELD_NAME -> fieldName = parser.currentName();
+                case START_OBJECT, START_ARRAY -> push(token);
+                case END_OBJECT, END_ARRAY -> pop();
+                case VALUE_STRING -> {
+                    if (stack.peek() == Role.DAY && "date".equals(fieldName)) {
+                        onDate(parser.getText());
+                    }
+                }
+                default -> {}
+            }
+        }
+    }
+
+    private void push(JsonToken token) throws IOException {
+        Role parent = stack.peek();
+        boolean object = token == JsonToken.START_OBJECT;
+        Role role;
+        if (parent == null) {
+            role = Role.ROOT;
+        } else if (parent == Role.ROOT && !object && "itinerary".equals(fieldName)) {
+            role = Role.ITINERARY;
+        } else if (parent == Role.ITINERARY && object) {
+            role = Role.DAY;
+            date = null;
+            dayPlaces = new ArrayList<>();
+            undated = new ArrayList<>();
+        } else if (parent == Role.DAY && !object && "travelSchedule".equals(fieldName)) {
+            role = Role.SCHEDULE;
+        } else if (parent == Role.SCHEDULE && object) {
+            role = Role.PLACE;
+            placeTokens = new TokenBuffer(parser);
+            placeTokens.copyCurrentEvent(parser);
+        } else {
+            role = Role.OTHER;
+        }
+        stack.push(role);
+        fieldName = null;
+    }
+
+    private void pop() throws IOException {
+        Role role = stack.pop();
+        switch (role) {
+            case PLACE -> {
+                JsonNode node = objectMapper.readTree(placeTokens.asParser());
+                placeTokens = null;
+                onPlace(toDto(node));
+            }
+            case DAY -> {
+                String key = date != null ? date : "day" + (result.size() + 1);
+                if (date == null) {
+                    undated.forEach(place -> listener.onPlace(key, place));
+                }
+                result.put(key, dayPlaces);
+                listener.onDay(key, dayPlaces);
+            }
+            case ROOT -> closed = true;
+            default -> {}
+        }
+    }
+
+    private void onDate(String value) {
+        date = value;
+        for (GptPlaceDto place : undated) {
+            listener.onPlace(date, place);
+        }
+        undated.clear();
+    }
+
+    private void onPlace(GptPlaceDto place) {
+        dayPlaces.add(place);
+        if (date != null) {
+            listener.onPlace(date, place);
+        } else {
+            undated.add(place);
+        }
+    }
+
+    private static GptPlaceDto toDto(JsonNode node) {
+        GptPlaceDto.Location location = null;
+        JsonNode loc = node.path("location");
+        if (loc.hasNonNull("name")) {
+            location = GptPlaceDto.Location.builder()
+                    .name(loc.get("name").asText())
+                    .lat(loc.hasNonNull("lat") ? loc.get("lat").asDouble() : null)
+                    .lng(loc.hasNonNull("lng") ? loc.get("lng").asDouble() : null)
+                    .build();
+        }
+        return GptPlaceDto.builder()
+                .name(node.hasNonNull("name") ? node.get("name").asText() : null)
+                .type(node.hasNonNull("type") ? node.get("type").asText("기타") : "기타")
+                .location(location)
+                .build();
+    }
+}
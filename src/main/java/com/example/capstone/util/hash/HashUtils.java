@@ -0,0 +1,22 @@
+package com.example.capstone.util.hash;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+public final class HashUtils {
+
+    private HashUtils() {
+    }
+
+    // SHA-256 → 16진수 문자열 (캐시 키, 중복 요청 판별용)
+    public static String sha256Hex(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 미지원 환경", e);
+        }
+    }
+}
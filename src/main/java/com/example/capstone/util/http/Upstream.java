@@ -0,0 +1,50 @@
+package com.example.capstone.util.http;
+
+import java.time.Duration;
+
+/**
+ * 외부 API(업스트림) 목록과 기본 연결 설정
+ * - 각 값은 upstream.http.{key}.* 설정으로 덮어쓸 수 있음
+ */
+public enum Upstream {
+    GEMINI("gemini", "generativelanguage.googleapis.com", Duration.ofSeconds(10), Duration.ofSeconds(60), 20),
+    KAKAO("kakao", "dapi.kakao.com", Duration.ofSeconds(5), Duration.ofSeconds(10), 16),
+    TMAP("tmap", "apis.openapi.sk.com", Duration.ofSeconds(5), Duration.ofSeconds(10), 16),
+    OPENWEATHER("openweather", "api.openweathermap.org", Duration.ofSeconds(5), Duration.ofSeconds(10), 8),
+    TOURAPI("tourapi", "apis.data.go.kr", Duration.ofSeconds(5), Duration.ofSeconds(10), 8);
+
+    private final String key;
+    private final String host;
+    private final Duration connectTimeout;
+    private final Duration readTimeout;
+    private final int maxConnections;
+
+    Upstream(String key, String host, Duration connectTimeout, Duration readTimeout, int maxConnections) {
+        this.key = key;
+        this.host = host;
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
+        this.maxConnections = maxConnections;
+    }
+
+    // 설정 키 / 메트릭 태그로 사용
+    public String getKey() {
+        return key;
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public Duration getReadTimeout() {
+        return readTimeout;
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.capstone.util.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업스트림 호출 1건 단위 지연 시간 (RestTemplate 인터셉터, 업스트림별 1개)
+ * - 호출 한도 대기 이후부터 응답 헤더 수신까지 측정 (본문 읽기 시간 제외)
+ * - operation: 경로 마지막 조각 (Gemini 는 ':' 뒤 동작, 확장자 제거, Tmap 대중교통은 transit/ 접두)
+ *
+ * 메트릭
+ * - upstream.calls{upstream, operation, outcome=success|client-error|server-error|error} (퍼센타일 히스토그램)
+ */
+public class UpstreamCallMetrics implements ClientHttpRequestInterceptor {
+
+    private final MeterRegistry meterRegistry;
+    private final Upstream upstream;
+
+    public UpstreamCallMetrics(MeterRegistry meterRegistry, Upstream upstream) {
+        this.meterRegistry = meterRegistry;
+        this.upstream = upstream;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        long startedAt = System.nanoTime();
+        String outcome = "error";
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            int status = response.getStatusCode().value();
+            outcome = status >= 500 ? "server-error" : status >= 400 ? "client-error" : "success";
+            return response;
+        } finally {
+            Timer.builder("upstream.calls")
+                    .tag("upstream", upstream.getKey())
+                    .tag("operation", operation(request.getURI()))
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // 태그 값이 URL 파라미터/모델명에 따라 늘어나지 않도록 고정된 동작 이름만 사용
+    static String operation(URI uri) {
+        String path = uri.getPath();
+        if (path == null || path.isEmpty() || "/".equals(path)) return "root";
+
+        String segment = path.substring(path.lastIndexOf('/') + 1);
+        int colon = segment.indexOf(':');
+        if (colon >= 0) {
+            segment = segment.substring(colon + 1);
+        }
+        int dot = segment.indexOf('.');
+        if (dot > 0) {
+            segment = segment.substring(0, dot);
+        }
+        if (path.startsWith("/transit")) {
+            segment = "transit/" + segment;
+        }
+        return segment.isEmpty() ? "root" : segment;
+    }
+}
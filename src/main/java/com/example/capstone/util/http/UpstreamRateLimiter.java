@@ -0,0 +1,171 @@
+package com.example.capstone.util.http;
+
+import com.example.capstone.util.ratelimit.RateLimitExceededException;
+import com.example.capstone.util.ratelimit.RedisTokenBucket;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업스트림별 호출 한도 (Redis 토큰 버킷, 전체 노드 합산)
+ * - UpstreamRestTemplates 의 인터셉터에서 모든 요청 전에 토큰 획득
+ * - 토큰이 없으면 max-wait 까지 대기 (동시 대기자는 max-waiters 까지), 넘으면 RateLimitExceededException
+ *   · max-wait 0 이면 바로 실패 (호출자가 추정값 등으로 대체)
+ * - Tmap 대중교통은 한도가 따로 있어 별도 버킷(tmap-transit) 사용
+ * - Redis 장애 시 한도 검사 없이 통과 (업스트림 자체 한도에 맡김)
+ *
+ * 설정 (upstream.rate-limit.{gemini|kakao|tmap|tmap-transit|openweather|tourapi}.*)
+ * - enabled, rate-per-second, burst, max-wait, max-waiters
+ *
+ * 메트릭
+ * - upstream.ratelimit.remaining{bucket} (마지막으로 확인한 남은 토큰 수)
+ * - upstream.ratelimit.wait{bucket} (토큰 획득까지 대기 시간)
+ * - upstream.ratelimit.rejected{bucket, reason=empty|timeout|queue-full}
+ * - upstream.ratelimit.errors{bucket}
+ */
+@Slf4j
+@Component
+public class UpstreamRateLimiter {
+
+    private static final String TMAP_TRANSIT = "tmap-transit";
+
+    private final RedisTokenBucket tokenBucket;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Bucket> buckets = new LinkedHashMap<>();
+
+    public UpstreamRateLimiter(RedisTokenBucket tokenBucket, Environment env, MeterRegistry meterRegistry) {
+        this.tokenBucket = tokenBucket;
+        this.meterRegistry = meterRegistry;
+        for (Upstream upstream : Upstream.values()) {
+            register(upstream.getKey(), env);
+        }
+        register(TMAP_TRANSIT, env);
+    }
+
+    /**
+     * 요청 대상 버킷의 토큰 획득 (대기 한도 초과 시 RateLimitExceededException)
+     */
+    public void acquire(Upstream upstream, URI uri) {
+        acquire(bucketOf(upstream, uri));
+    }
+
+    public void acquire(String name) {
+        Bucket bucket = buckets.get(name);
+        if (bucket == null || !bucket.enabled) return;
+
+        long startedAt = System.nanoTime();
+        RedisTokenBucket.Result result = take(bucket);
+        if (result == null || result.allowed()) {
+            bucket.waitTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            return;
+        }
+        if (bucket.maxWait.isZero()) {
+            reject(bucket, "empty", result.retryAfterMillis());
+        }
+        if (!bucket.waiters.tryAcquire()) {
+            reject(bucket, "queue-full", result.retryAfterMillis());
+        }
+
+        try {
+            long deadline = startedAt + bucket.maxWait.toNanos();
+            while (true) {
+                long sleepNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, result.retryAfterMillis()));
+                if (System.nanoTime() + sleepNanos > deadline) {
+                    reject(bucket, "timeout", result.retryAfterMillis());
+                }
+                TimeUnit.NANOSECONDS.sleep(sleepNanos);
+
+                result = take(bucket);
+                if (result == null || result.allowed()) {
+                    bucket.waitTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("호출 한도 대기 중 인터럽트: " + bucket.name, e);
+        } finally {
+            bucket.waiters.release();
+        }
+    }
+
+    private static String bucketOf(Upstream upstream, URI uri) {
+        if (upstream == Upstream.TMAP && uri != null && uri.getPath() != null && uri.getPath().startsWith("/transit")) {
+            return TMAP_TRANSIT;
+        }
+        return upstream.getKey();
+    }
+
+    // Redis 오류 시 null (통과)
+    private RedisTokenBucket.Result take(Bucket bucket) {
+        try {
+            RedisTokenBucket.Result result = tokenBucket.take("upstream:" + bucket.name, bucket.ratePerSecond, bucket.burst, 1);
+            bucket.remaining = result.remaining();
+            return result;
+        } catch (Exception e) {
+            meterRegistry.counter("upstream.ratelimit.errors", "bucket", bucket.name).increment();
+            log.debug("[호출 한도] {} Redis 확인 실패, 한도 검사 생략: {}", bucket.name, e.getMessage());
+            return null;
+        }
+    }
+
+    private void reject(Bucket bucket, String reason, long retryAfterMillis) {
+        meterRegistry.counter("upstream.ratelimit.rejected", "bucket", bucket.name, "reason", reason).increment();
+        throw new RateLimitExceededException(bucket.name, retryAfterMillis);
+    }
+
+    private void register(String name, Environment env) {
+        String prefix = "upstream.rate-limit." + name + ".";
+        double rate = env.getProperty(prefix + "rate-per-second", Double.class, 10.0);
+        Bucket bucket = new Bucket(
+                name,
+                env.getProperty(prefix + "enabled", Boolean.class, true) && rate > 0,
+                rate,
+                env.getProperty(prefix + "burst", Integer.class, (int) Math.max(1, Math.ceil(rate * 2))),
+                env.getProperty(prefix + "max-wait", Duration.class, Duration.ofSeconds(2)),
+                env.getProperty(prefix + "max-waiters", Integer.class, 100),
+                Timer.builder("upstream.ratelimit.wait").tag("bucket", name).register(meterRegistry));
+        Gauge.builder("upstream.ratelimit.remaining", bucket, b -> b.remaining)
+                .tag("bucket", name)
+                .register(meterRegistry);
+        buckets.put(name, bucket);
+
+        if (bucket.enabled) {
+            log.info("[호출 한도] {} 초당 {}, 최대 {}, 대기 {}ms", name, bucket.ratePerSecond, bucket.burst,
+                    bucket.maxWait.toMillis());
+        }
+    }
+
+    private static final class Bucket {
+        private final String name;
+        private final boolean enabled;
+        private final double ratePerSecond;
+        private final int burst;
+        private final Duration maxWait;
+        private final Semaphore waiters;
+        private final Timer waitTimer;
+        private volatile double remaining;
+
+        Bucket(String name, boolean enabled, double ratePerSecond, int burst, Duration maxWait, int maxWaiters,
+               Timer waitTimer) {
+            this.name = name;
+            this.enabled = enabled;
+            this.ratePerSecond = ratePerSecond;
+            this.burst = burst;
+            this.maxWait = maxWait;
+            this.waiters = new Semaphore(Math.max(0, maxWaiters));
+            this.waitTimer = waitTimer;
+            this.remaining = burst;
+        }
+    }
+}
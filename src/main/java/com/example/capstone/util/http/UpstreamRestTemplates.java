@@ -0,0 +1,105 @@
+package com.example.capstone.util.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 외부 API 공용 RestTemplate (업스트림 호스트별 커넥션 풀)
+ * - 요청마다 RestTemplate을 새로 만들지 않고, 업스트림별로 하나를 재사용
+ * - keep-alive 커넥션을 풀에서 재사용하므로 TCP/TLS 핸드셰이크 비용 절감
+ * - 모든 요청은 UpstreamRateLimiter 의 호출 한도(토큰 버킷)를 거침
+ * - 호출 1건마다 UpstreamCallMetrics 로 지연 시간 기록
+ *
+ * 설정 (upstream.http.{gemini|kakao|tmap|openweather|tourapi}.*)
+ * - max-connections, connect-timeout, read-timeout, acquire-timeout, keep-alive
+ *
+ * 메트릭
+ * - httpcomponents.httpclient.pool.* {httpclient=업스트림 키}
+ * - upstream.calls{upstream, operation, outcome}
+ */
+@Slf4j
+@Component
+public class UpstreamRestTemplates implements DisposableBean {
+
+    private final Map<Upstream, RestTemplate> restTemplates = new EnumMap<>(Upstream.class);
+    private final List<CloseableHttpClient> httpClients = new ArrayList<>();
+
+    public UpstreamRestTemplates(RestTemplateBuilder restTemplateBuilder, Environment env, MeterRegistry meterRegistry,
+                                 UpstreamRateLimiter rateLimiter) {
+        for (Upstream upstream : Upstream.values()) {
+            String prefix = "upstream.http." + upstream.getKey() + ".";
+            int maxConnections = env.getProperty(prefix + "max-connections", Integer.class, upstream.getMaxConnections());
+            Duration connectTimeout = env.getProperty(prefix + "connect-timeout", Duration.class, upstream.getConnectTimeout());
+            Duration readTimeout = env.getProperty(prefix + "read-timeout", Duration.class, upstream.getReadTimeout());
+            Duration acquireTimeout = env.getProperty(prefix + "acquire-timeout", Duration.class, Duration.ofSeconds(5));
+            Duration keepAlive = env.getProperty(prefix + "keep-alive", Duration.class, Duration.ofSeconds(30));
+
+            PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                    .setMaxConnTotal(maxConnections)
+                    .setMaxConnPerRoute(maxConnections)
+                    .setDefaultConnectionConfig(ConnectionConfig.custom()
+                            .setConnectTimeout(Timeout.ofMilliseconds(connectTimeout.toMillis()))
+                            .setSocketTimeout(Timeout.ofMilliseconds(readTimeout.toMillis()))
+                            .build())
+                    .build();
+
+            CloseableHttpClient httpClient = HttpClients.custom()
+                    .setConnectionManager(connectionManager)
+                    .setDefaultRequestConfig(RequestConfig.custom()
+                            .setConnectionRequestTimeout(Timeout.ofMilliseconds(acquireTimeout.toMillis()))
+                            .setResponseTimeout(Timeout.ofMilliseconds(readTimeout.toMillis()))
+                            .build())
+                    .setKeepAliveStrategy((response, context) -> TimeValue.ofMilliseconds(keepAlive.toMillis()))
+                    .evictExpiredConnections()
+                    .evictIdleConnections(TimeValue.ofMilliseconds(keepAlive.toMillis()))
+                    .build();
+
+            new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, upstream.getKey())
+                    .bindTo(meterRegistry);
+
+            httpClients.add(httpClient);
+            restTemplates.put(upstream, restTemplateBuilder
+                    .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+                    .additionalInterceptors((request, body, execution) -> {
+                        rateLimiter.acquire(upstream, request.getURI());
+                        return execution.execute(request, body);
+                    }, new UpstreamCallMetrics(meterRegistry, upstream))
+                    .build());
+
+            log.info("[업스트림 HTTP] {}({}) 풀 {}개, 연결 {}ms, 응답 {}ms", upstream.getKey(), upstream.getHost(),
+                    maxConnections, connectTimeout.toMillis(), readTimeout.toMillis());
+        }
+    }
+
+    public RestTemplate get(Upstream upstream) {
+        return restTemplates.get(upstream);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (CloseableHttpClient httpClient : httpClients) {
+            httpClient.close();
+        }
+    }
+}
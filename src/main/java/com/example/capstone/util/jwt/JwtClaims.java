@@ -0,0 +1,15 @@
+package com.example.capstone.util.jwt;
+
+import java.time.Instant;
+
+/**
+ * 검증을 마친 토큰의 클레임 (JwtUtil.parse 결과)
+ * - type: ACCESS / REFRESH / TEMP
+ * - TEMP 토큰은 nickname 없음 (null)
+ */
+public record JwtClaims(String providerId, String email, String nickname, String type, Instant expiresAt) {
+
+    public boolean isType(String expected) {
+        return expected.equals(type);
+    }
+}
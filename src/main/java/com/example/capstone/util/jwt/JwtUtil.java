@@ -2,31 +2,65 @@ package com.example.capstone.util.jwt;
 
 import com.example.capstone.user.exception.InvalidTokenException;
 import com.example.capstone.user.exception.TokenExpiredException;
+import com.example.capstone.util.hash.HashUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.security.Key;
+import javax.crypto.SecretKey;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Base64;
 import java.util.Date;
 
+/**
+ * JWT 발급/검증
+ * - 서명 키와 파서는 기동 시 한 번만 생성
+ * - parse: 서명/만료를 한 번 검증하고 클레임을 JwtClaims 로 반환
+ * - 검증에 성공한 토큰은 토큰 해시 → 클레임으로 잠시 보관 (같은 토큰의 반복 요청에서 HMAC 검증 생략)
+ *   · 보관 기간은 cache.ttl 과 토큰 만료 시각 중 이른 쪽 → 만료된 토큰은 캐시에서도 통과하지 못함
+ *
+ * 설정 (jwt.cache.*)
+ * - max-size, ttl (max-size 0 이면 캐시 없이 매번 검증)
+ *
+ * 메트릭
+ * - cache.gets{cache=jwt.claims, result=hit|miss} 등 Caffeine 캐시 지표
+ */
 @Component
 public class JwtUtil {
 
-    @Value("${jwt.secret}")
-    private String jwtSecret;
-    @Value("${jwt.access.expirationMs}")
-    private long jwtAccessExpirationMs;
-    @Value("${jwt.refresh.expiationMs}")
-    private long jwtRefreshExpirationMs;
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final long jwtAccessExpirationMs;
+    private final long jwtRefreshExpirationMs;
+    private final long jwtTempExpirationMs;
+    private final Cache<String, JwtClaims> verified;
 
-    @Value("${jwt.temp.expirationMs}")
-    private long jwtTempExpirationMs;
-
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(Base64.getDecoder().decode(jwtSecret));
+    public JwtUtil(@Value("${jwt.secret}") String jwtSecret,
+                   @Value("${jwt.access.expirationMs}") long jwtAccessExpirationMs,
+                   @Value("${jwt.refresh.expiationMs}") long jwtRefreshExpirationMs,
+                   @Value("${jwt.temp.expirationMs}") long jwtTempExpirationMs,
+                   @Value("${jwt.cache.max-size:10000}") long cacheMaxSize,
+                   @Value("${jwt.cache.ttl:5m}") Duration cacheTtl,
+                   MeterRegistry meterRegistry) {
+        this.signingKey = Keys.hmacShaKeyFor(Base64.getDecoder().decode(jwtSecret));
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+        this.jwtAccessExpirationMs = jwtAccessExpirationMs;
+        this.jwtRefreshExpirationMs = jwtRefreshExpirationMs;
+        this.jwtTempExpirationMs = jwtTempExpirationMs;
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(Math.max(0, cacheMaxSize))
+                .expireAfter(new UntilExpiry(cacheTtl))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verified, "jwt.claims");
     }
 
     public String generateToken(String type, String providerId, String email, String nickname) {
@@ -38,7 +72,7 @@ public class JwtUtil {
                 .claim("type", type)
                 .setIssuedAt(new Date())
                 .setExpiration(new Date((new Date()).getTime() + expirationMs))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
@@ -49,62 +83,74 @@ public class JwtUtil {
                 .claim("type", "TEMP")
                 .setIssuedAt(new Date())
                 .setExpiration(new Date((new Date()).getTime() + jwtTempExpirationMs))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
 
     }
 
-    public String getProviderIdFromJwt(String token) {
-        return Jwts.parser()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
-    }
-
-    public String getEmailFromJwt(String token) {
-        return Jwts.parser()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .get("email", String.class);
-    }
+    /**
+     * 토큰 검증 + 클레임 반환
+     * - 만료: TokenExpiredException, 그 외 검증 실패(서명 불일치, 형식 오류, 빈 토큰): InvalidTokenException
+     */
+    public JwtClaims parse(String token) {
+        if (token == null || token.isBlank()) {
+            throw new InvalidTokenException("JWT claims string is empty");
+        }
 
-    public String getNicknameFromJwt(String token) {
-        return Jwts.parser()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .get("nickname", String.class);
-    }
+        String key = HashUtils.sha256Hex(token);
+        JwtClaims cached = verified.getIfPresent(key);
+        if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+            return cached;
+        }
 
-    public String getTypeFromJwt(String token) {
-        return Jwts.parser()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .get("type", String.class);
+        JwtClaims claims = verify(token);
+        verified.put(key, claims);
+        return claims;
     }
 
-    public boolean validateJwt(String authToken) {
+    private JwtClaims verify(String token) {
         try {
-            Jwts.parser()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(authToken);
-            return true;
-        } catch (SecurityException | MalformedJwtException e) {
-            throw new InvalidTokenException("Invalid or missing token");
+            Claims body = parser.parseSignedClaims(token).getPayload();
+            Date expiration = body.getExpiration();
+            return new JwtClaims(
+                    body.getSubject(),
+                    body.get("email", String.class),
+                    body.get("nickname", String.class),
+                    body.get("type", String.class),
+                    expiration != null ? expiration.toInstant() : Instant.MAX);
         } catch (ExpiredJwtException e) {
             throw new TokenExpiredException("JWT token is expired");
         } catch (UnsupportedJwtException e) {
             throw new InvalidTokenException("JWT token is unsupported");
+        } catch (JwtException e) {
+            throw new InvalidTokenException("Invalid or missing token");
         } catch (IllegalArgumentException e) {
             throw new InvalidTokenException("JWT claims string is empty");
         }
     }
+
+    // 캐시 보관 기간 = min(cache.ttl, 토큰 만료까지 남은 시간) (테스트에서 직접 확인하므로 package-private)
+    static final class UntilExpiry implements Expiry<String, JwtClaims> {
+        private final Duration ttl;
+
+        UntilExpiry(Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        @Override
+        public long expireAfterCreate(String key, JwtClaims claims, long currentTime) {
+            Duration remaining = Duration.between(Instant.now(), claims.expiresAt());
+            return Math.max(0, remaining.compareTo(ttl) < 0 ? remaining.toNanos() : ttl.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtClaims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, JwtClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
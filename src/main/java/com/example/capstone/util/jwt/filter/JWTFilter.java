@@ -4,6 +4,7 @@ import com.example.capstone.user.exception.InvalidTokenException;
 import com.example.capstone.user.exception.TokenExpiredException;
 import com.example.capstone.util.oauth2.dto.CustomOAuth2User;
 import com.example.capstone.util.oauth2.dto.OAuth2DTO;
+import com.example.capstone.util.jwt.JwtClaims;
 import com.example.capstone.util.jwt.JwtUtil;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -36,27 +37,29 @@ public class JWTFilter extends OncePerRequestFilter {
         String token = parseJwt(request);
         CustomOAuth2User customOAuth2User;
         
-        // 임시 토큰 검증 (회원 가입 시)
+        // 임시 토큰 검증 (회원 가입 시), 토큰은 한 번만 검증하고 클레임 사용
         try {
             if (requestURI.startsWith("/auth/signup")) {
-                if (token == null || !jwtUtil.validateJwt(token) || !"TEMP".equals(jwtUtil.getTypeFromJwt(token))) {
+                JwtClaims claims = token != null ? jwtUtil.parse(token) : null;
+                if (claims == null || !claims.isType("TEMP")) {
                     sendErrorResponse(response, HttpServletResponse.SC_BAD_REQUEST, "Invalid temporary token");
                     return;
                 }
                 customOAuth2User = new CustomOAuth2User(OAuth2DTO.builder()
-                        .providerId(jwtUtil.getProviderIdFromJwt(token))
-                        .email(jwtUtil.getEmailFromJwt(token))
+                        .providerId(claims.providerId())
+                        .email(claims.email())
                         .build());
             } else {
                 // 정식 토큰 발급
-                if (token == null || !jwtUtil.validateJwt(token) || !"ACCESS".equals(jwtUtil.getTypeFromJwt(token))) {
+                JwtClaims claims = token != null ? jwtUtil.parse(token) : null;
+                if (claims == null || !claims.isType("ACCESS")) {
                     sendErrorResponse(response, HttpServletResponse.SC_BAD_REQUEST, "Invalid access token");
                     return;
                 }
                 customOAuth2User = new CustomOAuth2User(OAuth2DTO.builder()
-                        .providerId(jwtUtil.getProviderIdFromJwt(token))
-                        .email(jwtUtil.getEmailFromJwt(token))
-                        .nickname(jwtUtil.getNicknameFromJwt(token))
+                        .providerId(claims.providerId())
+                        .email(claims.email())
+                        .nickname(claims.nickname())
                         .build());
             }
 
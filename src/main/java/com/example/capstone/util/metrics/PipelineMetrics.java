@@ -0,0 +1,30 @@
+package com.example.capstone.util.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 일정 생성/재생성/수정 요청의 단계별 시간 측정 시작점
+ *
+ * 설정
+ * - schedule.metrics.slow-threshold: 이 시간 이상 걸린 요청은 단계별 내역 로그
+ */
+@Component
+public class PipelineMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Duration slowThreshold;
+
+    public PipelineMetrics(MeterRegistry meterRegistry,
+                           @Value("${schedule.metrics.slow-threshold:5s}") Duration slowThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.slowThreshold = slowThreshold;
+    }
+
+    public PipelineTimer start(String pipeline) {
+        return new PipelineTimer(meterRegistry, pipeline, slowThreshold);
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.capstone.util.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 요청 하나의 단계별 소요 시간 측정 (PipelineMetrics.start 로 생성)
+ * - 단계마다 schedule.pipeline.stage{pipeline, stage, outcome} 기록
+ * - 종료 시 schedule.pipeline.duration{pipeline, outcome} 기록
+ * - 전체 시간이 slow-threshold 이상이면 단계별 내역을 한 줄로 로그
+ * - stage 는 여러 스레드에서 동시에 호출 가능 (StageGraph 로 병렬 실행), success/failure 는 요청 스레드에서 호출
+ */
+@Slf4j
+public class PipelineTimer {
+
+    private final MeterRegistry meterRegistry;
+    private final String pipeline;
+    private final Duration slowThreshold;
+    private final long startedAt = System.nanoTime();
+    private final Map<String, Long> breakdown = new LinkedHashMap<>();
+    private boolean finished;
+
+    PipelineTimer(MeterRegistry meterRegistry, String pipeline, Duration slowThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.pipeline = pipeline;
+        this.slowThreshold = slowThreshold;
+    }
+
+    public <T> T stage(String stage, Supplier<T> action) {
+        long stageStartedAt = System.nanoTime();
+        String outcome = "failure";
+        try {
+            T result = action.get();
+            outcome = "success";
+            return result;
+        } finally {
+            long elapsed = System.nanoTime() - stageStartedAt;
+            synchronized (breakdown) {
+                breakdown.merge(stage, elapsed, Long::sum);
+            }
+            Timer.builder("schedule.pipeline.stage")
+                    .tag("pipeline", pipeline)
+                    .tag("stage", stage)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(elapsed, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public void stage(String stage, Runnable action) {
+        stage(stage, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public void success() {
+        finish("success", null);
+    }
+
+    public void failure(Throwable error) {
+        finish("failure", error);
+    }
+
+    private void finish(String outcome, Throwable error) {
+        if (finished) return;
+        finished = true;
+
+        long elapsed = System.nanoTime() - startedAt;
+        Timer.builder("schedule.pipeline.duration")
+                .tag("pipeline", pipeline)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+
+        if (error != null || elapsed >= slowThreshold.toNanos()) {
+            StringBuilder sb = new StringBuilder();
+            synchronized (breakdown) {
+                breakdown.forEach((stage, nanos) -> {
+                    if (!sb.isEmpty()) sb.append(", ");
+                    sb.append(stage).append(' ').append(nanos / 1_000_000).append("ms");
+                });
+            }
+            if (error != null) {
+                log.warn("[요청 단계별 시간] {} 실패 {}ms ({}): {}", pipeline, elapsed / 1_000_000, sb, error.getMessage());
+            } else {
+                log.warn("[요청 단계별 시간] {} 느린 요청 {}ms ({})", pipeline, elapsed / 1_000_000, sb);
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.capstone.util.ratelimit;
+
+/**
+ * 호출 한도 초과 (대기 한도 안에 토큰을 얻지 못함)
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String bucket;
+    private final long retryAfterMillis;
+
+    public RateLimitExceededException(String bucket, long retryAfterMillis) {
+        super("호출 한도 초과: " + bucket + " (" + retryAfterMillis + "ms 후 재시도)");
+        this.bucket = bucket;
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    public String getBucket() {
+        return bucket;
+    }
+
+    public long getRetryAfterMillis() {
+        return retryAfterMillis;
+    }
+}
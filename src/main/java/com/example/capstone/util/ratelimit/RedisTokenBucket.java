@@ -0,0 +1,51 @@
+package com.example.capstone.util.ratelimit;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Redis 토큰 버킷 (노드 간 공유)
+ * - 충전/차감을 Lua 스크립트(redis/token-bucket.lua) 하나로 처리해 원자성 보장
+ * - 시간은 Redis 서버 시간 사용 → 노드 간 시계 차이 영향 없음
+ * - 버킷은 가득 찰 때까지의 시간이 지나면 만료 (다시 가득 찬 상태로 시작)
+ * - Redis 오류는 호출자에게 그대로 전달 (허용/거절 판단은 호출자 몫)
+ */
+@Component
+public class RedisTokenBucket {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final DefaultRedisScript<List<Object>> script;
+
+    @SuppressWarnings("unchecked") // 스크립트 응답은 Redis 다중 응답(List) → 원소 타입은 take 에서 변환
+    public RedisTokenBucket(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+        this.script = new DefaultRedisScript<>();
+        this.script.setLocation(new ClassPathResource("redis/token-bucket.lua"));
+        this.script.setResultType((Class<List<Object>>) (Class<?>) List.class);
+    }
+
+    /**
+     * key 버킷에서 tokens 개 차감 시도
+     * - ratePerSecond: 초당 충전 수, burst: 최대 보유 수
+     */
+    public Result take(String key, double ratePerSecond, int burst, int tokens) {
+        List<Object> reply = redisTemplate.execute(script, List.of("RATE:" + key),
+                String.valueOf(ratePerSecond), String.valueOf(burst), String.valueOf(tokens));
+        if (reply == null || reply.size() < 3) {
+            throw new IllegalStateException("토큰 버킷 스크립트 응답 오류: " + reply);
+        }
+        return new Result(
+                Long.parseLong(String.valueOf(reply.get(0))) == 1,
+                Double.parseDouble(String.valueOf(reply.get(1))),
+                Long.parseLong(String.valueOf(reply.get(2))));
+    }
+
+    /**
+     * allowed: 차감 성공 여부, remaining: 남은 토큰 수, retryAfterMillis: 거절 시 다음 충전까지 대기 시간
+     */
+    public record Result(boolean allowed, double remaining, long retryAfterMillis) {}
+}
@@ -0,0 +1,126 @@
+package com.example.capstone.util.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 비용이 큰 API 요청 한도 (사용자 × 엔드포인트 그룹별 Redis 토큰 버킷, 전체 노드 합산)
+ * - 일정 생성/재생성/수정/장소 상세, 챗봇 API 는 요청 하나가 Gemini/Tmap/Kakao 호출 여러 건으로 이어짐
+ *   → 한 클라이언트의 재시도 반복이 모두의 업스트림 한도를 소모하지 않도록 API 입구에서 차단
+ * - 그룹(schedule, chatbot)마다 사용자별 버킷 하나, 엔드포인트마다 차감 토큰 수(가중치)
+ *   · 가중치가 burst 보다 크면 burst 로 제한 (영원히 거절되지 않도록)
+ * - 거절 시 다음 충전까지 대기 시간 반환 → RequestAdmissionFilter 가 429 + Retry-After 응답
+ * - Redis 장애 시 한도 검사 없이 통과
+ *
+ * 설정 (admission.*)
+ * - enabled
+ * - {schedule|chatbot}.rate-per-second, burst
+ * - {schedule|chatbot}.weights.{엔드포인트}: 예) schedule.weights.create=4
+ *
+ * 메트릭
+ * - admission.requests{group, endpoint, result=allowed|rejected}
+ * - admission.errors{group}
+ */
+@Slf4j
+@Component
+public class RequestAdmission {
+
+    // 경로 → 그룹/엔드포인트, 기본 가중치 (위에서부터 첫 번째 일치)
+    private static final List<Rule> RULES = List.of(
+            new Rule("/schedule/create", false, "schedule", "create", 4),
+            new Rule("/schedule/create/stream", false, "schedule", "create-stream", 4),
+            new Rule("/schedule/create/job", false, "schedule", "create-job", 4),
+            new Rule("/schedule/recreate", false, "schedule", "recreate", 4),
+            new Rule("/schedule/recreate/job", false, "schedule", "recreate-job", 4),
+            new Rule("/schedule/edit", false, "schedule", "edit", 2),
+            new Rule("/schedule/detail", false, "schedule", "detail", 1),
+            new Rule("/chatbot/destination", false, "chatbot", "destination", 1),
+            new Rule("/chatbot/gps", false, "chatbot", "gps", 1),
+            new Rule("/chatbot/recreate/destination", false, "chatbot", "recreate-destination", 1),
+            new Rule("/chatbot/recreate/gps", false, "chatbot", "recreate-gps", 1),
+            new Rule("/chatbot/", true, "chatbot", "other", 1)
+    );
+
+    private final RedisTokenBucket tokenBucket;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Map<String, Group> groups = new LinkedHashMap<>();
+    private final Map<Rule, Integer> weights = new LinkedHashMap<>();
+
+    public RequestAdmission(RedisTokenBucket tokenBucket, Environment env, MeterRegistry meterRegistry) {
+        this.tokenBucket = tokenBucket;
+        this.meterRegistry = meterRegistry;
+        this.enabled = env.getProperty("admission.enabled", Boolean.class, true);
+        for (Rule rule : RULES) {
+            Group group = groups.computeIfAbsent(rule.group(), name -> register(name, env));
+            int weight = env.getProperty("admission." + rule.group() + ".weights." + rule.endpoint(), Integer.class,
+                    rule.defaultWeight());
+            weights.put(rule, Math.max(0, Math.min(weight, group.burst())));
+        }
+    }
+
+    /**
+     * 요청 허용 여부 확인 + 토큰 차감
+     * - 허용(한도 대상이 아닌 경로 포함)이면 0, 거절이면 다음 요청까지 대기 시간(ms, 1 이상)
+     */
+    public long admit(String userKey, String path) {
+        if (!enabled || userKey == null || path == null) return 0;
+
+        Rule rule = match(path);
+        if (rule == null) return 0;
+        Group group = groups.get(rule.group());
+        int weight = weights.get(rule);
+        if (!group.enabled() || weight == 0) return 0;
+
+        RedisTokenBucket.Result result;
+        try {
+            result = tokenBucket.take("admission:" + group.name() + ":" + userKey, group.ratePerSecond(), group.burst(), weight);
+        } catch (Exception e) {
+            meterRegistry.counter("admission.errors", "group", group.name()).increment();
+            log.debug("[요청 한도] {} Redis 확인 실패, 한도 검사 생략: {}", group.name(), e.getMessage());
+            return 0;
+        }
+
+        meterRegistry.counter("admission.requests", "group", group.name(), "endpoint", rule.endpoint(),
+                "result", result.allowed() ? "allowed" : "rejected").increment();
+        if (result.allowed()) return 0;
+
+        log.info("[요청 한도] {} {} 거절 (사용자 {}, {}ms 후 재시도)", group.name(), rule.endpoint(), userKey,
+                result.retryAfterMillis());
+        return Math.max(1, result.retryAfterMillis());
+    }
+
+    private static Rule match(String path) {
+        for (Rule rule : RULES) {
+            if (rule.prefix() ? path.startsWith(rule.path()) : path.equals(rule.path())) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private Group register(String name, Environment env) {
+        String prefix = "admission." + name + ".";
+        double rate = env.getProperty(prefix + "rate-per-second", Double.class, 0.2);
+        Group group = new Group(
+                name,
+                env.getProperty(prefix + "enabled", Boolean.class, true) && rate > 0,
+                rate,
+                env.getProperty(prefix + "burst", Integer.class, 10));
+
+        if (enabled && group.enabled()) {
+            log.info("[요청 한도] {} 사용자별 초당 {}, 최대 {}", name, group.ratePerSecond(), group.burst());
+        }
+        return group;
+    }
+
+    private record Rule(String path, boolean prefix, String group, String endpoint, int defaultWeight) {}
+
+    private record Group(String name, boolean enabled, double ratePerSecond, int burst) {}
+}
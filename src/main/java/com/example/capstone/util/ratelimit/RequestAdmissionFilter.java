@@ -0,0 +1,54 @@
+package com.example.capstone.util.ratelimit;
+
+import com.example.capstone.util.oauth2.dto.CustomOAuth2User;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청 한도 필터 (JWTFilter 다음에 실행 → 인증된 사용자 기준)
+ * - RequestAdmission 이 거절하면 429 + Retry-After(초) 응답, 컨트롤러까지 가지 않음
+ * - 인증 정보가 없는 요청은 그대로 통과 (인증 실패 처리는 JWTFilter/인가 설정 몫)
+ */
+@RequiredArgsConstructor
+public class RequestAdmissionFilter extends OncePerRequestFilter {
+
+    private final RequestAdmission requestAdmission;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        // CORS 사전 요청은 한도에서 제외
+        if (HttpMethod.OPTIONS.matches(request.getMethod())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long retryAfterMillis = requestAdmission.admit(userKey(), request.getRequestURI());
+        if (retryAfterMillis > 0) {
+            response.setContentType("application/json");
+            response.setCharacterEncoding("UTF-8");
+            response.setStatus(429);
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf((retryAfterMillis + 999) / 1000));
+            response.getWriter().write("{\"error\": \"Too many requests\"}");
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private static String userKey() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomOAuth2User user) {
+            return user.getProviderId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.capstone.util.resilience;
+
+import java.time.Duration;
+
+/**
+ * 호출 횟수 기반 서킷 브레이커
+ * - CLOSED: 최근 window-size 건 중 실패율이 failure-rate 이상이면(최소 min-calls 건) OPEN
+ * - OPEN: open-duration 동안 호출 차단, 이후 HALF_OPEN
+ * - HALF_OPEN: half-open-calls 건만 시험 호출, 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final boolean[] window;
+    private final int minCalls;
+    private final double failureRateThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenCalls;
+
+    private State state = State.CLOSED;
+    private int index;
+    private int count;
+    private int failures;
+    private long openedAt;
+    private int halfOpenInFlight;
+    private int halfOpenSuccesses;
+
+    public CircuitBreaker(int windowSize, int minCalls, double failureRateThreshold,
+                          Duration openDuration, int halfOpenCalls) {
+        this.window = new boolean[Math.max(1, windowSize)];
+        this.minCalls = Math.max(1, minCalls);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.halfOpenCalls = Math.max(1, halfOpenCalls);
+    }
+
+    /**
+     * 호출 가능 여부 (true 를 받았으면 onSuccess / onFailure / onIgnored 중 하나를 반드시 호출)
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < openDurationNanos) return false;
+            state = State.HALF_OPEN;
+            halfOpenInFlight = 0;
+            halfOpenSuccesses = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenInFlight >= halfOpenCalls) return false;
+            halfOpenInFlight++;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            if (++halfOpenSuccesses >= halfOpenCalls) close();
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        record(true);
+        if (count >= minCalls && (double) failures / count >= failureRateThreshold) {
+            open();
+        }
+    }
+
+    // 실패율 계산에서 제외할 결과 (요청 자체의 문제 등)
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN && halfOpenInFlight > 0) {
+            halfOpenInFlight--;
+        }
+    }
+
+    public synchronized State state() {
+        if (state == State.OPEN && System.nanoTime() - openedAt >= openDurationNanos) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    private void record(boolean failed) {
+        if (count == window.length) {
+            if (window[index]) failures--;
+        } else {
+            count++;
+        }
+        window[index] = failed;
+        if (failed) failures++;
+        index = (index + 1) % window.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = System.nanoTime();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        index = 0;
+        count = 0;
+        failures = 0;
+    }
+}
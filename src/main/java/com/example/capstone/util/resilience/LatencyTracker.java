@@ -0,0 +1,39 @@
+package com.example.capstone.util.resilience;
+
+import java.util.Arrays;
+
+/**
+ * 최근 N건 응답 시간 기록 → 백분위 계산 (헤지 요청 기준 시간용)
+ */
+public class LatencyTracker {
+
+    private final long[] samples;
+    private final int minSamples;
+    private int index;
+    private int count;
+
+    public LatencyTracker(int size, int minSamples) {
+        this.samples = new long[Math.max(1, size)];
+        this.minSamples = minSamples;
+    }
+
+    public synchronized void record(long millis) {
+        samples[index] = millis;
+        index = (index + 1) % samples.length;
+        if (count < samples.length) count++;
+    }
+
+    /**
+     * percentile(0~1) 응답 시간(ms), 표본이 부족하면 -1
+     */
+    public long percentile(double percentile) {
+        long[] copy;
+        synchronized (this) {
+            if (count < minSamples) return -1;
+            copy = Arrays.copyOf(samples, count);
+        }
+        Arrays.sort(copy);
+        int rank = (int) Math.ceil(percentile * copy.length) - 1;
+        return copy[Math.max(0, Math.min(copy.length - 1, rank))];
+    }
+}
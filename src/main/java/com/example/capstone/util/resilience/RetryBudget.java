@@ -0,0 +1,37 @@
+package com.example.capstone.util.resilience;
+
+/**
+ * 재시도 예산
+ * - 일반 요청 1건마다 ratio 만큼 재시도 토큰 적립 (예: 0.2 → 요청의 20%까지 재시도)
+ * - 요청이 적을 때를 위해 초당 min-per-second 개는 항상 허용
+ * - 장애 시 재시도가 요청 수를 몇 배로 불리는 것(retry storm)을 방지
+ */
+public class RetryBudget {
+
+    private final double ratio;
+    private final double minPerSecond;
+    private final double maxBalance;
+
+    private double balance;
+    private long lastRefill = System.nanoTime();
+
+    public RetryBudget(double ratio, double minPerSecond) {
+        this.ratio = ratio;
+        this.minPerSecond = minPerSecond;
+        this.maxBalance = Math.max(10, minPerSecond * 10);
+        this.balance = minPerSecond;
+    }
+
+    public synchronized void onRequest() {
+        balance = Math.min(maxBalance, balance + ratio);
+    }
+
+    public synchronized boolean tryRetry() {
+        long now = System.nanoTime();
+        balance = Math.min(maxBalance, balance + (now - lastRefill) / 1_000_000_000.0 * minPerSecond);
+        lastRefill = now;
+        if (balance < 1) return false;
+        balance -= 1;
+        return true;
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.capstone.util.text;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 장소명 매칭 색인 (GPT 응답의 장소명 → 일정의 장소)
+ * - 색인 생성 시 장소명을 한 번만 정규화 (정규식 없이 문자 단위 처리)
+ * - 완전 일치: 정규화된 이름 해시맵
+ * - 약한 일치(포함 관계): 3-gram 색인으로 후보만 골라 확인
+ * - 같은 조건이면 목록의 앞쪽 항목 우선 (기존 순차 탐색과 동일한 결과)
+ * - 빈 이름(정규화 후 "")도 기존 탐색과 같이 처리
+ *   · 빈 이름 항목은 빈 이름과 완전 일치하고, 모든 이름에 포함됨 (약한 일치)
+ *   · 빈 이름으로 찾으면 빈 이름 항목 → 없으면 목록의 첫 항목 (모든 이름이 빈 문자열을 포함)
+ *
+ * 정규화: 공백/구분 기호( ()[]{}·ㆍ・•—–- ) 제거 + 소문자
+ */
+public final class PlaceNameMatcher<T> {
+
+    private static final int GRAM = 3;
+
+    private final List<T> items;
+    private final String[] keys;
+    private final Map<String, Integer> exact = new HashMap<>();
+    private final Map<String, int[]> grams = new HashMap<>();      // 3-gram → 그 3-gram을 포함하는 항목
+    private final Map<String, int[]> firstGrams = new HashMap<>(); // 3-gram → 그 3-gram으로 시작하는 항목
+    private final int[] shortKeys;                                  // 3글자 미만 항목
+    private final int firstEmpty;                                   // 첫 빈 이름 항목 (없으면 Integer.MAX_VALUE)
+
+    private PlaceNameMatcher(List<T> items, Function<T, String> nameOf) {
+        this.items = items;
+        this.keys = new String[items.size()];
+
+        Map<String, List<Integer>> gramLists = new HashMap<>();
+        Map<String, List<Integer>> firstGramLists = new HashMap<>();
+        List<Integer> shorts = new ArrayList<>();
+        int empty = Integer.MAX_VALUE;
+
+        for (int i = 0; i < items.size(); i++) {
+            String key = normalize(nameOf.apply(items.get(i)));
+            keys[i] = key;
+            exact.putIfAbsent(key, i);
+            if (key.isEmpty()) {
+                empty = Math.min(empty, i);
+                continue;
+            }
+            if (key.length() < GRAM) {
+                shorts.add(i);
+                continue;
+            }
+            firstGramLists.computeIfAbsent(key.substring(0, GRAM), k -> new ArrayList<>()).add(i);
+            Set<String> seen = new HashSet<>();
+            for (int j = 0; j + GRAM <= key.length(); j++) {
+                String gram = key.substring(j, j + GRAM);
+                if (seen.add(gram)) {
+                    gramLists.computeIfAbsent(gram, k -> new ArrayList<>()).add(i);
+                }
+            }
+        }
+
+        gramLists.forEach((gram, list) -> grams.put(gram, toArray(list)));
+        firstGramLists.forEach((gram, list) -> firstGrams.put(gram, toArray(list)));
+        this.shortKeys = toArray(shorts);
+        this.firstEmpty = empty;
+    }
+
+    public static <T> PlaceNameMatcher<T> of(List<T> items, Function<T, String> nameOf) {
+        return new PlaceNameMatcher<>(List.copyOf(items), nameOf);
+    }
+
+    /**
+     * 정규화된 이름이 완전히 같은 항목 (없으면 null)
+     */
+    public T findExact(String name) {
+        Integer index = exact.get(normalize(name));
+        return index != null ? items.get(index) : null;
+    }
+
+    /**
+     * 완전 일치 → 없으면 한쪽이 다른 쪽을 포함하는 항목 (지점명/띄어쓰기 차이 보정, 없으면 null)
+     */
+    public T find(String name) {
+        String query = normalize(name);
+        Integer index = exact.get(query);
+        if (index == null) index = findContaining(query);
+        return index != null ? items.get(index) : null;
+    }
+
+    private Integer findContaining(String query) {
+        // 빈 이름은 모든 항목 이름에 포함됨
+        if (query.isEmpty()) return items.isEmpty() ? null : 0;
+
+        // 빈 이름 항목은 모든 query 에 포함됨
+        int best = firstEmpty;
+
+        // 1. 항목 이름이 query 를 포함: query 의 3-gram 중 가장 짧은 목록만 확인
+        if (query.length() >= GRAM) {
+            int[] candidates = null;
+            for (int j = 0; j + GRAM <= query.length(); j++) {
+                int[] list = grams.get(query.substring(j, j + GRAM));
+                if (list == null) {
+                    candidates = null;
+                    break;
+                }
+                if (candidates == null || list.length < candidates.length) candidates = list;
+            }
+            if (candidates != null) {
+                for (int i : candidates) {
+                    if (i >= best) break;
+                    if (keys[i].contains(query)) best = i;
+                }
+            }
+        } else {
+            for (int i = 0; i < keys.length && i < best; i++) {
+                if (!keys[i].isEmpty() && keys[i].contains(query)) best = i;
+            }
+        }
+
+        // 2. query 가 항목 이름을 포함: query 안의 각 위치에서 시작하는 항목만 확인
+        for (int j = 0; j + GRAM <= query.length(); j++) {
+            int[] list = firstGrams.get(query.substring(j, j + GRAM));
+            if (list == null) continue;
+            for (int i : list) {
+                if (i >= best) break;
+                if (query.startsWith(keys[i], j)) best = i;
+            }
+        }
+        for (int i : shortKeys) {
+            if (i >= best) break;
+            if (query.contains(keys[i])) best = i;
+        }
+
+        return best == Integer.MAX_VALUE ? null : best;
+    }
+
+    /**
+     * 공백/구분 기호 제거 + 소문자 (정규식 없이 한 번 순회)
+     */
+    public static String normalize(String s) {
+        if (s == null || s.isEmpty()) return "";
+        StringBuilder sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (Character.isWhitespace(c) || Character.isSpaceChar(c) || isSeparator(c)) continue;
+            sb.append(Character.toLowerCase(c));
+        }
+        return sb.toString();
+    }
+
+    private static boolean isSeparator(char c) {
+        return switch (c) {
+            case '(', ')', '[', ']', '{', '}', '·', 'ㆍ', '・', '•', '—', '–', '-' -> true;
+            default -> false;
+        };
+    }
+
+    private static int[] toArray(List<Integer> list) {
+        int[] array = new int[list.size()];
+        for (int i = 0; i < array.length; i++) array[i] = list.get(i);
+        return array;
+    }
+}
@@ -0,0 +1,4 @@
+-- 값과 남은 TTL 을 한 번에 조회 (TieredCache L2 적중 시 L1 TTL 상한)
+-- KEYS[1]: 캐시 키
+-- 반환: { 값(없으면 false), 남은 TTL ms (만료 없음 -1, 키 없음 -2) }
+return { redis.call('GET', KEYS[1]), redis.call('PTTL', KEYS[1]) }
@@ -0,0 +1,34 @@
+-- 토큰 버킷 (원자적 충전 + 차감)
+-- KEYS[1]: 버킷 키
+-- ARGV[1]: 초당 충전 토큰 수, ARGV[2]: 최대 토큰 수(burst), ARGV[3]: 요청 토큰 수
+-- 반환: { 허용 여부(1/0), 남은 토큰 수(문자열), 다음 요청까지 대기 ms }
+local rate = tonumber(ARGV[1]) / 1000
+local burst = tonumber(ARGV[2])
+local requested = tonumber(ARGV[3])
+
+-- 노드 간 시계 차이를 피하기 위해 Redis 서버 시간 사용
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+local tokens = tonumber(bucket[1])
+local ts = tonumber(bucket[2])
+if tokens == nil or ts == nil then
+  tokens = burst
+  ts = now
+end
+
+tokens = math.min(burst, tokens + math.max(0, now - ts) * rate)
+
+local allowed = 0
+local wait = 0
+if tokens >= requested then
+  tokens = tokens - requested
+  allowed = 1
+else
+  wait = math.ceil((requested - tokens) / rate)
+end
+
+redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now))
+redis.call('PEXPIRE', KEYS[1], math.ceil(burst / rate) + 1000)
+return { allowed, tostring(tokens), wait }
@@ -0,0 +1,153 @@
+package com.example.capstone.util.concurrent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 같은 키 동시 호출 합치기: 호출 1회 공유, 예외 전파, 완료 후 키 정리
+ */
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>("test", Function.identity(), meterRegistry);
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallersShareOneCall() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = submitAll(() -> singleFlight.execute("key", key -> {
+            calls.incrementAndGet();
+            await(release);
+            return "value";
+        }));
+        awaitCoalesced(CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        }
+        assertThat(calls).hasValue(1);
+        assertThat(callCount("leader")).isEqualTo(1);
+        assertThat(inFlight()).isZero();
+    }
+
+    @Test
+    void exceptionReachesEveryWaiter() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("upstream down");
+
+        List<Future<String>> results = submitAll(() -> singleFlight.execute("key", key -> {
+            calls.incrementAndGet();
+            await(release);
+            throw failure;
+        }));
+        awaitCoalesced(CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCause(failure);
+        }
+        assertThat(calls).hasValue(1);
+        assertThat(inFlight()).isZero();
+    }
+
+    @Test
+    void keyIsRemovedAfterSuccess() {
+        assertThat(singleFlight.execute("key", key -> "first")).isEqualTo("first");
+        assertThat(inFlight()).isZero();
+
+        // 결과를 보관하지 않으므로 다음 호출은 새로 실행
+        assertThat(singleFlight.execute("key", key -> "second")).isEqualTo("second");
+        assertThat(callCount("leader")).isEqualTo(2);
+        assertThat(callCount("coalesced")).isZero();
+    }
+
+    @Test
+    void keyIsRemovedAfterFailure() {
+        assertThatThrownBy(() -> singleFlight.execute("key", key -> {
+            throw new IllegalStateException("first");
+        })).hasMessage("first");
+        assertThat(inFlight()).isZero();
+
+        // 실패도 보관하지 않으므로 다음 호출은 새로 실행
+        assertThat(singleFlight.execute("key", key -> "retry")).isEqualTo("retry");
+        assertThat(callCount("leader")).isEqualTo(2);
+    }
+
+    @Test
+    void differentKeysDoNotShare() {
+        SingleFlight<String, String> byPrefix = new SingleFlight<>("prefix", request -> request.substring(0, 1), meterRegistry);
+
+        assertThat(byPrefix.execute("a1", request -> request)).isEqualTo("a1");
+        assertThat(byPrefix.execute("b1", request -> request)).isEqualTo("b1");
+        assertThat(meterRegistry.get("upstream.singleflight.calls").tag("name", "prefix").tag("result", "leader")
+                .counter().count()).isEqualTo(2);
+    }
+
+    private List<Future<String>> submitAll(Callable<String> task) {
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(task));
+        }
+        return results;
+    }
+
+    // 리더 외의 호출자가 모두 진행 중인 호출을 기다리기 시작할 때까지 대기
+    private void awaitCoalesced(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (callCount("coalesced") < expected) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("합쳐진 호출 수 " + callCount("coalesced") + " / " + expected);
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    private double callCount(String result) {
+        return meterRegistry.get("upstream.singleflight.calls").tag("name", "test").tag("result", result)
+                .counter().count();
+    }
+
+    private double inFlight() {
+        return meterRegistry.get("upstream.singleflight.inflight").tag("name", "test").gauge().value();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("대기 시간 초과");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.capstone.util.gpt;
+
+import com.example.capstone.plan.dto.common.GptPlaceDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 스텁 서버가 streamGenerateContent(alt=sse) 형식으로 일정 JSON을 조각내어 보내는 상황 재현
+ */
+class ItineraryStreamParserTest {
+
+    // 장소/필드 경계와 무관하게 잘린 텍스트 조각
+    private static final List<String> CHUNKS = List.of(
+            "```json\n{\"itin",
+            "erary\":[{\"date\":\"2025-07-01\",\"travelSchedule\":[{\"type\":\"관광지\",\"name\":\"경복",
+            "궁\"},{\"type\":\"식사\",",
+            "\"name\":\"광장시장\"}]},{\"travelSchedule\":[{\"type\":\"숙소\",\"name\":\"명동 호텔\",",
+            "\"location\":{\"name\":\"명동\",\"lat\":37.56,\"lng\":126.98}}],\"date\":\"2025-07-02\"}]}\n```"
+    );
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final CountDownLatch firstPlaceParsed = new CountDownLatch(1);
+    private HttpServer server;
+
+    @BeforeEach
+    void startStub() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1beta/models/test:streamGenerateContent", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                for (int i = 0; i < CHUNKS.size(); i++) {
+                    // 첫 장소가 파싱될 때까지 나머지 조각을 보내지 않음 → 스트림 중간에 장소가 나와야 통과
+                    if (i == 3 && !firstPlaceParsed.await(5, TimeUnit.SECONDS)) {
+                        break;
+                    }
+                    String event = objectMapper.writeValueAsString(Map.of("candidates", List.of(
+                            Map.of("content", Map.of("parts", List.of(Map.of("text", CHUNKS.get(i))))))));
+                    out.write(("data: " + event + "\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+                    out.flush();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopStub() {
+        server.stop(0);
+    }
+
+    @Test
+    void emitsPlacesWhileStreamIsInProgress() throws Exception {
+        List<String> emitted = new ArrayList<>();
+        ItineraryStreamParser parser = new ItineraryStreamParser(objectMapper, (date, place) -> {
+            emitted.add(date + "|" + place.getType() + "|" + place.getName());
+            firstPlaceParsed.countDown();
+        });
+
+        URI uri = URI.create("http://127.0.0.1:" + server.getAddress().getPort()
+                + "/v1beta/models/test:streamGenerateContent?alt=sse");
+        HttpURLConnection connection = (HttpURLConnection) uri.toURL().openConnection();
+        try (InputStream body = connection.getInputStream()) {
+            GeminiSseReader.read(body, objectMapper, parser::feed);
+        }
+        Map<String, List<GptPlaceDto>> result = parser.finish();
+
+        assertThat(emitted).containsExactly(
+                "2025-07-01|관광지|경복궁",
+                "2025-07-01|식사|광장시장",
+                "2025-07-02|숙소|명동 호텔");
+        assertThat(result).containsOnlyKeys("2025-07-01", "2025-07-02");
+        assertThat(result.get("2025-07-02").get(0).getLocation().getName()).isEqualTo("명동");
+    }
+
+    @Test
+    void failsWhenStreamEndsEarly() {
+        ItineraryStreamParser parser = new ItineraryStreamParser(objectMapper, (date, place) -> {});
+        parser.feed(CHUNKS.get(0));
+        parser.feed(CHUNKS.get(1));
+
+        assertThatThrownBy(parser::finish)
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.capstone.util.http;
+
+import com.example.capstone.util.ratelimit.RateLimitExceededException;
+import com.example.capstone.util.ratelimit.RedisTokenBucket;
+import com.example.capstone.util.ratelimit.RedisTokenBucket.Result;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 토큰 버킷(Redis)을 스텁으로 바꿔 acquire 의 허용/대기/거절 분기 확인
+ */
+class UpstreamRateLimiterTest {
+
+    private static final String KEY = "upstream:gemini";
+
+    private final RedisTokenBucket tokenBucket = mock(RedisTokenBucket.class);
+    private final MockEnvironment env = new MockEnvironment();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        // 앱과 같이 "2s", "50ms" 형식의 Duration 변환
+        env.setConversionService(new ApplicationConversionService());
+    }
+
+    @Test
+    void passesWhenTokenIsAvailable() {
+        when(tokenBucket.take(eq(KEY), anyDouble(), anyInt(), eq(1))).thenReturn(new Result(true, 3, 0));
+
+        assertThatNoException().isThrownBy(() -> limiter().acquire("gemini"));
+        assertThat(meterRegistry.get("upstream.ratelimit.wait").tag("bucket", "gemini").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void failsFastWhenMaxWaitIsZero() {
+        env.setProperty("upstream.rate-limit.gemini.max-wait", "0s");
+        when(tokenBucket.take(eq(KEY), anyDouble(), anyInt(), eq(1))).thenReturn(new Result(false, 0, 250));
+
+        assertThatThrownBy(() -> limiter().acquire("gemini"))
+                .isInstanceOfSatisfying(RateLimitExceededException.class, e -> {
+                    assertThat(e.getBucket()).isEqualTo("gemini");
+                    assertThat(e.getRetryAfterMillis()).isEqualTo(250);
+                });
+        assertThat(rejected("empty")).isEqualTo(1);
+        verify(tokenBucket, times(1)).take(eq(KEY), anyDouble(), anyInt(), eq(1));
+    }
+
+    @Test
+    void waitsUntilTokenIsRefilled() {
+        env.setProperty("upstream.rate-limit.gemini.max-wait", "1s");
+        when(tokenBucket.take(eq(KEY), anyDouble(), anyInt(), eq(1)))
+                .thenReturn(new Result(false, 0, 20))
+                .thenReturn(new Result(false, 0.5, 10))
+                .thenReturn(new Result(true, 0, 0));
+
+        assertThatNoException().isThrownBy(() -> limiter().acquire("gemini"));
+        verify(tokenBucket, times(3)).take(eq(KEY), anyDouble(), anyInt(), eq(1));
+    }
+
+    @Test
+    void rejectsWhenRefillIsLaterThanMaxWait() {
+        env.setProperty("upstream.rate-limit.gemini.max-wait", "50ms");
+        when(tokenBucket.take(eq(KEY), anyDouble(), anyInt(), eq(1))).thenReturn(new Result(false, 0, 5_000));
+
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> limiter().acquire("gemini"))
+                .isInstanceOf(RateLimitExceededException.class);
+
+        // 기다려도 안 되는 경우는 잠들지 않고 바로 거절
+        assertThat((System.nanoTime() - startedAt) / 1_000_000).isLessThan(1_000);
+        assertThat(rejected("timeout")).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsWhenWaiterQueueIsFull() {
+        env.setProperty("upstream.rate-limit.gemini.max-wait", "1s");
+        env.setProperty("upstream.rate-limit.gemini.max-waiters", "0");
+        when(tokenBucket.take(eq(KEY), anyDouble(), anyInt(), eq(1))).thenReturn(new Result(false, 0, 10));
+
+        assertThatThrownBy(() -> limiter().acquire("gemini"))
+                .isInstanceOf(RateLimitExceededException.class);
+        assertThat(rejected("queue-full")).isEqualTo(1);
+        verify(tokenBucket, times(1)).take(eq(KEY), anyDouble(), anyInt(), eq(1));
+    }
+
+    @Test
+    void passesWhenRedisFails() {
+        when(tokenBucket.take(eq(KEY), anyDouble(), anyInt(), eq(1)))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+
+        assertThatNoException().isThrownBy(() -> limiter().acquire("gemini"));
+        assertThat(meterRegistry.get("upstream.ratelimit.errors").tag("bucket", "gemini").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void skipsDisabledBucket() {
+        env.setProperty("upstream.rate-limit.gemini.enabled", "false");
+
+        limiter().acquire("gemini");
+
+        verify(tokenBucket, times(0)).take(eq(KEY), anyDouble(), anyInt(), anyInt());
+    }
+
+    private UpstreamRateLimiter limiter() {
+        return new UpstreamRateLimiter(tokenBucket, env, meterRegistry);
+    }
+
+    private double rejected(String reason) {
+        return meterRegistry.get("upstream.ratelimit.rejected").tag("bucket", "gemini").tag("reason", reason)
+                .counter().count();
+    }
+}
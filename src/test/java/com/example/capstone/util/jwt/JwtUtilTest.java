@@ -0,0 +1,136 @@
+package com.example.capstone.util.jwt;
+
+import com.example.capstone.user.exception.InvalidTokenException;
+import com.example.capstone.user.exception.TokenExpiredException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * JWT 검증 캐시: 캐시에 있어도 만료/위조 토큰은 거절, 보관 기간은 min(ttl, 만료까지 남은 시간)
+ */
+class JwtUtilTest {
+
+    private static final String SECRET = secret("capstone-jwt-test-secret-0123456789abcdef");
+    private static final long TEMP_EXPIRATION_MS = 1_500;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JwtUtil jwtUtil = jwtUtil(SECRET);
+
+    @Test
+    void parsesClaimsAndServesRepeatsFromCache() {
+        String token = jwtUtil.generateToken("ACCESS", "kakao-1", "a@b.c", "닉네임");
+
+        JwtClaims first = jwtUtil.parse(token);
+        JwtClaims second = jwtUtil.parse(token);
+
+        assertThat(first.providerId()).isEqualTo("kakao-1");
+        assertThat(first.email()).isEqualTo("a@b.c");
+        assertThat(first.nickname()).isEqualTo("닉네임");
+        assertThat(first.isType("ACCESS")).isTrue();
+        assertThat(second).isSameAs(first);
+        assertThat(cacheGets("hit")).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsExpiredTokenEvenAfterItWasCached() throws InterruptedException {
+        String token = jwtUtil.generateTempToken("kakao-1", "a@b.c");
+        JwtClaims claims = jwtUtil.parse(token);
+        assertThat(jwtUtil.parse(token)).isSameAs(claims);
+
+        Thread.sleep(Math.max(0, Duration.between(Instant.now(), claims.expiresAt()).toMillis()) + 50);
+
+        assertThatThrownBy(() -> jwtUtil.parse(token)).isInstanceOf(TokenExpiredException.class);
+    }
+
+    @Test
+    void rejectsTamperedSignature() {
+        String token = jwtUtil.generateToken("ACCESS", "kakao-1", "a@b.c", "닉네임");
+        jwtUtil.parse(token);
+
+        int signatureStart = token.lastIndexOf('.') + 1;
+        char flipped = token.charAt(signatureStart) == 'A' ? 'B' : 'A';
+        String tampered = token.substring(0, signatureStart) + flipped + token.substring(signatureStart + 1);
+
+        assertThatThrownBy(() -> jwtUtil.parse(tampered)).isInstanceOf(InvalidTokenException.class);
+    }
+
+    @Test
+    void rejectsTamperedPayload() {
+        String token = jwtUtil.generateToken("ACCESS", "kakao-1", "a@b.c", "닉네임");
+        String[] parts = token.split("\\.");
+        String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8)
+                .replace("kakao-1", "kakao-2");
+        String forged = parts[0] + "." + Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + "." + parts[2];
+
+        assertThatThrownBy(() -> jwtUtil.parse(forged)).isInstanceOf(InvalidTokenException.class);
+    }
+
+    @Test
+    void rejectsTokenSignedWithAnotherKey() {
+        String token = jwtUtil(secret("another-secret-for-jwt-test-0123456789ab"))
+                .generateToken("ACCESS", "kakao-1", "a@b.c", "닉네임");
+
+        assertThatThrownBy(() -> jwtUtil.parse(token)).isInstanceOf(InvalidTokenException.class);
+    }
+
+    @Test
+    void rejectsBlankToken() {
+        assertThatThrownBy(() -> jwtUtil.parse(" ")).isInstanceOf(InvalidTokenException.class);
+        assertThatThrownBy(() -> jwtUtil.parse("not-a-jwt")).isInstanceOf(InvalidTokenException.class);
+    }
+
+    @Test
+    void cacheEntryLivesForTtlWhenTokenOutlivesIt() {
+        JwtUtil.UntilExpiry expiry = new JwtUtil.UntilExpiry(Duration.ofMinutes(5));
+
+        long nanos = expiry.expireAfterCreate("key", claimsExpiringIn(Duration.ofHours(1)), 0);
+
+        assertThat(nanos).isEqualTo(Duration.ofMinutes(5).toNanos());
+    }
+
+    @Test
+    void cacheEntryLivesUntilTokenExpiryWhenSoonerThanTtl() {
+        JwtUtil.UntilExpiry expiry = new JwtUtil.UntilExpiry(Duration.ofMinutes(5));
+
+        long nanos = expiry.expireAfterCreate("key", claimsExpiringIn(Duration.ofSeconds(30)), 0);
+
+        assertThat(nanos).isLessThanOrEqualTo(Duration.ofSeconds(30).toNanos())
+                .isGreaterThan(Duration.ofSeconds(29).toNanos());
+    }
+
+    @Test
+    void cacheEntryIsNotKeptForExpiredOrNonExpiringClaims() {
+        JwtUtil.UntilExpiry expiry = new JwtUtil.UntilExpiry(Duration.ofMinutes(5));
+
+        assertThat(expiry.expireAfterCreate("key", claimsExpiringIn(Duration.ofSeconds(-10)), 0)).isZero();
+        // 만료 시각이 없는 토큰은 ttl 만큼
+        assertThat(expiry.expireAfterCreate("key", new JwtClaims("p", null, null, "ACCESS", Instant.MAX), 0))
+                .isEqualTo(Duration.ofMinutes(5).toNanos());
+    }
+
+    private JwtUtil jwtUtil(String secret) {
+        return new JwtUtil(secret, 60_000, 120_000, TEMP_EXPIRATION_MS, 100, Duration.ofMinutes(5), meterRegistry);
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", "jwt.claims").tag("result", result)
+                .functionCounter().count();
+    }
+
+    private static JwtClaims claimsExpiringIn(Duration duration) {
+        return new JwtClaims("p", null, null, "ACCESS", Instant.now().plus(duration));
+    }
+
+    private static String secret(String raw) {
+        return Base64.getEncoder().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.capstone.util.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.luaj.vm2.Globals;
+import org.luaj.vm2.LuaError;
+import org.luaj.vm2.LuaTable;
+import org.luaj.vm2.LuaValue;
+import org.luaj.vm2.Varargs;
+import org.luaj.vm2.lib.VarArgFunction;
+import org.luaj.vm2.lib.jse.JsePlatform;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * redis/token-bucket.lua 의 충전/차감 계산 확인
+ * - Redis 없이 Lua 인터프리터(luaj)에서 실행, redis.call(TIME/HMGET/HSET/PEXPIRE)은 메모리 해시와 고정 시계로 대체
+ */
+class TokenBucketScriptTest {
+
+    private static final String KEY = "RATE:upstream:test";
+
+    private String script;
+    private final Map<String, String> hash = new HashMap<>();
+    private long nowMillis = 1_700_000_000_000L;
+    private long expireMillis;
+
+    @BeforeEach
+    void loadScript() throws IOException {
+        script = new ClassPathResource("redis/token-bucket.lua").getContentAsString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void newBucketStartsFull() {
+        Reply reply = take(2.0, 5, 1);
+
+        assertThat(reply.allowed()).isTrue();
+        assertThat(reply.remaining()).isEqualTo(4.0);
+        assertThat(reply.waitMillis()).isZero();
+        // 빈 상태에서 가득 찰 때까지(5 / 2 per s = 2.5s) + 1s 후 만료
+        assertThat(expireMillis).isEqualTo(3_500);
+    }
+
+    @Test
+    void rejectsWithTimeUntilEnoughTokens() {
+        take(2.0, 5, 5);
+
+        Reply reply = take(2.0, 5, 2);
+
+        assertThat(reply.allowed()).isFalse();
+        assertThat(reply.remaining()).isZero();
+        // 초당 2개 → 2개 충전까지 1000ms
+        assertThat(reply.waitMillis()).isEqualTo(1_000);
+    }
+
+    @Test
+    void refillsByElapsedTime() {
+        take(2.0, 5, 5);
+
+        nowMillis += 750;
+        Reply reply = take(2.0, 5, 1);
+
+        // 750ms × 0.002/ms = 1.5개 충전 → 1개 차감 후 0.5개
+        assertThat(reply.allowed()).isTrue();
+        assertThat(reply.remaining()).isCloseTo(0.5, within(1e-9));
+
+        reply = take(2.0, 5, 1);
+        assertThat(reply.allowed()).isFalse();
+        // 부족한 0.5개 충전까지 250ms
+        assertThat(reply.waitMillis()).isEqualTo(250);
+    }
+
+    @Test
+    void refillIsCappedAtBurst() {
+        take(2.0, 5, 5);
+
+        nowMillis += 60_000;
+        Reply reply = take(2.0, 5, 1);
+
+        assertThat(reply.remaining()).isEqualTo(4.0);
+    }
+
+    @Test
+    void rejectedRequestDoesNotDeduct() {
+        take(1.0, 3, 2);
+
+        Reply rejected = take(1.0, 3, 2);
+        nowMillis += 1_000;
+        Reply allowed = take(1.0, 3, 2);
+
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.remaining()).isEqualTo(1.0);
+        assertThat(allowed.allowed()).isTrue();
+        assertThat(allowed.remaining()).isZero();
+    }
+
+    @Test
+    void clockGoingBackwardsDoesNotRemoveTokens() {
+        take(2.0, 5, 2);
+
+        nowMillis -= 5_000;
+        Reply reply = take(2.0, 5, 1);
+
+        assertThat(reply.allowed()).isTrue();
+        assertThat(reply.remaining()).isEqualTo(2.0);
+    }
+
+    private Reply take(double ratePerSecond, int burst, int tokens) {
+        Globals globals = JsePlatform.standardGlobals();
+        LuaTable redis = new LuaTable();
+        redis.set("call", new RedisCall());
+        globals.set("redis", redis);
+        globals.set("KEYS", LuaValue.listOf(new LuaValue[]{LuaValue.valueOf(KEY)}));
+        globals.set("ARGV", LuaValue.listOf(new LuaValue[]{
+                LuaValue.valueOf(String.valueOf(ratePerSecond)),
+                LuaValue.valueOf(String.valueOf(burst)),
+                LuaValue.valueOf(String.valueOf(tokens))}));
+
+        LuaValue result = globals.load(script, "token-bucket.lua").call();
+        return new Reply(
+                result.get(1).toint() == 1,
+                Double.parseDouble(result.get(2).tojstring()),
+                result.get(3).tolong());
+    }
+
+    private record Reply(boolean allowed, double remaining, long waitMillis) {}
+
+    // 스크립트가 사용하는 명령만 흉내 (단일 키 해시)
+    private final class RedisCall extends VarArgFunction {
+        @Override
+        public Varargs invoke(Varargs args) {
+            String command = args.checkjstring(1);
+            switch (command) {
+                case "TIME" -> {
+                    return LuaValue.listOf(new LuaValue[]{
+                            LuaValue.valueOf(String.valueOf(nowMillis / 1000)),
+                            LuaValue.valueOf(String.valueOf((nowMillis % 1000) * 1000))});
+                }
+                case "HMGET" -> {
+                    LuaValue[] values = new LuaValue[args.narg() - 2];
+                    for (int i = 0; i < values.length; i++) {
+                        String value = hash.get(args.checkjstring(i + 3));
+                        values[i] = value != null ? LuaValue.valueOf(value) : LuaValue.FALSE;
+                    }
+                    return LuaValue.listOf(values);
+                }
+                case "HSET" -> {
+                    for (int i = 3; i < args.narg(); i += 2) {
+                        hash.put(args.checkjstring(i), args.checkjstring(i + 1));
+                    }
+                    return LuaValue.valueOf(1);
+                }
+                case "PEXPIRE" -> {
+                    expireMillis = args.checklong(3);
+                    return LuaValue.valueOf(1);
+                }
+                default -> throw new LuaError("지원하지 않는 명령: " + command);
+            }
+        }
+    }
+}
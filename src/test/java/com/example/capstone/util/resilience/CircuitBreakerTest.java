@@ -0,0 +1,133 @@
+package com.example.capstone.util.resilience;
+
+import com.example.capstone.util.resilience.CircuitBreaker.State;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 서킷 상태 전이: CLOSED → OPEN → HALF_OPEN → CLOSED / OPEN
+ */
+class CircuitBreakerTest {
+
+    private static final Duration OPEN_DURATION = Duration.ofMillis(100);
+
+    @Test
+    void staysClosedUntilMinCalls() {
+        CircuitBreaker breaker = new CircuitBreaker(10, 4, 0.5, OPEN_DURATION, 2);
+
+        fail(breaker, 3);
+
+        assertThat(breaker.state()).isEqualTo(State.CLOSED);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void opensWhenFailureRateReachesThreshold() {
+        CircuitBreaker breaker = new CircuitBreaker(10, 4, 0.5, OPEN_DURATION, 2);
+
+        succeed(breaker, 2);
+        fail(breaker, 1);
+        assertThat(breaker.state()).isEqualTo(State.CLOSED);
+
+        // 4건 중 2건 실패 = 50%
+        fail(breaker, 1);
+
+        assertThat(breaker.state()).isEqualTo(State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void oldResultsLeaveTheWindow() {
+        CircuitBreaker breaker = new CircuitBreaker(4, 4, 0.75, OPEN_DURATION, 2);
+
+        fail(breaker, 2);
+        succeed(breaker, 2);
+        // 창 [실패, 실패, 성공, 성공] → 앞의 실패 2건이 밀려나고 [성공, 성공, 실패, 실패] = 50%
+        succeed(breaker, 2);
+        fail(breaker, 2);
+
+        assertThat(breaker.state()).isEqualTo(State.CLOSED);
+    }
+
+    @Test
+    void ignoredResultsDoNotCount() {
+        CircuitBreaker breaker = new CircuitBreaker(10, 2, 0.5, OPEN_DURATION, 2);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(breaker.tryAcquire()).isTrue();
+            breaker.onIgnored();
+        }
+
+        assertThat(breaker.state()).isEqualTo(State.CLOSED);
+    }
+
+    @Test
+    void halfOpenAfterOpenDurationAndClosesWhenTrialCallsSucceed() throws InterruptedException {
+        CircuitBreaker breaker = openBreaker(2);
+
+        Thread.sleep(OPEN_DURATION.toMillis() + 20);
+        assertThat(breaker.state()).isEqualTo(State.HALF_OPEN);
+
+        // 시험 호출은 half-open-calls 건까지만
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isFalse();
+
+        breaker.onSuccess();
+        assertThat(breaker.state()).isEqualTo(State.HALF_OPEN);
+        breaker.onSuccess();
+
+        assertThat(breaker.state()).isEqualTo(State.CLOSED);
+        // 닫히면 이전 실패 기록은 비워짐
+        fail(breaker, 1);
+        assertThat(breaker.state()).isEqualTo(State.CLOSED);
+    }
+
+    @Test
+    void reopensWhenTrialCallFails() throws InterruptedException {
+        CircuitBreaker breaker = openBreaker(2);
+
+        Thread.sleep(OPEN_DURATION.toMillis() + 20);
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onFailure();
+
+        assertThat(breaker.state()).isEqualTo(State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void ignoredTrialCallFreesItsSlot() throws InterruptedException {
+        CircuitBreaker breaker = openBreaker(1);
+
+        Thread.sleep(OPEN_DURATION.toMillis() + 20);
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isFalse();
+        breaker.onIgnored();
+
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    private static CircuitBreaker openBreaker(int halfOpenCalls) {
+        CircuitBreaker breaker = new CircuitBreaker(10, 2, 0.5, OPEN_DURATION, halfOpenCalls);
+        fail(breaker, 2);
+        assertThat(breaker.state()).isEqualTo(State.OPEN);
+        return breaker;
+    }
+
+    private static void succeed(CircuitBreaker breaker, int times) {
+        for (int i = 0; i < times; i++) {
+            assertThat(breaker.tryAcquire()).isTrue();
+            breaker.onSuccess();
+        }
+    }
+
+    private static void fail(CircuitBreaker breaker, int times) {
+        for (int i = 0; i < times; i++) {
+            assertThat(breaker.tryAcquire()).isTrue();
+            breaker.onFailure();
+        }
+    }
+}
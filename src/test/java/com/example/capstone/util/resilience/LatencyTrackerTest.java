@@ -0,0 +1,67 @@
+package com.example.capstone.util.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 응답 시간 백분위 (Gemini 헤지 요청 기준 시간 = max(percentile, hedge.min-delay))
+ */
+class LatencyTrackerTest {
+
+    @Test
+    void noPercentileUntilMinSamples() {
+        LatencyTracker tracker = new LatencyTracker(100, 20);
+        for (int i = 1; i < 20; i++) {
+            tracker.record(i);
+        }
+
+        // -1 → 헤지 기준은 hedge.min-delay
+        assertThat(tracker.percentile(0.95)).isEqualTo(-1);
+
+        tracker.record(20);
+        assertThat(tracker.percentile(0.95)).isEqualTo(19);
+    }
+
+    @Test
+    void nearestRankPercentile() {
+        LatencyTracker tracker = new LatencyTracker(200, 1);
+        for (int i = 100; i >= 1; i--) {
+            tracker.record(i * 10L);
+        }
+
+        assertThat(tracker.percentile(0.95)).isEqualTo(950);
+        assertThat(tracker.percentile(0.5)).isEqualTo(500);
+        assertThat(tracker.percentile(0.99)).isEqualTo(990);
+        assertThat(tracker.percentile(1.0)).isEqualTo(1_000);
+        assertThat(tracker.percentile(0.0)).isEqualTo(10);
+    }
+
+    @Test
+    void onlyRecentSamplesCount() {
+        LatencyTracker tracker = new LatencyTracker(10, 5);
+        for (int i = 0; i < 10; i++) {
+            tracker.record(5_000);
+        }
+        // 느린 구간이 지나고 빠른 응답 10건이 창을 모두 대체
+        for (int i = 0; i < 10; i++) {
+            tracker.record(200);
+        }
+
+        assertThat(tracker.percentile(0.95)).isEqualTo(200);
+    }
+
+    @Test
+    void slowTailRaisesHedgeDelay() {
+        LatencyTracker tracker = new LatencyTracker(20, 20);
+        for (int i = 0; i < 18; i++) {
+            tracker.record(1_000);
+        }
+        tracker.record(8_000);
+        tracker.record(9_000);
+
+        // 20건 중 상위 5%(1건)는 제외 → 19번째 값
+        assertThat(tracker.percentile(0.95)).isEqualTo(8_000);
+        assertThat(tracker.percentile(0.9)).isEqualTo(1_000);
+    }
+}
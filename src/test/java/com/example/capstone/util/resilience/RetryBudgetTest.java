@@ -0,0 +1,69 @@
+package com.example.capstone.util.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 재시도 예산: 요청 비율만큼 적립, 소진 후 거절, 초당 최소 허용분 충전
+ */
+class RetryBudgetTest {
+
+    @Test
+    void earnsRetriesInProportionToRequests() {
+        RetryBudget budget = new RetryBudget(0.5, 0);
+
+        assertThat(budget.tryRetry()).isFalse();
+
+        budget.onRequest();
+        assertThat(budget.tryRetry()).isFalse();
+        budget.onRequest();
+        assertThat(budget.tryRetry()).isTrue();
+        assertThat(budget.tryRetry()).isFalse();
+    }
+
+    @Test
+    void drainsAndStaysEmptyUnderRetryStorm() {
+        RetryBudget budget = new RetryBudget(0.2, 0);
+        for (int i = 0; i < 20; i++) {
+            budget.onRequest();
+        }
+
+        // 요청 20건 × 0.2 = 재시도 4건
+        int allowed = 0;
+        for (int i = 0; i < 100; i++) {
+            if (budget.tryRetry()) allowed++;
+        }
+
+        assertThat(allowed).isEqualTo(4);
+    }
+
+    @Test
+    void balanceIsCapped() {
+        RetryBudget budget = new RetryBudget(1.0, 0);
+        for (int i = 0; i < 1_000; i++) {
+            budget.onRequest();
+        }
+
+        int allowed = 0;
+        while (budget.tryRetry()) allowed++;
+
+        // 최대 보유량 max(10, min-per-second × 10)
+        assertThat(allowed).isEqualTo(10);
+    }
+
+    @Test
+    void refillsMinPerSecondOverTime() throws InterruptedException {
+        RetryBudget budget = new RetryBudget(0, 20);
+
+        // 처음에는 초당 최소 허용분만큼 보유
+        int allowed = 0;
+        while (budget.tryRetry()) allowed++;
+        assertThat(allowed).isEqualTo(20);
+
+        // 150ms × 초당 20 = 3건 충전
+        Thread.sleep(150);
+        assertThat(budget.tryRetry()).isTrue();
+        assertThat(budget.tryRetry()).isTrue();
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.capstone.util.text;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 색인 매칭 결과가 기존 순차 탐색(비교마다 정규식)과 같은지 확인
+ * - find: ScheduleRecreateService 기존 구현 (완전 일치 → 약한 포함 일치, 목록 앞쪽 우선)
+ * - findExact: ScheduleCreateService 기존 구현 (완전 일치, 정규화는 find 와 동일하게 통일)
+ */
+class PlaceNameMatcherTest {
+
+    private static final String[] PREFIXES = {"제주", "애월", "서귀포", "성산", "한림", "Jeju", "카페"};
+    private static final String[] KINDS = {"흑돼지", "해장국", "고기국수", "오름", "해수욕장", "카페", "Cafe", "숙소"};
+    private static final String[] ODD_NAMES = {"", " ", "　", "()", "·", " - ", "카", "카페", "ab", "AB"};
+
+    @Test
+    void exactMatchIgnoresSpacesSeparatorsAndCase() {
+        List<Place> places = places("애월 카페 (본점)", "Jeju·Cafe", "성산 일출봉");
+        PlaceNameMatcher<Place> matcher = PlaceNameMatcher.of(places, Place::name);
+
+        assertThat(matcher.findExact("애월카페본점")).isSameAs(places.get(0));
+        assertThat(matcher.findExact("jeju cafe")).isSameAs(places.get(1));
+        assertThat(matcher.findExact("성산")).isNull();
+        assertThat(matcher.find("성산")).isSameAs(places.get(2));
+    }
+
+    @Test
+    void containmentPrefersEarlierItem() {
+        List<Place> places = places("제주 흑돼지 본점", "흑돼지", "제주 흑돼지");
+        PlaceNameMatcher<Place> matcher = PlaceNameMatcher.of(places, Place::name);
+
+        // 완전 일치가 있으면 완전 일치 우선
+        assertThat(matcher.find("흑돼지")).isSameAs(places.get(1));
+        // 포함 관계는 목록 앞쪽 우선 (항목이 query 포함 / query 가 항목 포함 모두)
+        assertThat(matcher.find("돼지")).isSameAs(places.get(0));
+        assertThat(matcher.find("제주 흑돼지 본점 2호")).isSameAs(places.get(0));
+    }
+
+    @Test
+    void blankQueryMatchesLikeLegacyScan() {
+        List<Place> places = places("애월 카페", "성산 일출봉");
+        PlaceNameMatcher<Place> matcher = PlaceNameMatcher.of(places, Place::name);
+
+        // 빈 이름은 모든 이름에 포함 → 첫 항목
+        assertThat(matcher.find("")).isSameAs(places.get(0));
+        assertThat(matcher.find("  ")).isSameAs(places.get(0));
+        assertThat(matcher.find(null)).isSameAs(places.get(0));
+        assertThat(matcher.findExact(" ")).isNull();
+        assertThat(PlaceNameMatcher.of(List.<Place>of(), Place::name).find("")).isNull();
+    }
+
+    @Test
+    void blankItemMatchesLikeLegacyScan() {
+        List<Place> places = places("애월 카페", " ", null, "성산 일출봉");
+        PlaceNameMatcher<Place> matcher = PlaceNameMatcher.of(places, Place::name);
+
+        // 빈 이름 항목은 빈 이름과 완전 일치
+        assertThat(matcher.findExact("")).isSameAs(places.get(1));
+        assertThat(matcher.find("")).isSameAs(places.get(1));
+        // 빈 이름 항목은 모든 query 에 포함 → 그보다 앞선 포함 일치가 없으면 빈 이름 항목
+        assertThat(matcher.find("애월")).isSameAs(places.get(0));
+        assertThat(matcher.find("일출봉")).isSameAs(places.get(1));
+        assertThat(matcher.find("성산 일출봉")).isSameAs(places.get(3));
+    }
+
+    @Test
+    void matchesLegacyScanOnRandomInputs() {
+        Random random = new Random(7);
+        for (int round = 0; round < 2_000; round++) {
+            List<Place> places = new ArrayList<>();
+            int size = random.nextInt(12);
+            for (int i = 0; i < size; i++) {
+                places.add(new Place(randomName(random)));
+            }
+            PlaceNameMatcher<Place> matcher = PlaceNameMatcher.of(places, Place::name);
+
+            for (int q = 0; q < 20; q++) {
+                String query = randomQuery(random, places);
+                assertThat(matcher.find(query))
+                        .as("find(%s) in %s", query, places)
+                        .isSameAs(legacyRecreateMatch(places, query));
+                assertThat(matcher.findExact(query))
+                        .as("findExact(%s) in %s", query, places)
+                        .isSameAs(legacyExactMatch(places, query));
+            }
+        }
+    }
+
+    private static String randomName(Random random) {
+        return switch (random.nextInt(6)) {
+            case 0 -> ODD_NAMES[random.nextInt(ODD_NAMES.length)];
+            case 1 -> null;
+            default -> PREFIXES[random.nextInt(PREFIXES.length)]
+                    + (random.nextBoolean() ? " " : "")
+                    + KINDS[random.nextInt(KINDS.length)]
+                    + (random.nextInt(3) == 0 ? " (" + random.nextInt(3) + "호점)" : "");
+        };
+    }
+
+    // 항목 이름 그대로 / 일부 / 덧붙인 이름 / 무관한 이름 / 빈 이름
+    private static String randomQuery(Random random, List<Place> places) {
+        String base = places.isEmpty() ? null : places.get(random.nextInt(places.size())).name();
+        if (base == null || random.nextInt(5) == 0) return randomName(random);
+        return switch (random.nextInt(4)) {
+            case 0 -> base.replace(" ", random.nextBoolean() ? "" : "  ").toUpperCase();
+            case 1 -> {
+                int from = random.nextInt(base.length() + 1);
+                yield base.substring(from, from + random.nextInt(base.length() - from + 1));
+            }
+            case 2 -> PREFIXES[random.nextInt(PREFIXES.length)] + " " + base;
+            default -> base + "-" + KINDS[random.nextInt(KINDS.length)];
+        };
+    }
+
+    // ScheduleRecreateService 기존 구현 (mapCostsByName)
+    private static Place legacyRecreateMatch(List<Place> places, String gptName) {
+        String key = legacyNormalize(gptName);
+        Optional<Place> exact = places.stream()
+                .filter(p -> legacyNormalize(p.name()).equals(key))
+                .findFirst();
+        if (exact.isPresent()) return exact.get();
+        return places.stream()
+                .filter(p -> legacyWeakEquals(p.name(), gptName))
+                .findFirst()
+                .orElse(null);
+    }
+
+    // ScheduleCreateService 기존 구현 (applyEstimatedCosts, 정규화만 통일)
+    private static Place legacyExactMatch(List<Place> places, String gptName) {
+        String key = legacyNormalize(gptName);
+        for (Place place : places) {
+            if (legacyNormalize(place.name()).equals(key)) return place;
+        }
+        return null;
+    }
+
+    private static String legacyNormalize(String s) {
+        if (s == null) return "";
+        return s.replaceAll("[\\s\\p{Z}]+", "")
+                .replaceAll("[()\\[\\]{}·ㆍ・·••—–-]", "")
+                .toLowerCase();
+    }
+
+    private static boolean legacyWeakEquals(String a, String b) {
+        String na = legacyNormalize(a);
+        String nb = legacyNormalize(b);
+        return na.equals(nb) || na.contains(nb) || nb.contains(na);
+    }
+
+    private static List<Place> places(String... names) {
+        return Arrays.stream(names).map(Place::new).toList();
+    }
+
+    // 같은 이름의 항목도 서로 다른 객체로 구분 (isSameAs 비교)
+    private static final class Place {
+        private final String name;
+
+        Place(String name) {
+            this.name = name;
+        }
+
+        String name() {
+            return name;
+        }
+
+        @Override
+        public String toString() {
+            return "'" + name + "'";
+        }
+    }
+}